@@ -3,22 +3,31 @@ package org.folio.persist;
 import static io.vertx.core.Future.succeededFuture;
 import static io.vertx.core.Promise.promise;
 import static java.lang.String.format;
+import static org.folio.dbschema.ObjectMapperTool.readValue;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.rest.exceptions.BadRequestException;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.PostgresClientFuturized;
 import org.folio.rest.persist.SQLConnection;
+import org.folio.rest.persist.cql.CQLQueryValidationException;
+import org.folio.rest.persist.cql.CQLWrapper;
 import org.folio.rest.persist.interfaces.Results;
 
 public abstract class AbstractRepository<T> {
@@ -59,6 +68,104 @@ public abstract class AbstractRepository<T> {
     return postgresClientFuturized.getById(tableName, ids, recordType);
   }
 
+  /**
+   * Returns the version and the record in a single statement, the record is only fetched if its
+   * {@code _version} is not one of the given versions, so that a record the caller has already is not
+   * transferred.
+   *
+   * @param versions   - versions of the record the caller has
+   * @param anyVersion - whether the caller accepts any version, the record is then only fetched if it has
+   *                     no version
+   * @return null if there is no record with this id; the version, null if the record has none, and the
+   *     record, null if the version is known to the caller
+   */
+  public Future<VersionedRecord<T>> getByIdIfChanged(String id, List<Integer> versions, boolean anyVersion) {
+    try {
+      String version = "(jsonb->>'_version')::int";
+      String sql = "SELECT " + version + ", CASE WHEN " + version + " = ANY($2)"
+        + " OR ($3 AND jsonb ? '_version') THEN NULL ELSE jsonb::text END"
+        + " FROM " + postgresClientFuturized.getFullTableName(tableName) + " WHERE id = $1";
+      Tuple params = Tuple.of(UUID.fromString(id), versions.toArray(new Integer[0]), anyVersion);
+      return postgresClient.execute(sql, params)
+        .map(rowSet -> {
+          if (rowSet.size() == 0) {
+            return null;
+          }
+          Row row = rowSet.iterator().next();
+          String json = row.getString(1);
+          return new VersionedRecord<>(row.getInteger(0), json == null ? null : readValue(json, recordType));
+        });
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Returns those of the given ids that exist in the table, records are not fetched. The returned ids are in
+   * canonical lower case form regardless of the case of the given ids.
+   */
+  public Future<Set<String>> getExistingIds(Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return succeededFuture(Set.of());
+    }
+    try {
+      String sql = "SELECT id::text FROM " + postgresClientFuturized.getFullTableName(tableName)
+        + " WHERE id = ANY($1)";
+      UUID[] uuids = ids.stream().map(UUID::fromString).toArray(UUID[]::new);
+
+      return postgresClient.execute(sql, Tuple.tuple().addArrayOfUUID(uuids))
+        .map(rowSet -> {
+          Set<String> existingIds = new HashSet<>();
+          rowSet.forEach(row -> existingIds.add(row.getString(0)));
+          return existingIds;
+        });
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Returns the query for the records matching the CQL query, each record is projected to the given fields in
+   * the database, see {@link FieldProjection}. The query returns the JSON text of a record per row.
+   *
+   * @param fields - comma separated property paths of the record class, null or blank for the whole records
+   * @return the query, fails with BadRequestException for an unsupported field or CQL query
+   */
+  public Future<ProjectedQuery> getProjectedQuery(String fields, String query, int offset, int limit) {
+    try {
+      String jsonb = tableName + ".jsonb";
+      String select = StringUtils.isBlank(fields) ? jsonb : FieldProjection.parse(fields, recordType).toSql(jsonb);
+      String table = postgresClientFuturized.getFullTableName(tableName);
+      String where = getGeneratedColumnWhereClause(query);
+      if (where != null) {
+        return succeededFuture(new ProjectedQuery(tableName,
+          "SELECT " + select + "::text FROM " + table + " " + where + " LIMIT " + limit + " OFFSET " + offset, where));
+      }
+      var cqlWrapper = new CQLWrapper(new CQL2PgJSON(jsonb), query, limit, offset, "none");
+      return succeededFuture(new ProjectedQuery(tableName,
+        "SELECT " + select + "::text FROM " + table + " " + cqlWrapper, cqlWrapper.getWhereClause()));
+    } catch (CQLQueryValidationException e) {
+      return Future.failedFuture(new BadRequestException(e.getMessage()));
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Whether the CQL query is run against a stored generated column, see {@link #getGeneratedColumnWhereClause}.
+   */
+  public boolean usesGeneratedColumn(String query) {
+    return getGeneratedColumnWhereClause(query) != null;
+  }
+
+  /**
+   * Returns the SQL where clause for a CQL query that can be run against the B-tree index of a stored generated
+   * column, null if the query has to be translated by CQL2PgJSON. No table has generated columns by default.
+   */
+  protected String getGeneratedColumnWhereClause(String query) {
+    return null;
+  }
+
   public <V> Future<Map<String, T>> getById(Collection<V> records, Function<V, String> mapper) {
     final Set<String> ids = records.stream()
       .map(mapper)
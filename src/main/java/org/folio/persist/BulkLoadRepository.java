@@ -0,0 +1,38 @@
+package org.folio.persist;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.PostgresClientFuturized;
+
+/**
+ * Loads batches of records into a table.
+ *
+ * <p>Each batch is inserted with a single statement in its own transaction on a pooled connection, the whole batch
+ * is sent as a single jsonb parameter. No connection and no snapshot is held between the batches, so that a load
+ * of millions of records does not block vacuum or occupy a connection of the pool for as long as the client uploads.
+ */
+public class BulkLoadRepository {
+  private final PostgresClient postgresClient;
+  private final String fullTableName;
+
+  public BulkLoadRepository(PostgresClient postgresClient, String tableName) {
+    this.postgresClient = postgresClient;
+    this.fullTableName = new PostgresClientFuturized(postgresClient).getFullTableName(tableName);
+  }
+
+  /**
+   * Inserts the records into the table, either all records of the batch are created or none.
+   *
+   * @param records - JSON objects of the records, each must have an id
+   * @return number of created records
+   */
+  public Future<Integer> insert(JsonArray records) {
+    return postgresClient.execute("INSERT INTO " + fullTableName + " (id, jsonb)"
+          + " SELECT (record->>'id')::uuid, record FROM jsonb_array_elements($1::jsonb) AS record",
+        Tuple.of(records))
+      .map(RowSet::rowCount);
+  }
+}
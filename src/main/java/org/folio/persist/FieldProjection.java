@@ -0,0 +1,119 @@
+package org.folio.persist;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.folio.rest.exceptions.BadRequestException;
+
+/**
+ * Projection of records to some of their properties. The projection is built in SQL with jsonb_build_object,
+ * so that only the requested properties leave the database.
+ *
+ * <p>The fields are a comma separated list of property paths, nested properties are separated by a dot,
+ * for example {@code id,barcode,status.name,effectiveLocationId}. Each path must be a property of the
+ * record class, an array is projected as a whole.
+ */
+public final class FieldProjection {
+  private static final String MODEL_PACKAGE = "org.folio.rest.jaxrs.model";
+  // jsonb_build_object takes at most 100 arguments
+  private static final int MAX_PROPERTIES_PER_OBJECT = 50;
+
+  private final Node root;
+
+  private FieldProjection(Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Parses the fields.
+   *
+   * @param fields     - comma separated property paths
+   * @param recordType - class of the records
+   * @return the projection
+   * @throws BadRequestException if a path is not a property of the record class
+   */
+  public static FieldProjection parse(String fields, Class<?> recordType) {
+    var root = new Node(recordType);
+    for (String path : fields.split(",")) {
+      String trimmedPath = path.trim();
+      if (!trimmedPath.isEmpty()) {
+        root.add(trimmedPath, trimmedPath.split("\\.", -1), 0);
+      }
+    }
+    if (root.children.isEmpty()) {
+      throw new BadRequestException("fields must contain at least one property path");
+    }
+    return new FieldProjection(root);
+  }
+
+  /**
+   * Returns the SQL expression of the projection of the jsonb column, null values are removed.
+   *
+   * @param jsonbColumn - the jsonb column, for example {@code item.jsonb}
+   */
+  public String toSql(String jsonbColumn) {
+    return "jsonb_strip_nulls(" + root.toSql(jsonbColumn) + ")";
+  }
+
+  private static final class Node {
+    /**
+     * Class of the property, null if the property is not an object of the model.
+     */
+    private final Class<?> type;
+    private final Map<String, Node> children = new LinkedHashMap<>();
+    private boolean whole;
+
+    private Node(Class<?> type) {
+      this.type = type;
+    }
+
+    private void add(String path, String[] names, int index) {
+      Class<?> propertyType = type == null ? null : propertyType(type, names[index]);
+      if (propertyType == null) {
+        throw new BadRequestException("Unsupported field: " + path);
+      }
+      Node child = children.computeIfAbsent(names[index],
+        name -> new Node(propertyType.getName().startsWith(MODEL_PACKAGE) ? propertyType : null));
+      if (index == names.length - 1) {
+        child.whole = true;
+      } else {
+        child.add(path, names, index + 1);
+      }
+    }
+
+    private String toSql(String json) {
+      List<String> properties = new ArrayList<>();
+      children.forEach((name, child) -> {
+        String value = json + "->'" + name + "'";
+        properties.add("'" + name + "', " + (child.whole ? value : child.toSql(value)));
+      });
+
+      var objects = new StringJoiner(" || ");
+      for (int i = 0; i < properties.size(); i += MAX_PROPERTIES_PER_OBJECT) {
+        objects.add("jsonb_build_object("
+          + String.join(", ", properties.subList(i, Math.min(i + MAX_PROPERTIES_PER_OBJECT, properties.size())))
+          + ")");
+      }
+      return objects.toString();
+    }
+
+    /**
+     * Returns the class of the property with the given JSON name, null if there is no such property.
+     */
+    private static Class<?> propertyType(Class<?> type, String name) {
+      for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          JsonProperty property = field.getAnnotation(JsonProperty.class);
+          if (property != null && property.value().equals(name)) {
+            return field.getType();
+          }
+        }
+      }
+      return null;
+    }
+  }
+}
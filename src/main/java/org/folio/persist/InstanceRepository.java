@@ -1,17 +1,24 @@
 package org.folio.persist;
 
 import static org.folio.rest.persist.PgUtil.postgresClient;
+import static org.folio.rest.persist.PostgresClient.pojo2JsonObject;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
+import java.util.List;
 import java.util.Map;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.exceptions.NotFoundException;
 import org.folio.rest.jaxrs.model.Instance;
 import org.folio.rest.persist.SQLConnection;
 import org.folio.rest.persist.cql.CQLQueryValidationException;
@@ -20,6 +27,9 @@ import org.folio.rest.persist.cql.CQLWrapper;
 public class InstanceRepository extends AbstractRepository<Instance> {
   public static final String INSTANCE_TABLE = "instance";
   private static final String INSTANCE_SET_VIEW = "instance_set";
+  private static final String VERSION_FIELD = "_version";
+  private static final String STORED_VERSION = "jsonb_strip_nulls(jsonb_build_object('" + VERSION_FIELD + "', "
+    + INSTANCE_TABLE + ".jsonb->'" + VERSION_FIELD + "'))";
 
   public InstanceRepository(Context context, Map<String, String> okapiHeaders) {
     super(postgresClient(context, okapiHeaders), INSTANCE_TABLE, Instance.class);
@@ -30,6 +40,56 @@ public class InstanceRepository extends AbstractRepository<Instance> {
       "SELECT id FROM " + postgresClientFuturized.getFullTableName(INSTANCE_TABLE));
   }
 
+  /**
+   * Replace the jsonb of the instance with the given id in a single statement. The {@code _version}
+   * of the stored record is copied server-side so that the optimistic locking trigger accepts the
+   * update and bumps the version without a preceding SELECT.
+   *
+   * <p>Fails with {@link NotFoundException} if there is no instance with this id.
+   */
+  public Future<Void> updateKeepingVersion(String id, Instance instance) {
+    try {
+      String sql = "UPDATE " + postgresClientFuturized.getFullTableName(tableName)
+        + " SET jsonb = $1::jsonb || " + STORED_VERSION
+        + " WHERE id = $2";
+      return postgresClient.execute(sql, Tuple.of(toJsonWithoutVersion(instance), id))
+        .compose(rowSet -> rowSet.rowCount() == 1
+          ? Future.<Void>succeededFuture()
+          : Future.failedFuture(new NotFoundException("Instance not found: " + id)));
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Replace the jsonb of all given instances in a single statement keeping the stored {@code _version},
+   * see {@link #updateKeepingVersion(String, Instance)}. Instances that do not exist are skipped.
+   *
+   * @return number of updated instances
+   */
+  public Future<Integer> updateKeepingVersion(List<Instance> instances) {
+    try {
+      JsonArray json = new JsonArray();
+      for (Instance instance : instances) {
+        json.add(toJsonWithoutVersion(instance));
+      }
+      String sql = "UPDATE " + postgresClientFuturized.getFullTableName(tableName)
+        + " SET jsonb = source.jsonb || " + STORED_VERSION
+        + " FROM jsonb_array_elements($1::jsonb) AS source(jsonb)"
+        + " WHERE id = (source.jsonb->>'id')::uuid";
+      return postgresClient.execute(sql, Tuple.of(json))
+        .map(RowSet::rowCount);
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  private static JsonObject toJsonWithoutVersion(Instance instance) throws JsonProcessingException {
+    JsonObject json = pojo2JsonObject(instance);
+    json.remove(VERSION_FIELD);
+    return json;
+  }
+
   /**
    * Delete by CQL. For each deleted record return a {@link Row} with the instance id String
    * and with the instance jsonb String.
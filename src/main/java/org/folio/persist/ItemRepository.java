@@ -16,8 +16,17 @@ import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.SQLConnection;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.support.CqlQuery;
 
 public class ItemRepository extends AbstractRepository<Item> {
+  /**
+   * CQL index and the condition on its stored generated column, the columns are added by
+   * addItemGeneratedColumns.sql and normalize like the CQL query.
+   */
+  private static final Map<String, String> GENERATED_COLUMN_CONDITIONS = Map.of(
+    "barcode", "normalized_barcode = lower(%s)",
+    "status.name", "normalized_status_name = lower(f_unaccent(%s))");
+
   public ItemRepository(Context context, Map<String, String> okapiHeaders) {
     super(postgresClient(context, okapiHeaders), ITEM_TABLE, Item.class);
   }
@@ -29,6 +38,18 @@ public class ItemRepository extends AbstractRepository<Item> {
     return get(connection, criterion);
   }
 
+  @Override
+  protected String getGeneratedColumnWhereClause(String query) {
+    var cqlQuery = new CqlQuery(query);
+    for (var condition : GENERATED_COLUMN_CONDITIONS.entrySet()) {
+      String term = cqlQuery.getExactMatchTerm(condition.getKey());
+      if (term != null) {
+        return "WHERE " + String.format(condition.getValue(), "'" + term.replace("'", "''") + "'");
+      }
+    }
+    return null;
+  }
+
   /**
    * Delete by CQL. For each deleted record return a {@link Row} with the instance id String
    * and with the item's jsonb String.
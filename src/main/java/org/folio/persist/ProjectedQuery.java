@@ -0,0 +1,12 @@
+package org.folio.persist;
+
+/**
+ * Query of a collection GET that returns the JSON text of a record per row.
+ *
+ * @param tableName   - table without schema
+ * @param sql         - the query including limit and offset
+ * @param whereClause - SQL where clause of the query including the WHERE keyword, empty for all records,
+ *                      for counting the records
+ */
+public record ProjectedQuery(String tableName, String sql, String whereClause) {
+}
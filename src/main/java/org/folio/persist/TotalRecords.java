@@ -0,0 +1,209 @@
+package org.folio.persist;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.persist.PostgresClient.convertToPsqlStandard;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import java.util.Locale;
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.jaxrs.model.ResultInfo;
+import org.folio.rest.persist.Criteria.Limit;
+import org.folio.rest.persist.Criteria.Offset;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.persist.interfaces.Results;
+
+/**
+ * Counts the records of a collection GET as requested by its {@code totalRecords} parameter.
+ *
+ * <ul>
+ *   <li>{@code exact} counts all matching records.</li>
+ *   <li>{@code estimated}, the default, counts the matching records exactly up to
+ *   {@code total.records.exact.count.limit} (1000 by default) and uses the row estimate of the
+ *   query planner above, so that a broad query on a large table does not count millions of rows.</li>
+ *   <li>{@code none} doesn't count, totalRecords is omitted from the response.</li>
+ * </ul>
+ */
+public final class TotalRecords {
+  private static final String EXACT_COUNT_LIMIT_PARAM = "total.records.exact.count.limit";
+  private static final String DEFAULT_EXACT_COUNT_LIMIT = "1000";
+
+  private TotalRecords() {
+  }
+
+  /**
+   * Returns the records of the page and their count, {@code getResultInfo().getTotalRecords()} is null for
+   * totalRecords {@code none}.
+   *
+   * @param tableName    - table without schema
+   * @param query        - CQL query, null for all records
+   * @param totalRecords - exact, estimated or none, null for estimated
+   */
+  public static <T> Future<Results<T>> get(PostgresClient postgresClient, String tableName, Class<T> recordType,
+                                           String query, int offset, int limit, String totalRecords) {
+    try {
+      var cql = new CQLWrapper(new CQL2PgJSON(tableName + ".jsonb"), query)
+        .setLimit(new Limit(limit))
+        .setOffset(new Offset(offset));
+      return get(postgresClient, tableName, recordType, cql, totalRecords);
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Returns the records of the page and their count, {@code getResultInfo().getTotalRecords()} is null for
+   * totalRecords {@code none}.
+   *
+   * @param tableName    - table without schema
+   * @param cql          - query with limit and offset
+   * @param totalRecords - exact, estimated or none, null for estimated
+   */
+  public static <T> Future<Results<T>> get(PostgresClient postgresClient, String tableName, Class<T> recordType,
+                                           CQLWrapper cql, String totalRecords) {
+    try {
+      var mode = Mode.of(totalRecords);
+      Promise<Results<T>> promise = Promise.promise();
+      postgresClient.get(tableName, recordType, new String[] {"*"}, cql, false, true, promise);
+      return promise.future()
+        .compose(results -> count(postgresClient, tableName, cql.getWhereClause(), mode)
+          .map(count -> {
+            if (results.getResultInfo() == null) {
+              results.setResultInfo(new ResultInfo());
+            }
+            results.getResultInfo().setTotalRecords(count);
+            return results;
+          }));
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Counts the records of the table matching the where clause, null for totalRecords {@code none}.
+   *
+   * @param tableName    - table without schema
+   * @param whereClause  - SQL where clause including the WHERE keyword, empty for all records
+   * @param totalRecords - exact, estimated or none, null for estimated
+   */
+  public static Future<Integer> count(PostgresClient postgresClient, String tableName, String whereClause,
+                                      String totalRecords) {
+    try {
+      return count(postgresClient, tableName, whereClause, Mode.of(totalRecords));
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Counts like {@link #count(PostgresClient, String, String, String)}, but without query if the page is not
+   * full, the total is then the offset plus the records of the page. An exact match lookup returns a page that
+   * is not full, usually.
+   *
+   * @param pageSize - number of records of the page
+   */
+  public static Future<Integer> count(PostgresClient postgresClient, String tableName, String whereClause,
+                                      String totalRecords, int offset, int limit, int pageSize) {
+    try {
+      var mode = Mode.of(totalRecords);
+      if (mode != Mode.NONE && pageSize < limit && (pageSize > 0 || offset == 0)) {
+        return succeededFuture(offset + pageSize);
+      }
+      return count(postgresClient, tableName, whereClause, mode);
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Returns exact, estimated or none for the totalRecords parameter, fails with BadRequestException for any
+   * other value.
+   */
+  public static String normalize(String totalRecords) {
+    return Mode.of(totalRecords).name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Returns the CQL query with limit and offset for {@code PgUtil.streamGet}, the streamed count query counts
+   * the records as requested by totalRecords. Fails with CQLQueryValidationException for an invalid CQL query
+   * and with BadRequestException for an invalid totalRecords value.
+   *
+   * @param tableName    - table without schema
+   * @param totalRecords - exact, estimated or none, null for estimated
+   */
+  public static CQLWrapper streamGetCql(String tableName, String query, int offset, int limit, String totalRecords)
+    throws FieldException {
+
+    var cql = new CQLWrapper(new CQL2PgJSON(tableName + ".jsonb"), query, limit, offset, normalize(totalRecords));
+    // fail before streaming starts
+    cql.getWhereClause();
+    return cql;
+  }
+
+  /**
+   * Whether totalRecords is the default mode estimated, false if totalRecords is not a valid mode.
+   */
+  public static boolean isEstimated(String totalRecords) {
+    try {
+      return Mode.of(totalRecords) == Mode.ESTIMATED;
+    } catch (BadRequestException e) {
+      return false;
+    }
+  }
+
+  private static Future<Integer> count(PostgresClient postgresClient, String tableName, String whereClause,
+                                       Mode mode) {
+    String fromWhere = convertToPsqlStandard(postgresClient.getTenantId()) + "." + tableName + " " + whereClause;
+    switch (mode) {
+      case NONE:
+        return succeededFuture();
+      case EXACT:
+        return postgresClient.select("SELECT count(*) FROM " + fromWhere)
+          .map(rowSet -> Math.toIntExact(rowSet.iterator().next().getLong(0)));
+      default:
+        int limit = Integer.parseInt(System.getProperty(EXACT_COUNT_LIMIT_PARAM, DEFAULT_EXACT_COUNT_LIMIT));
+        return postgresClient.select("SELECT count(*) FROM (SELECT 1 FROM " + fromWhere
+            + " LIMIT " + (limit + 1) + ") records")
+          .compose(rowSet -> {
+            int count = Math.toIntExact(rowSet.iterator().next().getLong(0));
+            if (count <= limit) {
+              return succeededFuture(count);
+            }
+            return postgresClient.select("EXPLAIN (FORMAT JSON) SELECT 1 FROM " + fromWhere)
+              .map(plan -> Math.max(count, planRows(plan.iterator().next().getValue(0))));
+          });
+    }
+  }
+
+  /**
+   * Returns the row estimate of the top node of an EXPLAIN (FORMAT JSON) output.
+   */
+  static int planRows(Object explainJson) {
+    long rows = new JsonArray(explainJson.toString())
+      .getJsonObject(0)
+      .getJsonObject("Plan")
+      .getNumber("Plan Rows")
+      .longValue();
+    return (int) Math.min(rows, Integer.MAX_VALUE);
+  }
+
+  private enum Mode {
+    EXACT, ESTIMATED, NONE;
+
+    private static Mode of(String totalRecords) {
+      if (totalRecords == null || totalRecords.isBlank() || "auto".equals(totalRecords)) {
+        return ESTIMATED;
+      }
+      for (Mode mode : values()) {
+        if (mode.name().equalsIgnoreCase(totalRecords)) {
+          return mode;
+        }
+      }
+      throw new BadRequestException("totalRecords must be exact, estimated or none: " + totalRecords);
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package org.folio.persist;
+
+/**
+ * Record with its {@code _version}, see {@link AbstractRepository#getByIdIfChanged}.
+ *
+ * @param version - the {@code _version} of the record, null if the record has none
+ * @param entity  - the record, null if it was not fetched because the caller has this version
+ */
+public record VersionedRecord<T>(Integer version, T entity) {
+}
@@ -8,9 +8,8 @@ import com.google.common.collect.Iterables;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowStream;
@@ -19,7 +18,9 @@ import io.vertx.sqlclient.impl.ArrayTuple;
 import java.time.OffsetDateTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.ws.rs.core.Response;
@@ -28,10 +29,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.SQLConnection;
 
 public abstract class AbstractInstanceRecordsApi {
 
   protected static final Logger log = LogManager.getLogger();
+  private static final String MAX_TRANSACTION_SECONDS_PARAM = "stream.transaction.max-duration.seconds";
 
   /**
    * Return a 500 response about Throwable t via the handler,
@@ -50,27 +53,22 @@ public abstract class AbstractInstanceRecordsApi {
     asyncResultHandler.handle(succeededFuture(respond500WithTextPlain(t.getMessage())));
   }
 
-  private static String createJsonFromRow(Row row) {
-    if (row == null) {
-      return "";
-    }
-    JsonObject json = new JsonObject();
-    for (int i = 0; i < row.size(); i++) {
-      json.put(row.getColumnName(i), convertRowValue(row.getValue(i)));
-    }
-    return json.toString();
-  }
+  protected void fetchRecordsByQuery(String sql, Supplier<Tuple> paramsSupplier, RoutingContext routingContext,
+                                     Map<String, String> okapiHeaders,
+                                     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-  private static Object convertRowValue(Object value) {
-    if (value == null) {
-      return "";
-    }
-    return value instanceof JsonObject
-             || value instanceof JsonArray ? value : value.toString();
+    fetchRecordsByQuery(sql, Set.of(), paramsSupplier, routingContext, okapiHeaders, asyncResultHandler,
+      vertxContext);
   }
 
-  protected void fetchRecordsByQuery(String sql, Supplier<Tuple> paramsSupplier, RoutingContext routingContext,
-                                     Map<String, String> okapiHeaders,
+  /**
+   * Streams the records of the sql, each row as JSON object.
+   *
+   * @param jsonTextColumns - columns the sql selects as JSON text, e.g. {@code holdings::text AS holdings}, they
+   *                        are written as they are, so that the JSON is not decoded and encoded again
+   */
+  protected void fetchRecordsByQuery(String sql, Set<String> jsonTextColumns, Supplier<Tuple> paramsSupplier,
+                                     RoutingContext routingContext, Map<String, String> okapiHeaders,
                                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
     final HttpServerResponse response = getResponse(routingContext);
@@ -83,6 +81,7 @@ public abstract class AbstractInstanceRecordsApi {
 
       PostgresClient postgresClient = PgUtil.postgresClient(vertxContext, okapiHeaders);
       ConnectionErrorHandler handleError = new ConnectionErrorHandler(postgresClient);
+      RowJsonWriter writer = new RowJsonWriter(response, jsonTextColumns);
 
       postgresClient.startTx(tx -> postgresClient.selectStream(tx, sql, params, ar -> {
         if (ar.failed()) {
@@ -98,10 +97,10 @@ public abstract class AbstractInstanceRecordsApi {
               respondWithError(response, h.cause(), asyncResultHandler);
               return;
             }
+            writer.flush();
             response.end();
           })).handler(row -> {
-            response.write(createJsonFromRow(row));
-            if (response.writeQueueFull()) {
+            if (writer.write(row) && response.writeQueueFull()) {
               rowStream.pause();
             }
           });
@@ -115,6 +114,67 @@ public abstract class AbstractInstanceRecordsApi {
     }
   }
 
+  /**
+   * Streams the records like {@link #fetchRecordsByQuery}, but ordered by the id column and in chunks, each chunk
+   * in its own transaction. A chunk ends once the transaction is open for longer than the
+   * {@code stream.transaction.max-duration.seconds} system property (fractions of a second are allowed), the next
+   * chunk continues after the last id. A harvest interrupted by a dropped connection is resumed by passing the last
+   * received id as resumption token.
+   *
+   * <p>The sql takes the id after which the records start as its last parameter, following the parameters of the
+   * supplier, and returns only records with a greater id, null returns all records. This keeps the keyset predicate
+   * in the query (usually a function), so that a chunk starts at the id instead of skipping the records before it.
+   *
+   * <p>Without resumption token and without the system property the records are streamed unordered in a single
+   * transaction by {@link #fetchRecordsByQuery}.
+   *
+   * @param idColumn        - name of the uuid column with the instance id in the result of the sql
+   * @param resumptionToken - id of the last record received before, null to start from the beginning
+   */
+  protected void fetchRecordsByQueryInChunks(String sql, String idColumn, String resumptionToken,
+                                             Supplier<Tuple> paramsSupplier, RoutingContext routingContext,
+                                             Map<String, String> okapiHeaders,
+                                             Handler<AsyncResult<Response>> asyncResultHandler,
+                                             Context vertxContext) {
+
+    long maxTransactionMillis = Math.round(TimeUnit.SECONDS.toMillis(1)
+      * Double.parseDouble(System.getProperty(MAX_TRANSACTION_SECONDS_PARAM, "0")));
+    if (StringUtils.isEmpty(resumptionToken) && maxTransactionMillis <= 0) {
+      fetchRecordsByQuery(sql, () -> withAfterId(paramsSupplier.get(), null), routingContext, okapiHeaders,
+        asyncResultHandler, vertxContext);
+      return;
+    }
+
+    final HttpServerResponse response = getResponse(routingContext);
+    try {
+      UUID after = StringUtils.isEmpty(resumptionToken) ? null : UUID.fromString(resumptionToken);
+      Tuple params = paramsSupplier.get();
+      log.debug("postgres params: {}, resumption token: {}", params, resumptionToken);
+
+      var chunks = new ChunkedQuery(vertxContext.owner(), PgUtil.postgresClient(vertxContext, okapiHeaders),
+        chunkSql(sql, idColumn), params, idColumn, maxTransactionMillis);
+      chunks.streamChunk(after, new RowJsonWriter(response), response, asyncResultHandler);
+    } catch (IllegalArgumentException e) {
+      log.error(e);
+      asyncResultHandler.handle(succeededFuture(respond400WithTextPlain(e.getMessage())));
+    } catch (Exception e) {
+      respondWithError(response, e, asyncResultHandler);
+    }
+  }
+
+  private static String chunkSql(String sql, String idColumn) {
+    return "SELECT * FROM (" + StringUtils.removeEnd(sql.trim(), ";") + ") AS records"
+      + " ORDER BY records.\"" + idColumn + "\"";
+  }
+
+  private static Tuple withAfterId(Tuple params, UUID after) {
+    Tuple tuple = new ArrayTuple(params.size() + 1);
+    for (int i = 0; i < params.size(); i++) {
+      tuple.addValue(params.getValue(i));
+    }
+    return tuple.addValue(after);
+  }
+
   protected Tuple createPostgresParams(String startDate, String endDate, boolean deletedRecordSupport,
                                        boolean skipSuppressedFromDiscoveryRecords) {
 
@@ -172,4 +232,115 @@ public abstract class AbstractInstanceRecordsApi {
     return response;
   }
 
+  /**
+   * Query streamed in chunks ordered by the id column, a timer ends a chunk after the maximum transaction duration,
+   * also while the stream is paused by a slow client. A chunk has at least one record, so that each chunk progresses.
+   */
+  private record ChunkedQuery(Vertx vertx, PostgresClient postgresClient, String sql, Tuple params, String idColumn,
+                              long maxTransactionMillis) {
+
+    void streamChunk(UUID after, RowJsonWriter writer, HttpServerResponse response,
+                     Handler<AsyncResult<Response>> asyncResultHandler) {
+      ConnectionErrorHandler handleError = new ConnectionErrorHandler(postgresClient);
+
+      postgresClient.startTx(tx -> postgresClient.selectStream(tx, sql, withAfterId(params, after), ar -> {
+        if (ar.failed()) {
+          handleError.writeErrorAndCloseConn(ar.cause(), tx, response, asyncResultHandler);
+          return;
+        }
+
+        var chunk = new ChunkState(after);
+        RowStream<Row> rowStream = ar.result();
+        if (maxTransactionMillis > 0) {
+          chunk.timerId = vertx.setTimer(maxTransactionMillis, timer -> {
+            chunk.expired = true;
+            if (!chunk.ended && chunk.rows > 0) {
+              endChunk(chunk, rowStream, tx, writer, response, asyncResultHandler);
+            }
+          });
+        }
+        rowStream
+          .exceptionHandler(e -> {
+            if (chunk.ended) {
+              return;
+            }
+            chunk.ended = true;
+            vertx.cancelTimer(chunk.timerId);
+            handleError.writeErrorAndCloseConn(e, tx, response, asyncResultHandler);
+          })
+          .endHandler(end -> {
+            if (chunk.ended) {
+              return;
+            }
+            chunk.ended = true;
+            vertx.cancelTimer(chunk.timerId);
+            postgresClient.endTx(tx, h -> {
+              if (h.failed()) {
+                respondWithError(response, h.cause(), asyncResultHandler);
+                return;
+              }
+              writer.flush();
+              response.end();
+            });
+          }).handler(row -> {
+            if (chunk.ended) {
+              return;
+            }
+            boolean written = writer.write(row);
+            chunk.lastId = row.getUUID(idColumn);
+            chunk.rows++;
+            if (chunk.expired) {
+              endChunk(chunk, rowStream, tx, writer, response, asyncResultHandler);
+              return;
+            }
+            if (written && response.writeQueueFull()) {
+              rowStream.pause();
+            }
+          });
+        response.drainHandler(drain -> {
+          if (!chunk.ended) {
+            rowStream.resume();
+          }
+        });
+      }));
+    }
+
+    /**
+     * Closes the stream and ends the transaction of the chunk, the next chunk starts once the response is drained.
+     */
+    private void endChunk(ChunkState chunk, RowStream<Row> rowStream, AsyncResult<SQLConnection> tx,
+                          RowJsonWriter writer, HttpServerResponse response,
+                          Handler<AsyncResult<Response>> asyncResultHandler) {
+      chunk.ended = true;
+      vertx.cancelTimer(chunk.timerId);
+      rowStream.pause();
+      rowStream.close()
+        .onComplete(closed -> postgresClient.endTx(tx, h -> {
+          if (h.failed()) {
+            respondWithError(response, h.cause(), asyncResultHandler);
+            return;
+          }
+          writer.flush();
+          log.debug("endChunk:: transaction ended after {} ms and {} records, continuing after {}",
+            maxTransactionMillis, chunk.rows, chunk.lastId);
+          if (response.writeQueueFull()) {
+            response.drainHandler(drain -> streamChunk(chunk.lastId, writer, response, asyncResultHandler));
+            return;
+          }
+          streamChunk(chunk.lastId, writer, response, asyncResultHandler);
+        }));
+    }
+  }
+
+  private static final class ChunkState {
+    private UUID lastId;
+    private long rows;
+    private long timerId = -1;
+    private boolean expired;
+    private boolean ended;
+
+    private ChunkState(UUID lastId) {
+      this.lastId = lastId;
+    }
+  }
 }
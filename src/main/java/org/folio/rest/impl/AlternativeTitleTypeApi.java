@@ -23,6 +23,7 @@ import org.folio.rest.jaxrs.model.AlternativeTitleTypes;
 import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.CollectionGet;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
 import org.folio.rest.tools.utils.TenantTool;
@@ -39,8 +40,8 @@ public class AlternativeTitleTypeApi implements org.folio.rest.jaxrs.resource.Al
   public void getAlternativeTitleTypes(String query, String totalRecords, int offset, int limit,
                                        Map<String, String> okapiHeaders,
                                        Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    PgUtil.get(REFERENCE_TABLE, AlternativeTitleType.class, AlternativeTitleTypes.class, query, offset, limit,
-      okapiHeaders, vertxContext, GetAlternativeTitleTypesResponse.class, asyncResultHandler);
+    CollectionGet.get(REFERENCE_TABLE, AlternativeTitleType.class, AlternativeTitleTypes.class, query, totalRecords,
+      offset, limit, okapiHeaders, vertxContext, GetAlternativeTitleTypesResponse.class, asyncResultHandler);
   }
 
   @Validate
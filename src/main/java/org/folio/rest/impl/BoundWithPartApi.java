@@ -13,6 +13,7 @@ import org.folio.rest.jaxrs.model.BoundWithPart;
 import org.folio.rest.jaxrs.model.BoundWithParts;
 import org.folio.rest.jaxrs.resource.InventoryStorageBoundWithParts;
 import org.folio.rest.persist.PgUtil;
+import org.folio.rest.support.CollectionGet;
 import org.folio.services.instance.BoundWithPartService;
 
 public class BoundWithPartApi implements org.folio.rest.jaxrs.resource.InventoryStorageBoundWithParts {
@@ -24,7 +25,7 @@ public class BoundWithPartApi implements org.folio.rest.jaxrs.resource.Inventory
                                                 Map<String, String> okapiHeaders,
                                                 Handler<AsyncResult<Response>> asyncResultHandler,
                                                 Context vertxContext) {
-    PgUtil.get(BOUND_WITH_TABLE, BoundWithPart.class, BoundWithParts.class, query, offset, limit,
+    CollectionGet.get(BOUND_WITH_TABLE, BoundWithPart.class, BoundWithParts.class, query, totalRecords, offset, limit,
       okapiHeaders, vertxContext, InventoryStorageBoundWithParts.GetInventoryStorageBoundWithPartsResponse.class,
       asyncResultHandler);
   }
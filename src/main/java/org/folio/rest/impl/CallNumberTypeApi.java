@@ -23,6 +23,7 @@ import org.folio.rest.jaxrs.model.CallNumberType;
 import org.folio.rest.jaxrs.model.CallNumberTypes;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.CollectionGet;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
 import org.folio.rest.tools.utils.TenantTool;
@@ -41,7 +42,7 @@ public class CallNumberTypeApi implements org.folio.rest.jaxrs.resource.CallNumb
   public void getCallNumberTypes(String query, String totalRecords, int offset, int limit,
                                  Map<String, String> okapiHeaders,
                                  Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    PgUtil.get(REFERENCE_TABLE, CallNumberType.class, CallNumberTypes.class, query, offset, limit,
+    CollectionGet.get(REFERENCE_TABLE, CallNumberType.class, CallNumberTypes.class, query, totalRecords, offset, limit,
       okapiHeaders, vertxContext, GetCallNumberTypesResponse.class, asyncResultHandler);
   }
 
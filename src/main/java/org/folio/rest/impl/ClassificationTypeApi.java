@@ -22,7 +22,7 @@ public class ClassificationTypeApi implements org.folio.rest.jaxrs.resource.Clas
   public void getClassificationTypes(String query, String totalRecords, int offset, int limit,
                                      Map<String, String> okapiHeaders,
                                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    new ClassificationTypeService(vertxContext, okapiHeaders).getByQuery(query, offset, limit)
+    new ClassificationTypeService(vertxContext, okapiHeaders).getByQuery(query, totalRecords, offset, limit)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
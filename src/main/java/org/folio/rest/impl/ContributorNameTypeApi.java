@@ -17,6 +17,7 @@ import org.folio.rest.jaxrs.model.ContributorNameTypes;
 import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.CollectionGet;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
 import org.folio.rest.tools.utils.TenantTool;
@@ -38,8 +39,9 @@ public class ContributorNameTypeApi implements org.folio.rest.jaxrs.resource.Con
                                       Map<String, String> okapiHeaders,
                                       Handler<AsyncResult<Response>> asyncResultHandler,
                                       Context vertxContext) {
-    PgUtil.get(CONTRIBUTOR_NAME_TYPE_TABLE, ContributorNameType.class, ContributorNameTypes.class, query, offset, limit,
-      okapiHeaders, vertxContext, GetContributorNameTypesResponse.class, asyncResultHandler);
+    CollectionGet.get(CONTRIBUTOR_NAME_TYPE_TABLE, ContributorNameType.class, ContributorNameTypes.class, query,
+      totalRecords, offset, limit, okapiHeaders, vertxContext, GetContributorNameTypesResponse.class,
+      asyncResultHandler);
   }
 
   @Validate
@@ -14,6 +14,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.ContributorType;
 import org.folio.rest.jaxrs.model.ContributorTypes;
@@ -48,9 +49,9 @@ public class ContributorTypeApi implements org.folio.rest.jaxrs.resource.Contrib
       try {
         String tenantId = TenantTool.tenantId(okapiHeaders);
         CQLWrapper cql = getCql(query, limit, offset);
-        PostgresClient.getInstance(vertxContext.owner(), tenantId).get(CONTRIBUTOR_TYPE_TABLE, ContributorType.class,
-          new String[] {"*"}, cql, true, true,
-          reply -> {
+        TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+          CONTRIBUTOR_TYPE_TABLE, ContributorType.class, cql, totalRecords)
+          .onComplete(reply -> {
             try {
               if (reply.succeeded()) {
                 ContributorTypes contributorTypes = new ContributorTypes();
@@ -20,6 +20,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.RestVerticle;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.ElectronicAccessRelationship;
@@ -51,10 +52,9 @@ public class ElectronicAccessRelationshipApi implements org.folio.rest.jaxrs.res
       try {
         String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(RestVerticle.OKAPI_HEADER_TENANT));
         CQLWrapper cql = getCql(query, limit, offset);
-        PostgresClient.getInstance(vertxContext.owner(), tenantId)
-          .get(RESOURCE_TABLE, ElectronicAccessRelationship.class,
-            new String[] {"*"}, cql, true, true,
-            reply -> {
+        TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+          RESOURCE_TABLE, ElectronicAccessRelationship.class, cql, totalRecords)
+          .onComplete(reply -> {
               try {
                 if (reply.succeeded()) {
                   ElectronicAccessRelationships electronicAccessRelationships = new ElectronicAccessRelationships();
@@ -5,18 +5,25 @@ import static org.folio.rest.jaxrs.resource.HoldingsStorageBatchSynchronous.Post
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import java.io.InputStream;
 import java.util.Map;
 import javax.ws.rs.core.Response;
+import org.folio.rest.annotations.Stream;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.jaxrs.model.BatchSyncStreamResponse;
+import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.HoldingsrecordsPost;
 import org.folio.rest.jaxrs.resource.HoldingsStorageBatchSynchronous;
+import org.folio.services.batch.BatchSyncStreamSession;
+import org.folio.services.batch.NdjsonStreamSession;
 import org.folio.services.holding.HoldingsService;
 
 public class HoldingsBatchSyncApi implements HoldingsStorageBatchSynchronous {
   @Validate
   @Override
   public void postHoldingsStorageBatchSynchronous(boolean upsert, HoldingsrecordsPost entity,
-                                                  Map<String, String> okapiHeaders,
+                                                  RoutingContext routingContext, Map<String, String> okapiHeaders,
                                                   Handler<AsyncResult<Response>> asyncResultHandler,
                                                   Context vertxContext) {
 
@@ -25,4 +32,20 @@ public class HoldingsBatchSyncApi implements HoldingsStorageBatchSynchronous {
       .otherwise(cause -> respond500WithTextPlain(cause.getMessage()))
       .onComplete(asyncResultHandler);
   }
+
+  @Stream
+  @Override
+  public void postHoldingsStorageBatchSynchronousStream(boolean upsert, InputStream entity,
+                                                        RoutingContext routingContext, Map<String, String> okapiHeaders,
+                                                        Handler<AsyncResult<Response>> asyncResultHandler,
+                                                        Context vertxContext) {
+
+    NdjsonStreamSession.<BatchSyncStreamResponse>handleStream(entity, routingContext, okapiHeaders,
+      () -> {
+        var service = new HoldingsService(vertxContext, okapiHeaders);
+        return new BatchSyncStreamSession<>(HoldingsRecord.class,
+          records -> service.createHoldings(records, upsert, true), HoldingsRecord::getId);
+      },
+      asyncResultHandler, PostHoldingsStorageBatchSynchronousStreamResponse::respond200WithApplicationJson);
+  }
 }
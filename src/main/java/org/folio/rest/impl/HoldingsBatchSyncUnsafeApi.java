@@ -4,23 +4,38 @@ import static org.folio.rest.jaxrs.resource.HoldingsStorageBatchSynchronousUnsaf
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.HoldingsrecordsPost;
 import org.folio.rest.jaxrs.resource.HoldingsStorageBatchSynchronousUnsafe;
+import org.folio.services.batch.PartitionedBatchSync;
 import org.folio.services.holding.HoldingsService;
 
 public class HoldingsBatchSyncUnsafeApi implements HoldingsStorageBatchSynchronousUnsafe {
   @Validate
   @Override
-  public void postHoldingsStorageBatchSynchronousUnsafe(HoldingsrecordsPost entity, Map<String, String> okapiHeaders,
+  public void postHoldingsStorageBatchSynchronousUnsafe(boolean parallel, HoldingsrecordsPost entity,
+                                                        Map<String, String> okapiHeaders,
                                                         Handler<AsyncResult<Response>> asyncResultHandler,
                                                         Context vertxContext) {
 
-    new HoldingsService(vertxContext, okapiHeaders)
-      .createHoldings(entity.getHoldingsRecords(), true, false)
+    var holdingsService = new HoldingsService(vertxContext, okapiHeaders);
+    Function<List<HoldingsRecord>, Future<Response>> batchWriter =
+      holdings -> holdingsService.createHoldings(holdings, true, false);
+
+    Future<Response> result = parallel
+      ? new PartitionedBatchSync<>(batchWriter, HoldingsRecord::getId).write(entity.getHoldingsRecords(),
+        PostHoldingsStorageBatchSynchronousUnsafeResponse::respond201,
+        PostHoldingsStorageBatchSynchronousUnsafeResponse::respond422WithApplicationJson)
+      : batchWriter.apply(entity.getHoldingsRecords());
+
+    result
       .otherwise(cause -> respond500WithTextPlain(cause.getMessage()))
       .onComplete(asyncResultHandler);
   }
@@ -20,6 +20,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.HoldingsNoteType;
 import org.folio.rest.jaxrs.model.HoldingsNoteTypes;
@@ -51,9 +52,9 @@ public class HoldingsNoteTypeApi implements org.folio.rest.jaxrs.resource.Holdin
       try {
         String tenantId = TenantTool.tenantId(okapiHeaders);
         CQLWrapper cql = getCql(query, limit, offset);
-        PostgresClient.getInstance(vertxContext.owner(), tenantId).get(REFERENCE_TABLE, HoldingsNoteType.class,
-          new String[] {"*"}, cql, true, true,
-          reply -> {
+        TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+          REFERENCE_TABLE, HoldingsNoteType.class, cql, totalRecords)
+          .onComplete(reply -> {
             try {
               if (reply.succeeded()) {
                 HoldingsNoteTypes records = new HoldingsNoteTypes();
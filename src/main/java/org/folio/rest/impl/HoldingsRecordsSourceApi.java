@@ -16,6 +16,7 @@ import org.folio.rest.jaxrs.model.HoldingsRecordsSource.Source;
 import org.folio.rest.jaxrs.model.HoldingsRecordsSources;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.CollectionGet;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
 import org.folio.rest.tools.utils.TenantTool;
@@ -32,8 +33,8 @@ public class HoldingsRecordsSourceApi implements org.folio.rest.jaxrs.resource.H
   public void getHoldingsSources(String query, String totalRecords, int offset, int limit,
                                  Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
                                  Context vertxContext) {
-    PgUtil.get(REFERENCE_TABLE, HoldingsRecordsSource.class, HoldingsRecordsSources.class, query, offset, limit,
-      okapiHeaders, vertxContext, GetHoldingsSourcesResponse.class, asyncResultHandler);
+    CollectionGet.get(REFERENCE_TABLE, HoldingsRecordsSource.class, HoldingsRecordsSources.class, query, totalRecords,
+      offset, limit, okapiHeaders, vertxContext, GetHoldingsSourcesResponse.class, asyncResultHandler);
   }
 
   @Validate
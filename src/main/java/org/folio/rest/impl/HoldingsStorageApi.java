@@ -10,12 +10,18 @@ import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import java.util.Map;
 import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.persist.HoldingsRepository;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.HoldingsRecordView;
+import org.folio.rest.jaxrs.model.RetrieveByIds;
 import org.folio.rest.jaxrs.resource.HoldingsStorage;
 import org.folio.rest.persist.PgUtil;
+import org.folio.rest.support.ConditionalGet;
 import org.folio.rest.support.EndpointFailureHandler;
+import org.folio.rest.support.EndpointHandler;
 import org.folio.services.holding.HoldingsService;
 
 public class HoldingsStorageApi implements HoldingsStorage {
@@ -24,13 +30,24 @@ public class HoldingsStorageApi implements HoldingsStorage {
 
   @Validate
   @Override
-  public void getHoldingsStorageHoldings(String totalRecords, int offset, int limit, String query,
+  public void getHoldingsStorageHoldings(String fields, String totalRecords, int offset, int limit, String query,
                                          RoutingContext routingContext, Map<String, String> okapiHeaders,
                                          Handler<AsyncResult<Response>> asyncResultHandler,
                                          Context vertxContext) {
 
-    PgUtil.streamGet(HOLDINGS_RECORD_TABLE, HoldingsRecordView.class, query, offset,
-      limit, null, "holdingsRecords", routingContext, okapiHeaders, vertxContext);
+    if (StringUtils.isNotBlank(fields)) {
+      ProjectedCollection.stream(new HoldingsRepository(vertxContext, okapiHeaders), fields, query, offset, limit,
+        totalRecords, "holdingsRecords", routingContext, okapiHeaders, asyncResultHandler, vertxContext);
+      return;
+    }
+
+    try {
+      PgUtil.streamGet(HOLDINGS_RECORD_TABLE, HoldingsRecordView.class, TotalRecords.streamGetCql(
+          HOLDINGS_RECORD_TABLE, query, offset, limit, totalRecords),
+        null, "holdingsRecords", routingContext, okapiHeaders, vertxContext);
+    } catch (Exception e) {
+      handleFailure(asyncResultHandler).handle(e);
+    }
   }
 
   @Validate
@@ -47,6 +64,17 @@ public class HoldingsStorageApi implements HoldingsStorage {
       .onFailure(handleFailure(asyncResultHandler));
   }
 
+  @Validate
+  @Override
+  public void postHoldingsStorageHoldingsRetrieveByIds(RetrieveByIds entity, RoutingContext routingContext,
+                                                       Map<String, String> okapiHeaders,
+                                                       Handler<AsyncResult<Response>> asyncResultHandler,
+                                                       Context vertxContext) {
+
+    RecordsByIds.stream(HOLDINGS_RECORD_TABLE, "holdingsRecords", entity.getIds(),
+      routingContext, okapiHeaders, asyncResultHandler, vertxContext);
+  }
+
   @Validate
   @Override
   public void deleteHoldingsStorageHoldings(String query,
@@ -63,13 +91,16 @@ public class HoldingsStorageApi implements HoldingsStorage {
   @Override
   public void getHoldingsStorageHoldingsByHoldingsRecordId(
     String holdingsRecordId,
+    String ifNoneMatch,
     Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    PgUtil.getById(HOLDINGS_RECORD_TABLE, HoldingsRecord.class, holdingsRecordId,
-      okapiHeaders, vertxContext, GetHoldingsStorageHoldingsByHoldingsRecordIdResponse.class,
-      asyncResultHandler);
+    ConditionalGet.get(new HoldingsRepository(vertxContext, okapiHeaders), holdingsRecordId, ifNoneMatch,
+        HoldingsRecord::getVersion,
+        GetHoldingsStorageHoldingsByHoldingsRecordIdResponse::respond200WithApplicationJson,
+        () -> GetHoldingsStorageHoldingsByHoldingsRecordIdResponse.respond404WithTextPlain("Not found"))
+      .onComplete(EndpointHandler.handle(asyncResultHandler));
   }
 
   @Validate
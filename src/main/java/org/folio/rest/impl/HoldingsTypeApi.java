@@ -16,6 +16,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.Error;
 import org.folio.rest.jaxrs.model.Errors;
@@ -49,9 +50,9 @@ public class HoldingsTypeApi implements org.folio.rest.jaxrs.resource.HoldingsTy
       try {
         String tenantId = TenantTool.tenantId(okapiHeaders);
         CQLWrapper cql = getCql(query, limit, offset);
-        PostgresClient.getInstance(vertxContext.owner(), tenantId).get(REFERENCE_TABLE, HoldingsType.class,
-          new String[] {"*"}, cql, true, true,
-          reply -> {
+        TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+          REFERENCE_TABLE, HoldingsType.class, cql, totalRecords)
+          .onComplete(reply -> {
             try {
               if (reply.succeeded()) {
                 HoldingsTypes records = new HoldingsTypes();
@@ -14,6 +14,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.IdentifierType;
 import org.folio.rest.jaxrs.model.IdentifierTypes;
@@ -48,9 +49,9 @@ public class IdentifierTypeApi implements org.folio.rest.jaxrs.resource.Identifi
       try {
         String tenantId = TenantTool.tenantId(okapiHeaders);
         CQLWrapper cql = getCql(query, limit, offset);
-        PostgresClient.getInstance(vertxContext.owner(), tenantId).get(IDENTIFIER_TYPE_TABLE, IdentifierType.class,
-          new String[] {"*"}, cql, true, true,
-          reply -> {
+        TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+          IDENTIFIER_TYPE_TABLE, IdentifierType.class, cql, totalRecords)
+          .onComplete(reply -> {
             try {
               if (reply.succeeded()) {
                 IdentifierTypes identifierTypes = new IdentifierTypes();
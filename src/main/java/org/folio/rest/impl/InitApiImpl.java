@@ -11,6 +11,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.resource.interfaces.InitAPI;
 import org.folio.services.caches.ConsortiumDataCache;
+import org.folio.services.caches.SharingInstancesCache;
 import org.folio.services.consortium.ShadowInstanceSynchronizationVerticle;
 import org.folio.services.migration.async.AsyncMigrationConsumerVerticle;
 
@@ -21,8 +22,10 @@ public class InitApiImpl implements InitAPI {
   @Override
   public void init(Vertx vertx, Context context, Handler<AsyncResult<Boolean>> handler) {
     initConsortiumDataCache(vertx, context);
+    initSharingInstancesCache(vertx, context);
     initAsyncMigrationVerticle(vertx)
-      .compose(v -> initShadowInstanceSynchronizationVerticle(vertx, getConsortiumDataCache(context)))
+      .compose(v -> initShadowInstanceSynchronizationVerticle(vertx, getConsortiumDataCache(context),
+        getSharingInstancesCache(context)))
       .map(true)
       .onComplete(handler);
   }
@@ -48,12 +51,14 @@ public class InitApiImpl implements InitAPI {
     return promise.future();
   }
 
-  private Future<Void> initShadowInstanceSynchronizationVerticle(Vertx vertx, ConsortiumDataCache consortiumDataCache) {
+  private Future<Void> initShadowInstanceSynchronizationVerticle(Vertx vertx, ConsortiumDataCache consortiumDataCache,
+                                                               SharingInstancesCache sharingInstancesCache) {
     DeploymentOptions options = new DeploymentOptions()
       .setWorker(true)
       .setInstances(1);
 
-    return vertx.deployVerticle(() -> new ShadowInstanceSynchronizationVerticle(consortiumDataCache), options)
+    return vertx.deployVerticle(
+      () -> new ShadowInstanceSynchronizationVerticle(consortiumDataCache, sharingInstancesCache), options)
       .onSuccess(v -> log.info("initShadowInstanceSynchronizationVerticle:: "
         + "ShadowInstanceSynchronizationVerticle verticle was successfully started"))
       .onFailure(e -> log.error("initShadowInstanceSynchronizationVerticle:: "
@@ -70,4 +75,13 @@ public class InitApiImpl implements InitAPI {
     return context.get(ConsortiumDataCache.class.getName());
   }
 
+  private void initSharingInstancesCache(Vertx vertx, Context context) {
+    SharingInstancesCache sharingInstancesCache = new SharingInstancesCache(vertx, vertx.createHttpClient());
+    context.put(SharingInstancesCache.class.getName(), sharingInstancesCache);
+  }
+
+  private SharingInstancesCache getSharingInstancesCache(Context context) {
+    return context.get(SharingInstancesCache.class.getName());
+  }
+
 }
@@ -5,18 +5,25 @@ import static org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronous.Post
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import java.io.InputStream;
 import java.util.Map;
 import javax.ws.rs.core.Response;
+import org.folio.rest.annotations.Stream;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.jaxrs.model.BatchSyncStreamResponse;
+import org.folio.rest.jaxrs.model.Instance;
 import org.folio.rest.jaxrs.model.InstancesPost;
 import org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronous;
+import org.folio.services.batch.BatchSyncStreamSession;
+import org.folio.services.batch.NdjsonStreamSession;
 import org.folio.services.instance.InstanceService;
 
 public class InstanceBatchSyncApi implements InstanceStorageBatchSynchronous {
   @Validate
   @Override
   public void postInstanceStorageBatchSynchronous(boolean upsert, InstancesPost entity,
-                                                  Map<String, String> okapiHeaders,
+                                                  RoutingContext routingContext, Map<String, String> okapiHeaders,
                                                   Handler<AsyncResult<Response>> asyncResultHandler,
                                                   Context vertxContext) {
 
@@ -25,4 +32,20 @@ public class InstanceBatchSyncApi implements InstanceStorageBatchSynchronous {
       .otherwise(cause -> respond500WithTextPlain(cause.getMessage()))
       .onComplete(asyncResultHandler);
   }
+
+  @Stream
+  @Override
+  public void postInstanceStorageBatchSynchronousStream(boolean upsert, InputStream entity,
+                                                        RoutingContext routingContext, Map<String, String> okapiHeaders,
+                                                        Handler<AsyncResult<Response>> asyncResultHandler,
+                                                        Context vertxContext) {
+
+    NdjsonStreamSession.<BatchSyncStreamResponse>handleStream(entity, routingContext, okapiHeaders,
+      () -> {
+        var service = new InstanceService(vertxContext, okapiHeaders);
+        return new BatchSyncStreamSession<>(Instance.class,
+          records -> service.createInstances(records, upsert, true), Instance::getId);
+      },
+      asyncResultHandler, PostInstanceStorageBatchSynchronousStreamResponse::respond200WithApplicationJson);
+  }
 }
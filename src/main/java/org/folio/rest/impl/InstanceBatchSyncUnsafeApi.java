@@ -4,23 +4,38 @@ import static org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronousUnsaf
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.jaxrs.model.Instance;
 import org.folio.rest.jaxrs.model.InstancesPost;
 import org.folio.rest.jaxrs.resource.InstanceStorageBatchSynchronousUnsafe;
+import org.folio.services.batch.PartitionedBatchSync;
 import org.folio.services.instance.InstanceService;
 
 public class InstanceBatchSyncUnsafeApi implements InstanceStorageBatchSynchronousUnsafe {
   @Validate
   @Override
-  public void postInstanceStorageBatchSynchronousUnsafe(InstancesPost entity, Map<String, String> okapiHeaders,
+  public void postInstanceStorageBatchSynchronousUnsafe(boolean parallel, InstancesPost entity,
+                                                        Map<String, String> okapiHeaders,
                                                         Handler<AsyncResult<Response>> asyncResultHandler,
                                                         Context vertxContext) {
 
-    new InstanceService(vertxContext, okapiHeaders)
-      .createInstances(entity.getInstances(), true, false)
+    var instanceService = new InstanceService(vertxContext, okapiHeaders);
+    Function<List<Instance>, Future<Response>> batchWriter =
+      instances -> instanceService.createInstances(instances, true, false);
+
+    Future<Response> result = parallel
+      ? new PartitionedBatchSync<>(batchWriter, Instance::getId).write(entity.getInstances(),
+        PostInstanceStorageBatchSynchronousUnsafeResponse::respond201,
+        PostInstanceStorageBatchSynchronousUnsafeResponse::respond422WithApplicationJson)
+      : batchWriter.apply(entity.getInstances());
+
+    result
       .otherwise(cause -> respond500WithTextPlain(cause.getMessage()))
       .onComplete(asyncResultHandler);
   }
@@ -0,0 +1,29 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import java.io.InputStream;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+import org.folio.rest.annotations.Stream;
+import org.folio.rest.jaxrs.model.BulkLoadResponse;
+import org.folio.rest.jaxrs.resource.InstanceStorageBatchBulkLoad;
+import org.folio.services.batch.NdjsonStreamSession;
+import org.folio.services.instance.InstanceService;
+
+public class InstanceBulkLoadApi implements InstanceStorageBatchBulkLoad {
+  @Stream
+  @Override
+  public void postInstanceStorageBatchBulkLoad(InputStream entity, RoutingContext routingContext,
+                                               Map<String, String> okapiHeaders,
+                                               Handler<AsyncResult<Response>> asyncResultHandler,
+                                               Context vertxContext) {
+
+    NdjsonStreamSession.<Integer>handleStream(entity, routingContext, okapiHeaders,
+      () -> new InstanceService(vertxContext, okapiHeaders).createBulkLoadSession(), asyncResultHandler,
+      recordsLoaded -> PostInstanceStorageBatchBulkLoadResponse.respond201WithApplicationJson(
+        new BulkLoadResponse().withRecordsLoaded(recordsLoaded)));
+  }
+}
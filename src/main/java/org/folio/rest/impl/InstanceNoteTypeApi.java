@@ -14,6 +14,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.InstanceNoteType;
 import org.folio.rest.jaxrs.model.InstanceNoteTypes;
@@ -46,9 +47,9 @@ public class InstanceNoteTypeApi implements org.folio.rest.jaxrs.resource.Instan
       try {
         String tenantId = TenantTool.tenantId(okapiHeaders);
         CQLWrapper cql = getCql(query, limit, offset);
-        PostgresClient.getInstance(vertxContext.owner(), tenantId).get(REFERENCE_TABLE, InstanceNoteType.class,
-          new String[] {"*"}, cql, true, true,
-          reply -> {
+        TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+          REFERENCE_TABLE, InstanceNoteType.class, cql, totalRecords)
+          .onComplete(reply -> {
             if (reply.succeeded()) {
               InstanceNoteTypes records = new InstanceNoteTypes();
               List<InstanceNoteType> instanceNoteTypes = reply.result().getResults();
@@ -14,6 +14,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.InstanceRelationshipType;
 import org.folio.rest.jaxrs.model.InstanceRelationshipTypes;
@@ -46,10 +47,9 @@ public class InstanceRelationshipTypeApi implements org.folio.rest.jaxrs.resourc
       try {
         String tenantId = TenantTool.tenantId(okapiHeaders);
         CQLWrapper cql = getCql(query, limit, offset);
-        PostgresClient.getInstance(vertxContext.owner(), tenantId)
-          .get(INSTANCE_RELATIONSHIP_TYPE_TABLE, InstanceRelationshipType.class,
-            new String[] {"*"}, cql, true, true,
-            reply -> {
+        TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+          INSTANCE_RELATIONSHIP_TYPE_TABLE, InstanceRelationshipType.class, cql, totalRecords)
+          .onComplete(reply -> {
               try {
                 if (reply.succeeded()) {
                   InstanceRelationshipTypes instanceRelationshipTypes = new InstanceRelationshipTypes();
@@ -15,16 +15,21 @@ import io.vertx.ext.web.RoutingContext;
 import java.util.List;
 import java.util.Map;
 import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.InstanceRepository;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.exceptions.BadRequestException;
 import org.folio.rest.jaxrs.model.Instance;
 import org.folio.rest.jaxrs.model.InstanceRelationship;
 import org.folio.rest.jaxrs.model.InstanceRelationships;
 import org.folio.rest.jaxrs.model.Instances;
 import org.folio.rest.jaxrs.model.MarcJson;
+import org.folio.rest.jaxrs.model.RetrieveByIds;
 import org.folio.rest.jaxrs.resource.InstanceStorage;
 import org.folio.rest.persist.Criteria.Limit;
 import org.folio.rest.persist.Criteria.Offset;
@@ -55,14 +60,12 @@ public class InstanceStorageApi implements InstanceStorage {
       vertxContext.runOnContext(v -> {
         try {
 
-          String[] fieldList = {"*"};
-
           CQLWrapper cql = createCqlWrapper(query, limit, offset, INSTANCE_RELATIONSHIP_TABLE);
 
           log.info(String.format("SQL generated from CQL: %s", cql.toString()));
 
-          postgresClient.get(INSTANCE_RELATIONSHIP_TABLE, InstanceRelationship.class, fieldList, cql,
-            true, false, reply -> {
+          TotalRecords.get(postgresClient, INSTANCE_RELATIONSHIP_TABLE, InstanceRelationship.class, cql, totalRecords)
+            .onComplete(reply -> {
               try {
                 if (reply.succeeded()) {
                   List<InstanceRelationship> instanceRelationships = reply.result().getResults();
@@ -195,17 +198,26 @@ public class InstanceStorageApi implements InstanceStorage {
 
   @Validate
   @Override
-  public void getInstanceStorageInstances(String totalRecords, int offset, int limit, String query,
+  public void getInstanceStorageInstances(String fields, String totalRecords, int offset, int limit, String query,
                                           RoutingContext routingContext, Map<String, String> okapiHeaders,
                                           Handler<AsyncResult<Response>> asyncResultHandler,
                                           Context vertxContext) {
 
+    if (StringUtils.isNotBlank(fields)) {
+      ProjectedCollection.stream(new InstanceRepository(vertxContext, okapiHeaders), fields, query, offset, limit,
+        totalRecords, "instances", routingContext, okapiHeaders, asyncResultHandler, vertxContext);
+      return;
+    }
+
     if (PgUtil.checkOptimizedCQL(query, "title") != null) { // Until RMB-573 is fixed
       try {
         PreparedCql preparedCql = handleCql(query, limit, offset);
         PgUtil.getWithOptimizedSql(preparedCql.getTableName(), Instance.class, Instances.class,
-          "title", query, offset, limit,
-          okapiHeaders, vertxContext, GetInstanceStorageInstancesResponse.class, asyncResultHandler);
+          "title", query, offset, limit, okapiHeaders, vertxContext, GetInstanceStorageInstancesResponse.class,
+          withTotalRecords(preparedCql, TotalRecords.normalize(totalRecords), okapiHeaders, vertxContext,
+            asyncResultHandler));
+      } catch (BadRequestException e) {
+        handleFailure(asyncResultHandler).handle(e);
       } catch (Exception e) {
         log.error(e.getMessage(), e);
         asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
@@ -214,8 +226,40 @@ public class InstanceStorageApi implements InstanceStorage {
       return;
     }
 
-    PgUtil.streamGet(INSTANCE_TABLE, Instance.class, query, offset, limit, null,
-      "instances", routingContext, okapiHeaders, vertxContext);
+    try {
+      PgUtil.streamGet(INSTANCE_TABLE, Instance.class, TotalRecords.streamGetCql(INSTANCE_TABLE, query, offset, limit,
+        totalRecords), null, "instances", routingContext, okapiHeaders, vertxContext);
+    } catch (Exception e) {
+      handleFailure(asyncResultHandler).handle(e);
+    }
+  }
+
+  /**
+   * The title sort optimization of RMB always estimates totalRecords, for exact and none the total is replaced
+   * as requested.
+   */
+  private static Handler<AsyncResult<Response>> withTotalRecords(PreparedCql preparedCql, String totalRecords,
+                                                                Map<String, String> okapiHeaders,
+                                                                Context vertxContext,
+                                                                Handler<AsyncResult<Response>> asyncResultHandler) {
+    if (TotalRecords.isEstimated(totalRecords)) {
+      return asyncResultHandler;
+    }
+    return result -> {
+      if (result.failed() || !(result.result().getEntity() instanceof Instances instances)) {
+        asyncResultHandler.handle(result);
+        return;
+      }
+      try {
+        TotalRecords.count(PgUtil.postgresClient(vertxContext, okapiHeaders), INSTANCE_TABLE,
+            preparedCql.getCqlWrapper().getWhereClause(), totalRecords)
+          .onSuccess(count -> asyncResultHandler.handle(Future.succeededFuture(
+            GetInstanceStorageInstancesResponse.respond200WithApplicationJson(instances.withTotalRecords(count)))))
+          .onFailure(handleFailure(asyncResultHandler));
+      } catch (Exception e) {
+        handleFailure(asyncResultHandler).handle(e);
+      }
+    };
   }
 
   @Validate
@@ -233,6 +277,17 @@ public class InstanceStorageApi implements InstanceStorage {
       .onFailure(handleFailure(asyncResultHandler));
   }
 
+  @Validate
+  @Override
+  public void postInstanceStorageInstancesRetrieveByIds(RetrieveByIds entity, RoutingContext routingContext,
+                                                        Map<String, String> okapiHeaders,
+                                                        Handler<AsyncResult<Response>> asyncResultHandler,
+                                                        Context vertxContext) {
+
+    RecordsByIds.stream(INSTANCE_TABLE, "instances", entity.getIds(),
+      routingContext, okapiHeaders, asyncResultHandler, vertxContext);
+  }
+
   @Validate
   @Override
   public void deleteInstanceStorageInstances(
@@ -250,12 +305,12 @@ public class InstanceStorageApi implements InstanceStorage {
   @Override
   public void getInstanceStorageInstancesByInstanceId(
     String instanceId,
-
+    String ifNoneMatch,
     Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    new InstanceService(vertxContext, okapiHeaders).getInstance(instanceId)
+    new InstanceService(vertxContext, okapiHeaders).getInstance(instanceId, ifNoneMatch)
       .otherwise(EndpointFailureHandler::failureResponse)
       .onComplete(asyncResultHandler);
   }
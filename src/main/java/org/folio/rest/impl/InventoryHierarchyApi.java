@@ -8,6 +8,7 @@ import io.vertx.sqlclient.Tuple;
 import io.vertx.sqlclient.impl.ArrayTuple;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
@@ -18,8 +19,12 @@ import org.folio.rest.jaxrs.resource.InventoryHierarchy;
 public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements InventoryHierarchy {
 
   private static final String SQL_UPDATED_INSTANCES_IDS =
-    "select * from get_updated_instance_ids_view($1,$2,$3,$4,$5,$6);";
-  private static final String SQL_INSTANCES = "select * from get_items_and_holdings_view($1,$2);";
+    "select * from get_updated_instance_ids_view($1,$2,$3,$4,$5,$6,$7);";
+  private static final String SQL_INSTANCES = "select \"instanceId\", source, \"modeOfIssuance\",\n"
+    + "       \"natureOfContent\"::text AS \"natureOfContent\", holdings::text AS holdings, items::text AS items\n"
+    + "from get_items_and_holdings_view($1,$2);";
+  private static final Set<String> JSON_TEXT_COLUMNS = Set.of("natureOfContent", "holdings", "items");
+  private static final String INSTANCE_ID_COLUMN = "instanceId";
   private static final String SUPPRESSED_TRUE_FILTER = "(instance.jsonb ->> 'discoverySuppress')::bool = false";
   private static final String SQL_INITIAL_LOAD = "SELECT id as \"instanceId\",\n"
     + "       instance.jsonb ->> 'source' AS source,\n"
@@ -27,7 +32,8 @@ public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements
     + "       (instance.jsonb ->> 'discoverySuppress')::bool AS \"suppressFromDiscovery\",\n"
     + "       false AS deleted\n"
     + "FROM instance\n"
-    + "WHERE (CAST($1 as varchar) IS NULL OR (instance.jsonb ->> 'source')::varchar = $1)";
+    + "WHERE (CAST($1 as varchar) IS NULL OR (instance.jsonb ->> 'source')::varchar = $1)\n"
+    + "  AND ($2::uuid IS NULL OR id > $2)";
   private static final String SQL_INITIAL_LOAD_DELETED_RECORDS_SUPPORT_PART = " UNION ALL\n"
     + "\t(SELECT (jsonb #>> '{record,id}')::uuid            AS \"instanceId\",\n"
     + "        jsonb #>> '{record,source}'                 AS source,\n"
@@ -35,14 +41,16 @@ public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements
     + "        false                                       AS \"suppressFromDiscovery\",\n"
     + "        true                                        AS deleted\n"
     + "\tFROM audit_instance"
-    + "\tWHERE (CAST($1 as varchar) IS NULL OR (jsonb ->> 'source')::varchar = $1))";
+    + "\tWHERE (CAST($1 as varchar) IS NULL OR (jsonb ->> 'source')::varchar = $1)\n"
+    + "\t  AND ($2::uuid IS NULL OR (jsonb #>> '{record,id}')::uuid > $2))";
 
   @Validate
   @Override
   public void getInventoryHierarchyUpdatedInstanceIds(String startDate, String endDate, boolean deletedRecordSupport,
                                                       boolean skipSuppressedFromDiscoveryRecords,
                                                       boolean onlyInstanceUpdateDate, String source,
-                                                      RoutingContext routingContext, Map<String, String> okapiHeaders,
+                                                      String resumptionToken, RoutingContext routingContext,
+                                                      Map<String, String> okapiHeaders,
                                                       Handler<AsyncResult<Response>> asyncResultHandler,
                                                       Context vertxContext) {
     if (StringUtils.isEmpty(startDate) && StringUtils.isEmpty(endDate)) {
@@ -54,11 +62,11 @@ public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements
         sql += SQL_INITIAL_LOAD_DELETED_RECORDS_SUPPORT_PART;
       }
       Tuple tuple = new ArrayTuple(1).addValue(source);
-      fetchRecordsByQuery(sql, () -> tuple,
+      fetchRecordsByQueryInChunks(sql, INSTANCE_ID_COLUMN, resumptionToken, () -> tuple,
         routingContext, okapiHeaders, asyncResultHandler, vertxContext
       );
     } else {
-      fetchRecordsByQuery(SQL_UPDATED_INSTANCES_IDS,
+      fetchRecordsByQueryInChunks(SQL_UPDATED_INSTANCES_IDS, INSTANCE_ID_COLUMN, resumptionToken,
         () -> createPostgresParams(startDate, endDate, deletedRecordSupport, skipSuppressedFromDiscoveryRecords,
           tuple -> {
             tuple.addBoolean(onlyInstanceUpdateDate);
@@ -82,7 +90,7 @@ public class InventoryHierarchyApi extends AbstractInstanceRecordsApi implements
 
     UUID[] ids = entity.getInstanceIds().stream().map(UUID::fromString).toArray(UUID[]::new);
 
-    fetchRecordsByQuery(SQL_INSTANCES,
+    fetchRecordsByQuery(SQL_INSTANCES, JSON_TEXT_COLUMNS,
       () -> createPostgresParams(ids, entity.getSkipSuppressedFromDiscoveryRecords()),
       routingContext, okapiHeaders, asyncResultHandler, vertxContext
     );
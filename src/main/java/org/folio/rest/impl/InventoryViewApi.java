@@ -13,13 +13,25 @@ import org.folio.rest.jaxrs.model.InventoryViewInstance;
 import org.folio.rest.jaxrs.resource.InventoryViewInstances;
 
 public class InventoryViewApi implements InventoryViewInstances {
+  private static final String VIEW = "instance_holdings_item_view";
+  private static final String TABLE = "instance_holdings_item";
+  private static final String USE_TABLE_PARAM = "inventory-view.table.enabled";
+
   @Validate
   @Override
   public void getInventoryViewInstances(String totalRecords, int offset, int limit, String query,
                                         RoutingContext routingContext, Map<String, String> okapiHeaders,
                                         Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    streamGet("instance_holdings_item_view", InventoryViewInstance.class, query,
+    // the table is maintained by triggers and has the same rows as the view, but it has to be filled
+    // by the inventoryViewMigration async migration first
+    var source = isTableEnabled() ? TABLE : VIEW;
+
+    streamGet(source, InventoryViewInstance.class, query,
       offset, limit, null, "instances", routingContext, okapiHeaders, vertxContext);
   }
+
+  static boolean isTableEnabled() {
+    return Boolean.parseBoolean(System.getProperty(USE_TABLE_PARAM, "false"));
+  }
 }
@@ -5,18 +5,26 @@ import static io.vertx.core.Future.succeededFuture;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import java.io.InputStream;
 import java.util.Map;
 import javax.ws.rs.core.Response;
+import org.folio.rest.annotations.Stream;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.jaxrs.model.BatchSyncStreamResponse;
+import org.folio.rest.jaxrs.model.Item;
 import org.folio.rest.jaxrs.model.ItemsPost;
 import org.folio.rest.jaxrs.resource.ItemStorageBatchSynchronous;
 import org.folio.rest.support.EndpointFailureHandler;
+import org.folio.services.batch.BatchSyncStreamSession;
+import org.folio.services.batch.NdjsonStreamSession;
 import org.folio.services.item.ItemService;
 
 public class ItemBatchSyncApi implements ItemStorageBatchSynchronous {
   @Validate
   @Override
-  public void postItemStorageBatchSynchronous(boolean upsert, ItemsPost entity, Map<String, String> okapiHeaders,
+  public void postItemStorageBatchSynchronous(boolean upsert, ItemsPost entity, RoutingContext routingContext,
+                                              Map<String, String> okapiHeaders,
                                               Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
     new ItemService(vertxContext, okapiHeaders).createItems(entity.getItems(), upsert, true)
@@ -25,4 +33,20 @@ public class ItemBatchSyncApi implements ItemStorageBatchSynchronous {
         PostItemStorageBatchSynchronousResponse::respond422WithApplicationJson,
         PostItemStorageBatchSynchronousResponse::respond500WithTextPlain));
   }
+
+  @Stream
+  @Override
+  public void postItemStorageBatchSynchronousStream(boolean upsert, InputStream entity,
+                                                    RoutingContext routingContext, Map<String, String> okapiHeaders,
+                                                    Handler<AsyncResult<Response>> asyncResultHandler,
+                                                    Context vertxContext) {
+
+    NdjsonStreamSession.<BatchSyncStreamResponse>handleStream(entity, routingContext, okapiHeaders,
+      () -> {
+        var service = new ItemService(vertxContext, okapiHeaders);
+        return new BatchSyncStreamSession<>(Item.class,
+          records -> service.createItems(records, upsert, true), Item::getId);
+      },
+      asyncResultHandler, PostItemStorageBatchSynchronousStreamResponse::respond200WithApplicationJson);
+  }
 }
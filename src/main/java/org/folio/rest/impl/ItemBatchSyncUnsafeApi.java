@@ -4,23 +4,39 @@ import static io.vertx.core.Future.succeededFuture;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.jaxrs.model.Item;
 import org.folio.rest.jaxrs.model.ItemsPost;
 import org.folio.rest.jaxrs.resource.ItemStorageBatchSynchronousUnsafe;
 import org.folio.rest.support.EndpointFailureHandler;
+import org.folio.services.batch.PartitionedBatchSync;
 import org.folio.services.item.ItemService;
 
 public class ItemBatchSyncUnsafeApi implements ItemStorageBatchSynchronousUnsafe {
   @Validate
   @Override
-  public void postItemStorageBatchSynchronousUnsafe(ItemsPost entity, Map<String, String> okapiHeaders,
+  public void postItemStorageBatchSynchronousUnsafe(boolean parallel, ItemsPost entity,
+                                                    Map<String, String> okapiHeaders,
                                                     Handler<AsyncResult<Response>> asyncResultHandler,
                                                     Context vertxContext) {
 
-    new ItemService(vertxContext, okapiHeaders).createItems(entity.getItems(), true, false)
+    var itemService = new ItemService(vertxContext, okapiHeaders);
+    Function<List<Item>, Future<Response>> batchWriter =
+      items -> itemService.createItems(items, true, false);
+
+    Future<Response> result = parallel
+      ? new PartitionedBatchSync<>(batchWriter, Item::getId).write(entity.getItems(),
+        PostItemStorageBatchSynchronousUnsafeResponse::respond201,
+        PostItemStorageBatchSynchronousUnsafeResponse::respond422WithApplicationJson)
+      : batchWriter.apply(entity.getItems());
+
+    result
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(EndpointFailureHandler.handleFailure(asyncResultHandler,
         PostItemStorageBatchSynchronousUnsafeResponse::respond422WithApplicationJson,
@@ -0,0 +1,28 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import java.io.InputStream;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+import org.folio.rest.annotations.Stream;
+import org.folio.rest.jaxrs.model.BulkLoadResponse;
+import org.folio.rest.jaxrs.resource.ItemStorageBatchBulkLoad;
+import org.folio.services.batch.NdjsonStreamSession;
+import org.folio.services.item.ItemService;
+
+public class ItemBulkLoadApi implements ItemStorageBatchBulkLoad {
+  @Stream
+  @Override
+  public void postItemStorageBatchBulkLoad(InputStream entity, RoutingContext routingContext,
+                                           Map<String, String> okapiHeaders,
+                                           Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    NdjsonStreamSession.<Integer>handleStream(entity, routingContext, okapiHeaders,
+      () -> new ItemService(vertxContext, okapiHeaders).createBulkLoadSession(), asyncResultHandler,
+      recordsLoaded -> PostItemStorageBatchBulkLoadResponse.respond201WithApplicationJson(
+        new BulkLoadResponse().withRecordsLoaded(recordsLoaded)));
+  }
+}
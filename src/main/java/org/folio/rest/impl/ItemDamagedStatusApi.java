@@ -23,13 +23,13 @@ import javax.ws.rs.core.Response;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.ItemDamageStatus;
 import org.folio.rest.jaxrs.model.ItemDamageStatuses;
 import org.folio.rest.jaxrs.resource.ItemDamagedStatuses;
 import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.cql.CQLWrapper;
-import org.folio.rest.persist.interfaces.Results;
 import org.folio.rest.support.PostgresClientFactory;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
@@ -50,7 +50,7 @@ public class ItemDamagedStatusApi implements ItemDamagedStatuses {
 
     vertxContext.runOnContext(v -> {
       try {
-        searchItemDamagedStatuses(query, offset, limit, okapiHeaders, vertxContext)
+        searchItemDamagedStatuses(query, totalRecords, offset, limit, okapiHeaders, vertxContext)
           .map(GetItemDamagedStatusesResponse::respond200WithApplicationJson)
           .otherwise(ex -> {
             LOGGER.error(ex.getMessage(), ex);
@@ -167,23 +167,18 @@ public class ItemDamagedStatusApi implements ItemDamagedStatuses {
   // protected is needed for unit test
   protected Future<ItemDamageStatuses> searchItemDamagedStatuses(
     String query,
+    String totalRecords,
     int offset,
     int limit,
     Map<String, String> okapiHeaders,
     Context vertxContext) throws FieldException {
 
     CQLWrapper cql = getCql(query, limit, offset, REFERENCE_TABLE);
-    return Future.<Results<ItemDamageStatus>>future(promise -> pgClientFactory
-      .getInstance(vertxContext, okapiHeaders)
-      .get(REFERENCE_TABLE,
-        ItemDamageStatus.class,
-        new String[] {"*"},
-        cql,
-        true,
-        true,
-        promise)).map(results -> new ItemDamageStatuses()
-      .withItemDamageStatuses(results.getResults())
-      .withTotalRecords(results.getResultInfo().getTotalRecords()));
+    return TotalRecords.get(pgClientFactory.getInstance(vertxContext, okapiHeaders), REFERENCE_TABLE,
+        ItemDamageStatus.class, cql, totalRecords)
+      .map(results -> new ItemDamageStatuses()
+        .withItemDamageStatuses(results.getResults())
+        .withTotalRecords(results.getResultInfo().getTotalRecords()));
   }
 
   // protected is needed for unit testing
@@ -9,11 +9,18 @@ import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import java.util.Map;
 import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.persist.ItemRepository;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.jaxrs.model.ItemStatusUpdate;
+import org.folio.rest.jaxrs.model.RetrieveByIds;
 import org.folio.rest.jaxrs.resource.ItemStorage;
 import org.folio.rest.persist.PgUtil;
+import org.folio.rest.support.ConditionalGet;
 import org.folio.rest.support.EndpointFailureHandler;
+import org.folio.rest.support.EndpointHandler;
 import org.folio.services.item.ItemService;
 
 /**
@@ -24,13 +31,24 @@ public class ItemStorageApi implements ItemStorage {
 
   @Validate
   @Override
-  public void getItemStorageItems(String totalRecords, int offset, int limit, String query,
+  public void getItemStorageItems(String fields, String totalRecords, int offset, int limit, String query,
                                   RoutingContext routingContext, Map<String, String> okapiHeaders,
                                   Handler<AsyncResult<Response>> asyncResultHandler,
                                   Context vertxContext) {
 
-    PgUtil.streamGet(ITEM_TABLE, Item.class, query, offset, limit, null, "items",
-      routingContext, okapiHeaders, vertxContext);
+    var repository = new ItemRepository(vertxContext, okapiHeaders);
+    if (StringUtils.isNotBlank(fields) || repository.usesGeneratedColumn(query)) {
+      ProjectedCollection.stream(repository, fields, query, offset, limit, totalRecords, "items",
+        routingContext, okapiHeaders, asyncResultHandler, vertxContext);
+      return;
+    }
+
+    try {
+      PgUtil.streamGet(ITEM_TABLE, Item.class, TotalRecords.streamGetCql(ITEM_TABLE, query, offset, limit,
+        totalRecords), null, "items", routingContext, okapiHeaders, vertxContext);
+    } catch (Exception e) {
+      handleFailure(asyncResultHandler).handle(e);
+    }
   }
 
   @Validate
@@ -46,6 +64,17 @@ public class ItemStorageApi implements ItemStorage {
       .onFailure(handleFailure(asyncResultHandler));
   }
 
+  @Validate
+  @Override
+  public void postItemStorageItemsRetrieveByIds(RetrieveByIds entity, RoutingContext routingContext,
+                                                Map<String, String> okapiHeaders,
+                                                Handler<AsyncResult<Response>> asyncResultHandler,
+                                                Context vertxContext) {
+
+    RecordsByIds.stream(ITEM_TABLE, "items", entity.getIds(),
+      routingContext, okapiHeaders, asyncResultHandler, vertxContext);
+  }
+
   @Validate
   @Override
   public void deleteItemStorageItems(String query,
@@ -60,12 +89,14 @@ public class ItemStorageApi implements ItemStorage {
   @Validate
   @Override
   public void getItemStorageItemsByItemId(
-    String itemId, java.util.Map<String, String> okapiHeaders,
+    String itemId, String ifNoneMatch, java.util.Map<String, String> okapiHeaders,
     io.vertx.core.Handler<io.vertx.core.AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    PgUtil.getById(ITEM_TABLE, Item.class, itemId, okapiHeaders, vertxContext,
-      GetItemStorageItemsByItemIdResponse.class, asyncResultHandler);
+    ConditionalGet.get(new ItemRepository(vertxContext, okapiHeaders), itemId, ifNoneMatch, Item::getVersion,
+        GetItemStorageItemsByItemIdResponse::respond200WithApplicationJson,
+        () -> GetItemStorageItemsByItemIdResponse.respond404WithTextPlain("Not found"))
+      .onComplete(EndpointHandler.handle(asyncResultHandler));
   }
 
   @Validate
@@ -91,4 +122,16 @@ public class ItemStorageApi implements ItemStorage {
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
+
+  @Validate
+  @Override
+  public void putItemStorageItemsStatusByItemId(String itemId, ItemStatusUpdate entity,
+                                                Map<String, String> okapiHeaders,
+                                                Handler<AsyncResult<Response>> asyncResultHandler,
+                                                Context vertxContext) {
+
+    new ItemService(vertxContext, okapiHeaders).updateItemStatus(itemId, entity)
+      .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
+      .onFailure(handleFailure(asyncResultHandler));
+  }
 }
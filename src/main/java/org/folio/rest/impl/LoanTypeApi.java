@@ -14,6 +14,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.FieldException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.Loantype;
 import org.folio.rest.jaxrs.model.Loantypes;
@@ -50,9 +51,9 @@ public class LoanTypeApi implements org.folio.rest.jaxrs.resource.LoanTypes {
     vertxContext.runOnContext(v -> {
       try {
         CQLWrapper cql = getCql(query, limit, offset);
-        getPostgresClient(vertxContext, okapiHeaders).get(LOAN_TYPE_TABLE, Loantype.class,
-          new String[] {"*"}, cql, true, true,
-          reply -> {
+        TotalRecords.get(getPostgresClient(vertxContext, okapiHeaders),
+          LOAN_TYPE_TABLE, Loantype.class, cql, totalRecords)
+          .onComplete(reply -> {
             try {
               if (reply.succeeded()) {
                 Loantypes loantypes = new Loantypes();
@@ -19,7 +19,7 @@ public class LocationApi implements org.folio.rest.jaxrs.resource.Locations {
   public void getLocations(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders,
                            Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    new LocationService(vertxContext, okapiHeaders).getByQuery(query, offset, limit)
+    new LocationService(vertxContext, okapiHeaders).getByQuery(query, totalRecords, offset, limit)
       .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
       .onFailure(handleFailure(asyncResultHandler));
   }
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import javax.ws.rs.core.Response;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.Loccamp;
 import org.folio.rest.jaxrs.model.Loccamps;
@@ -47,9 +48,9 @@ public class LocationUnitApi implements LocationUnits {
           .respond500WithTextPlain(message)));
       return;
     }
-    PostgresClient.getInstance(vertxContext.owner(), tenantId)
-      .get(INSTITUTION_TABLE, Locinst.class, new String[] {"*"},
-        cql, true, true, reply -> {
+    TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+      INSTITUTION_TABLE, Locinst.class, cql, totalRecords)
+      .onComplete(reply -> {
           if (reply.failed()) {
             String message = StorageHelper.logAndSaveError(reply.cause());
             asyncResultHandler.handle(Future.succeededFuture(
@@ -182,9 +183,9 @@ public class LocationUnitApi implements LocationUnits {
           .respond500WithTextPlain(message)));
       return;
     }
-    PostgresClient.getInstance(vertxContext.owner(), tenantId)
-      .get(CAMPUS_TABLE, Loccamp.class, new String[] {"*"},
-        cql, true, true, reply -> {
+    TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+      CAMPUS_TABLE, Loccamp.class, cql, totalRecords)
+      .onComplete(reply -> {
           if (reply.failed()) {
             String message = StorageHelper.logAndSaveError(reply.cause());
             asyncResultHandler.handle(Future.succeededFuture(
@@ -314,9 +315,9 @@ public class LocationUnitApi implements LocationUnits {
           .respond500WithTextPlain(message)));
       return;
     }
-    PostgresClient.getInstance(vertxContext.owner(), tenantId)
-      .get(LIBRARY_TABLE, Loclib.class, new String[] {"*"},
-        cql, true, true, reply -> {
+    TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+      LIBRARY_TABLE, Loclib.class, cql, totalRecords)
+      .onComplete(reply -> {
           if (reply.failed()) {
             String message = StorageHelper.logAndSaveError(reply.cause());
             asyncResultHandler.handle(Future.succeededFuture(
@@ -5,6 +5,7 @@ import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import javax.ws.rs.core.Response;
 import org.folio.rest.annotations.Validate;
@@ -13,9 +14,13 @@ import org.folio.rest.jaxrs.resource.OaiPmhView;
 
 public class OaiPmhViewInstancesApi extends AbstractInstanceRecordsApi implements OaiPmhView {
 
-  private static final String SQL = "select * from pmh_view_function($1,$2,$3,$4);";
-  private static final String SQL_UPDATED_INSTANCES_IDS = "select * from pmh_get_updated_instances_ids($1,$2,$3,$4);";
-  private static final String SQL_INSTANCES = "select * from pmh_instance_view_function($1,$2);";
+  private static final String SQL = "select instanceid, updateddate, deleted,"
+    + " itemsandholdingsfields::text AS itemsandholdingsfields from pmh_view_function($1,$2,$3,$4);";
+  private static final String SQL_UPDATED_INSTANCES_IDS =
+    "select * from pmh_get_updated_instances_ids($1,$2,$3,$4,$5);";
+  private static final String SQL_INSTANCES = "select instanceid,"
+    + " itemsandholdingsfields::text AS itemsandholdingsfields from pmh_instance_view_function($1,$2);";
+  private static final Set<String> JSON_TEXT_COLUMNS = Set.of("itemsandholdingsfields");
 
   @Validate
   @Override
@@ -24,7 +29,7 @@ public class OaiPmhViewInstancesApi extends AbstractInstanceRecordsApi implement
                                      RoutingContext routingContext, Map<String, String> okapiHeaders,
                                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    fetchRecordsByQuery(SQL,
+    fetchRecordsByQuery(SQL, JSON_TEXT_COLUMNS,
       () -> createPostgresParams(startDate, endDate, deletedRecordSupport, skipSuppressedFromDiscoveryRecords),
       routingContext, okapiHeaders, asyncResultHandler, vertxContext
     );
@@ -33,12 +38,12 @@ public class OaiPmhViewInstancesApi extends AbstractInstanceRecordsApi implement
   @Validate
   @Override
   public void getOaiPmhViewUpdatedInstanceIds(String startDate, String endDate, boolean deletedRecordSupport,
-                                              boolean skipSuppressedFromDiscoveryRecords,
+                                              boolean skipSuppressedFromDiscoveryRecords, String resumptionToken,
                                               RoutingContext routingContext,
                                               Map<String, String> okapiHeaders,
                                               Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    fetchRecordsByQuery(SQL_UPDATED_INSTANCES_IDS,
+    fetchRecordsByQueryInChunks(SQL_UPDATED_INSTANCES_IDS, "instanceid", resumptionToken,
       () -> createPostgresParams(startDate, endDate, deletedRecordSupport, skipSuppressedFromDiscoveryRecords),
       routingContext, okapiHeaders, asyncResultHandler, vertxContext
     );
@@ -52,7 +57,7 @@ public class OaiPmhViewInstancesApi extends AbstractInstanceRecordsApi implement
 
     UUID[] ids = entity.getInstanceIds().stream().map(UUID::fromString).toArray(UUID[]::new);
 
-    fetchRecordsByQuery(SQL_INSTANCES,
+    fetchRecordsByQuery(SQL_INSTANCES, JSON_TEXT_COLUMNS,
       () -> createPostgresParams(ids, entity.getSkipSuppressedFromDiscoveryRecords()),
       routingContext, okapiHeaders, asyncResultHandler, vertxContext
     );
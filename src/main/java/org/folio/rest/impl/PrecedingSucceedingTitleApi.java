@@ -15,6 +15,7 @@ import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.PrecedingSucceedingTitle;
 import org.folio.rest.jaxrs.model.PrecedingSucceedingTitles;
 import org.folio.rest.persist.PgUtil;
+import org.folio.rest.support.CollectionGet;
 import org.folio.rest.tools.utils.MetadataUtil;
 import org.folio.rest.tools.utils.ValidationHelper;
 
@@ -27,9 +28,9 @@ public class PrecedingSucceedingTitleApi implements org.folio.rest.jaxrs.resourc
   public void getPrecedingSucceedingTitles(String totalRecords, int offset, int limit, String query,
                                            Map<String, String> okapiHeaders,
                                            Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    PgUtil.get(PRECEDING_SUCCEEDING_TITLE_TABLE, PrecedingSucceedingTitle.class, PrecedingSucceedingTitles.class, query,
-      offset, limit,
-      okapiHeaders, vertxContext, GetPrecedingSucceedingTitlesResponse.class, asyncResultHandler);
+    CollectionGet.get(PRECEDING_SUCCEEDING_TITLE_TABLE, PrecedingSucceedingTitle.class, PrecedingSucceedingTitles.class,
+      query, totalRecords, offset, limit, okapiHeaders, vertxContext, GetPrecedingSucceedingTitlesResponse.class,
+      asyncResultHandler);
   }
 
   @Validate
@@ -0,0 +1,104 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.persist.AbstractRepository;
+import org.folio.persist.ProjectedQuery;
+import org.folio.persist.TotalRecords;
+import org.folio.rest.persist.PgUtil;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.EndpointFailureHandler;
+
+/**
+ * Streams the records of a collection GET as collection response, the query of the repository returns the
+ * JSON text of each record, e.g. projected to the requested fields.
+ *
+ * <p>The rows are written with {@link RowJsonWriter} while they are fetched, the page is not buffered. The
+ * records are counted after the last row, totalRecords is the last property of the response like in the
+ * responses of {@link PgUtil#streamGet}. No count query runs if the page is not full.
+ */
+final class ProjectedCollection {
+  private static final Logger LOG = LogManager.getLogger(ProjectedCollection.class);
+
+  private ProjectedCollection() {
+  }
+
+  /**
+   * Streams the records.
+   *
+   * @param fields         - comma separated property paths of the record class, null or blank for the whole
+   *                         records
+   * @param totalRecords   - exact, estimated or none, see {@link TotalRecords}
+   * @param collectionName - name of the array property of the response
+   */
+  static void stream(AbstractRepository<?> repository, String fields, String query, int offset, int limit,
+                     String totalRecords, String collectionName, RoutingContext routingContext,
+                     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+                     Context vertxContext) {
+
+    try {
+      TotalRecords.normalize(totalRecords);
+    } catch (Exception e) {
+      EndpointFailureHandler.handleFailure(asyncResultHandler).handle(e);
+      return;
+    }
+    repository.getProjectedQuery(fields, query, offset, limit)
+      .onFailure(EndpointFailureHandler.handleFailure(asyncResultHandler))
+      .onSuccess(projectedQuery -> stream(projectedQuery, offset, limit, totalRecords, collectionName,
+        routingContext, okapiHeaders, asyncResultHandler, vertxContext));
+  }
+
+  private static void stream(ProjectedQuery query, int offset, int limit, String totalRecords, String collectionName,
+                             RoutingContext routingContext, Map<String, String> okapiHeaders,
+                             Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    HttpServerResponse response = routingContext.response();
+    response.setChunked(true);
+    response.putHeader("Content-Type", "application/json");
+
+    PostgresClient postgresClient = PgUtil.postgresClient(vertxContext, okapiHeaders);
+    ConnectionErrorHandler handleError = new ConnectionErrorHandler(postgresClient);
+    RowJsonWriter writer = new RowJsonWriter(response);
+    writer.append("{\"" + collectionName + "\":[\n");
+
+    postgresClient.startTx(tx -> postgresClient.selectStream(tx, query.sql(), Tuple.tuple(), ar -> {
+      if (ar.failed()) {
+        handleError.writeErrorAndCloseConn(ar.cause(), tx, response, asyncResultHandler);
+        return;
+      }
+
+      RowStream<Row> rowStream = ar.result();
+      rowStream
+        .exceptionHandler(e -> handleError.writeErrorAndCloseConn(e, tx, response, asyncResultHandler))
+        .endHandler(end -> TotalRecords.count(postgresClient, query.tableName(), query.whereClause(), totalRecords,
+            offset, limit, writer.getArrayElements())
+          .onFailure(e -> handleError.writeErrorAndCloseConn(e, tx, response, asyncResultHandler))
+          .onSuccess(count -> postgresClient.endTx(tx, h -> {
+            if (h.failed()) {
+              handleError.writeErrorAndCloseConn(h.cause(), tx, response, asyncResultHandler);
+              return;
+            }
+            LOG.debug("stream:: {} {} streamed, totalRecords {}", writer.getArrayElements(), collectionName, count);
+            writer.append(count == null ? "\n]}" : "\n],\"totalRecords\":" + count + "}");
+            writer.flush();
+            response.end();
+          })))
+        .handler(row -> {
+          if (writer.writeArrayElement(row) && response.writeQueueFull()) {
+            rowStream.pause();
+          }
+        });
+      response.drainHandler(drain -> rowStream.resume());
+    }));
+  }
+}
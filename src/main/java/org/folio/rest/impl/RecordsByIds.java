@@ -0,0 +1,87 @@
+package org.folio.rest.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.ws.rs.core.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PgUtil;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.PostgresClientFuturized;
+
+/**
+ * Streams the records with the given ids as collection response, in the order of the ids.
+ *
+ * <p>The ids are a single uuid array parameter of a prepared statement that joins the table with the
+ * unnested array, so the statement does not grow with the number of ids like a CQL query with an OR per id.
+ * Ids without record are skipped, a repeated id returns the record for each occurrence. The records are written
+ * with {@link RowJsonWriter} while they are fetched.
+ */
+final class RecordsByIds {
+  private static final Logger LOG = LogManager.getLogger(RecordsByIds.class);
+
+  private RecordsByIds() {
+  }
+
+  /**
+   * Streams the records.
+   *
+   * @param table          - table of the records
+   * @param collectionName - name of the array property of the response
+   * @param ids            - record ids
+   */
+  static void stream(String table, String collectionName, List<String> ids, RoutingContext routingContext,
+                     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+                     Context vertxContext) {
+
+    HttpServerResponse response = routingContext.response();
+    response.setChunked(true);
+    response.putHeader("Content-Type", "application/json");
+
+    PostgresClient postgresClient = PgUtil.postgresClient(vertxContext, okapiHeaders);
+    ConnectionErrorHandler handleError = new ConnectionErrorHandler(postgresClient);
+    String sql = "SELECT records.jsonb::text"
+      + " FROM unnest($1::uuid[]) WITH ORDINALITY AS ids(id, ordinality)"
+      + " JOIN " + new PostgresClientFuturized(postgresClient).getFullTableName(table) + " AS records USING (id)"
+      + " ORDER BY ids.ordinality";
+    Tuple params = Tuple.tuple().addArrayOfUUID(ids.stream().map(UUID::fromString).toArray(UUID[]::new));
+    RowJsonWriter writer = new RowJsonWriter(response);
+    writer.append("{\"" + collectionName + "\":[\n");
+
+    postgresClient.startTx(tx -> postgresClient.selectStream(tx, sql, params, ar -> {
+      if (ar.failed()) {
+        handleError.writeErrorAndCloseConn(ar.cause(), tx, response, asyncResultHandler);
+        return;
+      }
+
+      RowStream<Row> rowStream = ar.result();
+      rowStream
+        .exceptionHandler(e -> handleError.writeErrorAndCloseConn(e, tx, response, asyncResultHandler))
+        .endHandler(end -> postgresClient.endTx(tx, h -> {
+          if (h.failed()) {
+            handleError.writeErrorAndCloseConn(h.cause(), tx, response, asyncResultHandler);
+            return;
+          }
+          LOG.debug("stream:: {} of {} {} found", writer.getArrayElements(), ids.size(), collectionName);
+          writer.append("\n],\"totalRecords\":" + writer.getArrayElements() + "}");
+          writer.flush();
+          response.end();
+        }))
+        .handler(row -> {
+          if (writer.writeArrayElement(row) && response.writeQueueFull()) {
+            rowStream.pause();
+          }
+        });
+      response.drainHandler(drain -> rowStream.resume());
+    }));
+  }
+}
@@ -1,7 +1,6 @@
 package org.folio.rest.impl;
 
 import static org.folio.persist.ReindexJobRepository.INSTANCE_REINDEX_JOBS_QUERY;
-import static org.folio.rest.persist.PgUtil.get;
 import static org.folio.rest.persist.PgUtil.getById;
 
 import io.vertx.core.AsyncResult;
@@ -16,6 +15,7 @@ import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.ReindexJob;
 import org.folio.rest.jaxrs.model.ReindexJobs;
 import org.folio.rest.jaxrs.resource.InstanceStorageReindex;
+import org.folio.rest.support.CollectionGet;
 import org.folio.services.reindex.ReindexService;
 
 public class ReindexInstanceApi implements InstanceStorageReindex {
@@ -43,8 +43,8 @@ public class ReindexInstanceApi implements InstanceStorageReindex {
     var searchQuery = Objects.isNull(query) ? INSTANCE_REINDEX_JOBS_QUERY :
       INSTANCE_REINDEX_JOBS_QUERY + " and (" + query + ")";
 
-    get(ReindexJobRepository.TABLE_NAME, ReindexJob.class, ReindexJobs.class,
-      searchQuery, offset, limit, okapiHeaders, vertxContext,
+    CollectionGet.get(ReindexJobRepository.TABLE_NAME, ReindexJob.class, ReindexJobs.class,
+      searchQuery, totalRecords, offset, limit, okapiHeaders, vertxContext,
       GetInstanceStorageReindexResponse.class, asyncResultHandler);
   }
 
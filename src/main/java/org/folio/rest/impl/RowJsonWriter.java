@@ -0,0 +1,145 @@
+package org.folio.rest.impl;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import java.util.Set;
+
+/**
+ * Writes rows to a chunked response as concatenated JSON objects, one per row, or as elements of a JSON array
+ * if the query returns each record as JSON text.
+ *
+ * <p>Each row is appended directly to a reusable buffer without creating a JsonObject for it, the buffer
+ * is written to the response once it reaches {@code stream.write.buffer.size} characters, so that a write
+ * carries many rows. JSON columns the query selects as text (e.g. {@code holdings::text AS holdings}) are
+ * appended as they are, without decoding and encoding them again.
+ */
+final class RowJsonWriter {
+  private static final String BUFFER_SIZE_PARAM = "stream.write.buffer.size";
+  private static final String DEFAULT_BUFFER_SIZE = "16384";
+  private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+
+  private final HttpServerResponse response;
+  private final int bufferSize;
+  private final StringBuilder buffer;
+  private final Set<String> jsonTextColumns;
+  private int arrayElements;
+
+  RowJsonWriter(HttpServerResponse response) {
+    this(response, Set.of());
+  }
+
+  /**
+   * @param jsonTextColumns - names of the columns with JSON text
+   */
+  RowJsonWriter(HttpServerResponse response, Set<String> jsonTextColumns) {
+    this.response = response;
+    this.jsonTextColumns = jsonTextColumns;
+    this.bufferSize = Integer.parseInt(System.getProperty(BUFFER_SIZE_PARAM, DEFAULT_BUFFER_SIZE));
+    this.buffer = new StringBuilder(Math.max(bufferSize, 0) + 1024);
+  }
+
+  /**
+   * Appends the row, writes the buffer to the response if it is full.
+   *
+   * @return true if the buffer was written to the response
+   */
+  boolean write(Row row) {
+    appendRow(row, jsonTextColumns, buffer);
+    return flushIfFull();
+  }
+
+  /**
+   * Appends the JSON text of the first column of the row as array element, separated from the previous
+   * element by a comma, writes the buffer to the response if it is full.
+   *
+   * @return true if the buffer was written to the response
+   */
+  boolean writeArrayElement(Row row) {
+    if (arrayElements > 0) {
+      buffer.append(",\n");
+    }
+    arrayElements++;
+    buffer.append(row.getString(0));
+    return flushIfFull();
+  }
+
+  /**
+   * Number of array elements written by {@link #writeArrayElement}.
+   */
+  int getArrayElements() {
+    return arrayElements;
+  }
+
+  /**
+   * Appends the text as it is, e.g. the start or the end of the JSON document around the array elements.
+   */
+  void append(String text) {
+    buffer.append(text);
+  }
+
+  /**
+   * Writes the buffered rows to the response.
+   */
+  void flush() {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    response.write(buffer.toString());
+    buffer.setLength(0);
+  }
+
+  private boolean flushIfFull() {
+    if (buffer.length() < bufferSize) {
+      return false;
+    }
+    flush();
+    return true;
+  }
+
+  /**
+   * Appends the row as JSON object with a property per column. A null value is written as empty string,
+   * JSON text columns and JSON values as they are and other values as string.
+   */
+  static void appendRow(Row row, Set<String> jsonTextColumns, StringBuilder json) {
+    if (row == null) {
+      return;
+    }
+    json.append('{');
+    for (int i = 0; i < row.size(); i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      String column = row.getColumnName(i);
+      appendString(column, json);
+      json.append(':');
+      Object value = row.getValue(i);
+      if (value != null && jsonTextColumns.contains(column)) {
+        json.append(value);
+      } else {
+        appendValue(value, json);
+      }
+    }
+    json.append('}');
+  }
+
+  private static void appendValue(Object value, StringBuilder json) {
+    if (value == null) {
+      json.append("\"\"");
+    } else if (value instanceof JsonObject jsonObject) {
+      json.append(jsonObject.encode());
+    } else if (value instanceof JsonArray jsonArray) {
+      json.append(jsonArray.encode());
+    } else {
+      appendString(value.toString(), json);
+    }
+  }
+
+  private static void appendString(String value, StringBuilder json) {
+    json.append('"');
+    ENCODER.quoteAsString(value, json);
+    json.append('"');
+  }
+}
@@ -20,6 +20,7 @@ import org.folio.rest.jaxrs.model.Servicepoint;
 import org.folio.rest.jaxrs.model.Servicepoints;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.CollectionGet;
 import org.folio.rest.tools.utils.TenantTool;
 import org.folio.rest.tools.utils.ValidationHelper;
 import org.folio.services.servicepoint.ServicePointService;
@@ -40,8 +41,8 @@ public class ServicePointApi implements org.folio.rest.jaxrs.resource.ServicePoi
                                Handler<AsyncResult<Response>> asyncResultHandler,
                                Context vertxContext) {
 
-    PgUtil.get(SERVICE_POINT_TABLE, Servicepoint.class, Servicepoints.class,
-      query, offset, limit, okapiHeaders, vertxContext, GetServicePointsResponse.class, asyncResultHandler);
+    CollectionGet.get(SERVICE_POINT_TABLE, Servicepoint.class, Servicepoints.class, query, totalRecords, offset, limit,
+      okapiHeaders, vertxContext, GetServicePointsResponse.class, asyncResultHandler);
   }
 
   @Validate
@@ -15,6 +15,7 @@ import org.folio.rest.jaxrs.model.ServicePointsUser;
 import org.folio.rest.jaxrs.model.ServicePointsUsers;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.CollectionGet;
 
 public class ServicePointsUserApi implements org.folio.rest.jaxrs.resource.ServicePointsUsers {
   private static final Logger logger = LogManager.getLogger();
@@ -26,9 +27,8 @@ public class ServicePointsUserApi implements org.folio.rest.jaxrs.resource.Servi
                                     Map<String, String> okapiHeaders,
                                     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    PgUtil.get(SERVICE_POINT_USER_TABLE, ServicePointsUser.class, ServicePointsUsers.class,
-      query, offset, limit, okapiHeaders, vertxContext, GetServicePointsUsersResponse.class,
-      asyncResultHandler);
+    CollectionGet.get(SERVICE_POINT_USER_TABLE, ServicePointsUser.class, ServicePointsUsers.class, query, totalRecords,
+      offset, limit, okapiHeaders, vertxContext, GetServicePointsUsersResponse.class, asyncResultHandler);
   }
 
   @Validate
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.NotImplementedException;
+import org.folio.persist.TotalRecords;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.Location;
 import org.folio.rest.jaxrs.model.Shelflocation;
@@ -46,10 +47,9 @@ public class ShelfLocationApi implements ShelfLocations {
     try {
       String tenantId = TenantTool.tenantId(okapiHeaders);
       CQLWrapper cql = getCql(query, limit, offset, LOCATION_TABLE);
-      PostgresClient.getInstance(vertxContext.owner(), tenantId)
-        .get(
-          LOCATION_TABLE, Location.class, new String[] {"*"},
-          cql, true, true, reply -> {
+      TotalRecords.get(PostgresClient.getInstance(vertxContext.owner(), tenantId),
+        LOCATION_TABLE, Location.class, cql, totalRecords)
+        .onComplete(reply -> {
             try {
               if (reply.failed()) {
                 String message = logAndSaveError(reply.cause());
@@ -1,5 +1,7 @@
 package org.folio.rest.impl;
 
+import static org.folio.rest.RestVerticle.MODULE_SPECIFIC_ARGS;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
@@ -18,12 +20,22 @@ public final class StorageHelper {
    */
   public static final int MAX_ENTITIES = 10000;
 
+  private static final String PARALLEL_DB_CONNECTIONS_LIMIT_KEY = "inventory.storage.parallel.db.connections.limit";
+
   private static final Logger logger = LogManager.getLogger();
 
   private StorageHelper() {
     throw new UnsupportedOperationException("Cannot instantiate utility class");
   }
 
+  /**
+   * Number of db connections a single request may use in parallel, 4 by default,
+   * the "inventory.storage.parallel.db.connections.limit" module argument overrides it.
+   */
+  public static int getParallelDbConnectionsLimit() {
+    return Integer.parseInt(MODULE_SPECIFIC_ARGS.getOrDefault(PARALLEL_DB_CONNECTIONS_LIMIT_KEY, "4"));
+  }
+
   public static String logAndSaveError(Throwable err) {
     String message = err.getLocalizedMessage();
     logger.error(message, err);
@@ -13,9 +13,11 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import javax.ws.rs.core.Response;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
@@ -23,11 +25,14 @@ import org.apache.logging.log4j.Logger;
 import org.folio.InventoryKafkaTopic;
 import org.folio.dbschema.Versioned;
 import org.folio.kafka.services.KafkaAdminClientService;
+import org.folio.kafka.services.KafkaTopic;
 import org.folio.okapi.common.GenericCompositeFuture;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.jaxrs.model.TenantAttributes;
 import org.folio.rest.tools.utils.TenantLoading;
+import org.folio.services.domainevent.DeltaKafkaTopic;
 import org.folio.services.migration.BaseMigrationService;
+import org.folio.services.migration.async.InventoryViewMigrationService;
 import org.folio.services.migration.item.ItemShelvingOrderMigrationService;
 
 public class TenantRefApi extends TenantAPI {
@@ -93,7 +98,7 @@ public class TenantRefApi extends TenantAPI {
                          Handler<AsyncResult<Response>> handler, Context context) {
     // delete Kafka topics if tenant purged
     Future<Void> result = tenantAttributes.getPurge() != null && tenantAttributes.getPurge()
-                          ? new KafkaAdminClientService(context.owner()).deleteKafkaTopics(InventoryKafkaTopic.values(),
+                          ? new KafkaAdminClientService(context.owner()).deleteKafkaTopics(kafkaTopics(),
       tenantId(headers))
                           : Future.succeededFuture();
     result.onComplete(x -> super.postTenant(tenantAttributes, headers, handler, context));
@@ -106,8 +111,9 @@ public class TenantRefApi extends TenantAPI {
 
     // create topics before loading data
     Future<Integer> future = new KafkaAdminClientService(vertxContext.owner())
-      .createKafkaTopics(InventoryKafkaTopic.values(), tenantId)
-      .compose(x -> super.loadData(attributes, tenantId, headers, vertxContext));
+      .createKafkaTopics(kafkaTopics(), tenantId)
+      .compose(x -> super.loadData(attributes, tenantId, headers, vertxContext))
+      .compose(n -> installInventoryViewTriggers(headers, vertxContext).map(n));
 
     if (isNew(attributes, "20.0.0")) {
       List<JsonObject> servicePoints = new LinkedList<>();
@@ -171,6 +177,26 @@ public class TenantRefApi extends TenantAPI {
       .map(result));
   }
 
+  /**
+   * Installs the triggers of the instance_holdings_item table if the table is enabled, before sample data is
+   * loaded. Otherwise the triggers are left as they are, they are installed by the inventoryViewMigration
+   * async migration before the table is enabled.
+   */
+  private Future<Void> installInventoryViewTriggers(Map<String, String> headers, Context vertxContext) {
+    if (!InventoryViewApi.isTableEnabled()) {
+      return Future.succeededFuture();
+    }
+    return new InventoryViewMigrationService(vertxContext, headers).setTriggers(true);
+  }
+
+  /**
+   * Returns the inventory topics and the companion topics of the topics configured for delta update events.
+   */
+  private static KafkaTopic[] kafkaTopics() {
+    return Stream.concat(Arrays.stream(InventoryKafkaTopic.values()), Arrays.stream(DeltaKafkaTopic.configured()))
+      .toArray(KafkaTopic[]::new);
+  }
+
   private Future<Void> runJavaMigrations(TenantAttributes ta, Context context,
                                          Map<String, String> okapiHeaders) {
 
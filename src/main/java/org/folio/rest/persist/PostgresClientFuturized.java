@@ -10,6 +10,7 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -76,6 +77,26 @@ public class PostgresClientFuturized {
     return result.future();
   }
 
+  public Future<Void> rollbackTx(SQLConnection connection) {
+    Promise<Void> result = promise();
+
+    postgresClient.rollbackTx(succeededFuture(connection), result);
+
+    return result.future();
+  }
+
+  public Future<RowSet<Row>> execute(String sql) {
+    return postgresClient.execute(sql);
+  }
+
+  public Future<RowSet<Row>> execute(SQLConnection connection, String sql, Tuple params) {
+    Promise<RowSet<Row>> result = promise();
+
+    postgresClient.execute(succeededFuture(connection), sql, params, result);
+
+    return result.future();
+  }
+
   public String getFullTableName(String tableName) {
     return convertToPsqlStandard(postgresClient.getTenantId()) + "." + tableName;
   }
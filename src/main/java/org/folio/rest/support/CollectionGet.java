@@ -0,0 +1,87 @@
+package org.folio.rest.support;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+import org.folio.persist.TotalRecords;
+import org.folio.rest.jaxrs.resource.support.ResponseDelegate;
+import org.folio.rest.persist.PgUtil;
+
+/**
+ * Collection GET like {@link PgUtil#get(String, Class, Class, String, int, int, Map, Context, Class)}
+ * that honors the totalRecords parameter, see {@link TotalRecords}.
+ */
+public final class CollectionGet {
+
+  private CollectionGet() {
+  }
+
+  /**
+   * Returns the records matching the CQL query as collection.
+   *
+   * @param table                 - table without schema
+   * @param clazz                 - class of the records
+   * @param collectionClazz       - class of the collection, it must have a list property for the records and
+   *                                a totalRecords property
+   * @param cql                   - CQL query, null for all records
+   * @param totalRecords          - exact, estimated or none, null for estimated
+   * @param responseDelegateClass - response class of the GET method
+   * @return response with status 200 and the collection, 400 for an invalid query or totalRecords, 500 otherwise
+   */
+  @SuppressWarnings("java:S107") // suppress "Methods should not have too many parameters"
+  public static <T, C> Future<Response> get(String table, Class<T> clazz, Class<C> collectionClazz, String cql,
+                                            String totalRecords, int offset, int limit,
+                                            Map<String, String> okapiHeaders, Context vertxContext,
+                                            Class<? extends ResponseDelegate> responseDelegateClass) {
+    try {
+      Method respond200 = responseDelegateClass.getMethod("respond200WithApplicationJson", collectionClazz);
+      Method setRecords = recordsSetter(collectionClazz);
+      Method setTotalRecords = collectionClazz.getMethod("setTotalRecords", Integer.class);
+
+      return TotalRecords.get(PgUtil.postgresClient(vertxContext, okapiHeaders), table, clazz, cql, offset, limit,
+          totalRecords)
+        .map(results -> {
+          try {
+            C collection = collectionClazz.getDeclaredConstructor().newInstance();
+            setRecords.invoke(collection, results.getResults());
+            setTotalRecords.invoke(collection, results.getResultInfo().getTotalRecords());
+            return (Response) respond200.invoke(null, collection);
+          } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+          }
+        })
+        .otherwise(EndpointFailureHandler::failureResponse);
+    } catch (Exception e) {
+      return Future.succeededFuture(EndpointFailureHandler.failureResponse(e));
+    }
+  }
+
+  /**
+   * Like {@link #get(String, Class, Class, String, String, int, int, Map, Context, Class)} but passes the
+   * response to the handler.
+   */
+  @SuppressWarnings("java:S107") // suppress "Methods should not have too many parameters"
+  public static <T, C> void get(String table, Class<T> clazz, Class<C> collectionClazz, String cql,
+                                String totalRecords, int offset, int limit, Map<String, String> okapiHeaders,
+                                Context vertxContext, Class<? extends ResponseDelegate> responseDelegateClass,
+                                Handler<AsyncResult<Response>> asyncResultHandler) {
+    get(table, clazz, collectionClazz, cql, totalRecords, offset, limit, okapiHeaders, vertxContext,
+      responseDelegateClass)
+      .onComplete(asyncResultHandler);
+  }
+
+  private static Method recordsSetter(Class<?> collectionClazz) throws NoSuchMethodException {
+    for (Method method : collectionClazz.getMethods()) {
+      if (method.getName().startsWith("set") && method.getParameterCount() == 1
+          && List.class.equals(method.getParameterTypes()[0])) {
+        return method;
+      }
+    }
+    throw new NoSuchMethodException(collectionClazz.getName() + " has no setter for a list of records");
+  }
+}
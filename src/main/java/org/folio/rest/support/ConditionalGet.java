@@ -0,0 +1,111 @@
+package org.folio.rest.support;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import io.vertx.core.Future;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.persist.AbstractRepository;
+import org.folio.util.UuidUtil;
+
+/**
+ * GET of a record by id with an ETag derived from the {@code _version} of the record.
+ *
+ * <p>If the request has an If-None-Match header, the version check and the fetch are a single statement that
+ * returns only the version if it matches, the response is then 304 Not Modified without the record.
+ */
+public final class ConditionalGet {
+  public static final String ETAG_HEADER = "ETag";
+  private static final String ANY_ETAG = "*";
+
+  private ConditionalGet() {
+  }
+
+  /**
+   * Gets the record.
+   *
+   * @param repository       - repository of the records
+   * @param id               - record id
+   * @param ifNoneMatch      - If-None-Match request header, null if not sent
+   * @param versionGetter    - returns the {@code _version} of a record
+   * @param okResponse       - creates the 200 response for a record
+   * @param notFoundResponse - creates the 404 response
+   * @return the response, with ETag header if the record has a version
+   */
+  public static <T> Future<Response> get(AbstractRepository<T> repository, String id, String ifNoneMatch,
+                                         Function<T, Integer> versionGetter, Function<T, Response> okResponse,
+                                         Supplier<Response> notFoundResponse) {
+
+    if (!UuidUtil.isUuid(id)) {
+      return succeededFuture(notFoundResponse.get());
+    }
+
+    if (ifNoneMatch == null) {
+      return repository.getById(id)
+        .map(entity -> entity == null ? notFoundResponse.get() : okResponse(entity, versionGetter, okResponse));
+    }
+
+    return repository.getByIdIfChanged(id, versions(ifNoneMatch), matchesAny(ifNoneMatch))
+      .map(versionedRecord -> {
+        if (versionedRecord == null) {
+          return notFoundResponse.get();
+        }
+        if (versionedRecord.entity() == null) {
+          return Response.notModified().header(ETAG_HEADER, etag(versionedRecord.version())).build();
+        }
+        return okResponse(versionedRecord.entity(), versionGetter, okResponse);
+      });
+  }
+
+  private static <T> Response okResponse(T entity, Function<T, Integer> versionGetter,
+                                         Function<T, Response> okResponse) {
+    Integer entityVersion = versionGetter.apply(entity);
+    Response response = okResponse.apply(entity);
+    if (entityVersion == null) {
+      return response;
+    }
+    return Response.fromResponse(response).header(ETAG_HEADER, etag(entityVersion)).build();
+  }
+
+  /**
+   * Returns the ETag of the version, a quoted string.
+   */
+  static String etag(int version) {
+    return "\"" + version + "\"";
+  }
+
+  /**
+   * Returns the versions of the ETags of the If-None-Match header, a comma separated list of ETags. The weak
+   * ETag W/"3" is version 3 like "3", ETags that are not a version are skipped.
+   */
+  static List<Integer> versions(String ifNoneMatch) {
+    List<Integer> versions = new ArrayList<>();
+    for (String tag : ifNoneMatch.split(",")) {
+      String etag = StringUtils.removeStart(tag.trim(), "W/");
+      if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+        try {
+          versions.add(Integer.valueOf(etag.substring(1, etag.length() - 1)));
+        } catch (NumberFormatException e) {
+          // not an ETag of this module
+        }
+      }
+    }
+    return versions;
+  }
+
+  /**
+   * Whether the If-None-Match header is * that matches any version.
+   */
+  static boolean matchesAny(String ifNoneMatch) {
+    for (String tag : ifNoneMatch.split(",")) {
+      if (tag.trim().equals(ANY_ETAG)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.rest.support;
 
+import org.apache.commons.lang3.StringUtils;
 import org.z3950.zing.cql.CQLNode;
 import org.z3950.zing.cql.CQLParser;
 import org.z3950.zing.cql.CQLTermNode;
@@ -29,4 +30,26 @@ public final class CqlQuery {
     // http://docs.oasis-open.org/search-ws/searchRetrieve/v1.0/os/part5-cql/searchRetrieve-v1.0-os-part5-cql.html#_Toc324166821
     return "cql.allRecords".equalsIgnoreCase(node.getIndex());
   }
+
+  /**
+   * Returns the term if {@code cqlQuery} is the single exact match {@code index==term} without relation
+   * modifiers and with a non-empty term without masking or escape characters, null otherwise.
+   */
+  public String getExactMatchTerm(String index) {
+    CQLNode cqlNode;
+    try {
+      cqlNode = new CQLParser().parse(cql);
+    } catch (Exception e) {
+      return null;
+    }
+    if (!(cqlNode instanceof CQLTermNode node)
+        || !index.equalsIgnoreCase(node.getIndex())
+        || !"==".equals(node.getRelation().getBase())
+        || !node.getRelation().getModifiers().isEmpty()
+        || node.getTerm().isEmpty()
+        || StringUtils.containsAny(node.getTerm(), '*', '?', '^', '\\')) {
+      return null;
+    }
+    return node.getTerm();
+  }
 }
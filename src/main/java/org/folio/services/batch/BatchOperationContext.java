@@ -7,13 +7,34 @@ import java.util.Collection;
 public final class BatchOperationContext<T> {
   private final Collection<T> recordsToBeCreated;
   /**
-   * Existing records from database, without update.
+   * Existing records from database, without update. When the old state is not captured,
+   * these are the records of the batch that update existing records.
    */
   private final Collection<T> existingRecords;
+  private final boolean oldStateCaptured;
 
   public BatchOperationContext(Collection<T> recordsToBeCreated, Collection<T> existingRecords) {
+    this(recordsToBeCreated, existingRecords, true);
+  }
+
+  private BatchOperationContext(Collection<T> recordsToBeCreated, Collection<T> existingRecords,
+                                boolean oldStateCaptured) {
+
     this.recordsToBeCreated = unmodifiableCollection(recordsToBeCreated);
     this.existingRecords = unmodifiableCollection(existingRecords);
+    this.oldStateCaptured = oldStateCaptured;
+  }
+
+  /**
+   * Creates the context without the old state of the records to be updated.
+   *
+   * @param recordsToBeCreated - records of the batch that do not exist yet
+   * @param recordsToBeUpdated - records of the batch that update existing records
+   */
+  public static <T> BatchOperationContext<T> withoutOldState(Collection<T> recordsToBeCreated,
+                                                             Collection<T> recordsToBeUpdated) {
+
+    return new BatchOperationContext<>(recordsToBeCreated, recordsToBeUpdated, false);
   }
 
   public Collection<T> getRecordsToBeCreated() {
@@ -23,4 +44,8 @@ public final class BatchOperationContext<T> {
   public Collection<T> getExistingRecords() {
     return existingRecords;
   }
+
+  public boolean isOldStateCaptured() {
+    return oldStateCaptured;
+  }
 }
@@ -6,25 +6,71 @@ import static java.util.stream.Collectors.toList;
 
 import io.vertx.core.Future;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 import org.folio.persist.AbstractRepository;
 
 public final class BatchOperationContextFactory {
+  /**
+   * When false, upserts do not fetch the existing records, update events are published without the old record.
+   */
+  static final String CAPTURE_OLD_STATE_PARAM = "batch.upsert.old-state.enabled";
+
   private BatchOperationContextFactory() { }
 
   public static <T> Future<BatchOperationContext<T>> buildBatchOperationContext(
     boolean upsert, List<T> all, AbstractRepository<T> repository, Function<T, String> idGetter) {
 
+    return buildBatchOperationContext(upsert, all, repository, idGetter,
+      Boolean.parseBoolean(System.getProperty(CAPTURE_OLD_STATE_PARAM, "true")));
+  }
+
+  /**
+   * Splits the batch into records to be created and records to be updated.
+   *
+   * <p>Only the ids are queried first, so that a batch of mostly new records does not fetch anything else.
+   * The existing records are fetched only for the ids that exist, and only if the old state is captured.
+   */
+  public static <T> Future<BatchOperationContext<T>> buildBatchOperationContext(
+    boolean upsert, List<T> all, AbstractRepository<T> repository, Function<T, String> idGetter,
+    boolean captureOldState) {
+
     if (!upsert) {
       return succeededFuture(new BatchOperationContext<>(all, emptyList()));
     }
 
-    return repository.getById(all, idGetter).map(found -> {
-      final var toBeCreated = all.stream()
-        .filter(entity -> !found.containsKey(idGetter.apply(entity)))
-        .collect(toList());
+    var ids = all.stream().map(idGetter).filter(Objects::nonNull).collect(toList());
+
+    return repository.getExistingIds(ids).compose(existingIds -> {
+      final var toBeCreated = filter(all, idGetter, existingIds, false);
 
-      return new BatchOperationContext<>(toBeCreated, found.values());
+      if (existingIds.isEmpty()) {
+        return succeededFuture(new BatchOperationContext<>(toBeCreated, emptyList()));
+      }
+      if (!captureOldState) {
+        return succeededFuture(BatchOperationContext.withoutOldState(toBeCreated,
+          filter(all, idGetter, existingIds, true)));
+      }
+
+      return repository.getById(existingIds)
+        .map(found -> new BatchOperationContext<>(toBeCreated, found.values()));
     });
   }
+
+  private static <T> List<T> filter(List<T> all, Function<T, String> idGetter, Set<String> existingIds,
+                                    boolean existing) {
+
+    return all.stream()
+      .filter(entity -> exists(idGetter.apply(entity), existingIds) == existing)
+      .collect(toList());
+  }
+
+  /**
+   * The payload may contain upper case ids, the existing ids are in canonical lower case.
+   */
+  private static boolean exists(String id, Set<String> existingIds) {
+    return id != null && existingIds.contains(UUID.fromString(id).toString());
+  }
 }
@@ -0,0 +1,72 @@
+package org.folio.services.batch;
+
+import io.vertx.core.Future;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.Level;
+
+/**
+ * Durations of the stages of a batch operation, for logging where the batch latency goes.
+ *
+ * <p>Only batches that take at least {@code batch.slow-threshold-ms} milliseconds (default 1000) are logged
+ * at INFO level, the others at DEBUG level, see {@link #getLogLevel()}.
+ */
+public final class BatchStageTimings {
+  private static final String SLOW_THRESHOLD_PARAM = "batch.slow-threshold-ms";
+  private static final String DEFAULT_SLOW_THRESHOLD = "1000";
+
+  private final long startTime = System.nanoTime();
+  private final Map<String, Long> stageMillis = new ConcurrentHashMap<>();
+  private final long slowThresholdMillis;
+
+  public BatchStageTimings() {
+    this(Long.parseLong(System.getProperty(SLOW_THRESHOLD_PARAM, DEFAULT_SLOW_THRESHOLD)));
+  }
+
+  BatchStageTimings(long slowThresholdMillis) {
+    this.slowThresholdMillis = slowThresholdMillis;
+  }
+
+  /**
+   * Starts the stage and records its duration once the returned future completes, successfully or not.
+   *
+   * @param stage - stage name
+   * @param stageSupplier - starts the stage
+   * @return future of the stage
+   */
+  public <T> Future<T> time(String stage, Supplier<Future<T>> stageSupplier) {
+    long stageStartTime = System.nanoTime();
+    return stageSupplier.get()
+      .onComplete(ar -> stageMillis.put(stage, elapsedMillis(stageStartTime)));
+  }
+
+  public Long getStageMillis(String stage) {
+    return stageMillis.get(stage);
+  }
+
+  public long getTotalMillis() {
+    return elapsedMillis(startTime);
+  }
+
+  /**
+   * Returns INFO if the batch took at least the slow threshold so far, DEBUG otherwise.
+   */
+  public Level getLogLevel() {
+    return getTotalMillis() >= slowThresholdMillis ? Level.INFO : Level.DEBUG;
+  }
+
+  @Override
+  public String toString() {
+    return stageMillis.entrySet().stream()
+      .sorted(Map.Entry.comparingByKey())
+      .map(entry -> entry.getKey() + ": " + entry.getValue() + " ms")
+      .collect(Collectors.joining(", ", "total: " + getTotalMillis() + " ms, ", ""));
+  }
+
+  private static long elapsedMillis(long fromNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fromNanos);
+  }
+}
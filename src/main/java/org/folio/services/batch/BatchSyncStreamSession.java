@@ -0,0 +1,93 @@
+package org.folio.services.batch;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import io.vertx.core.Future;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.ws.rs.core.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.BatchSyncStreamError;
+import org.folio.rest.jaxrs.model.BatchSyncStreamResponse;
+import org.folio.rest.jaxrs.model.Error;
+
+/**
+ * Synchronous batch create or update of records streamed as newline delimited JSON.
+ *
+ * <p>Each batch is written with the regular batch API logic (all or nothing). If a batch fails, its records
+ * are written one by one, so that the outcome of each record is known. Records that violate their JSON schema
+ * or cannot be parsed are reported as failed without being written. Only the failed records are kept for
+ * the response, the response size depends on the number of failures, not on the size of the stream.
+ */
+public class BatchSyncStreamSession<T> extends NdjsonStreamSession<T, BatchSyncStreamResponse> {
+  private static final Logger LOG = LogManager.getLogger(BatchSyncStreamSession.class);
+  private static final String BATCH_SIZE_PARAM = "batch.synchronous.stream.batch.size";
+  private static final String DEFAULT_BATCH_SIZE = "500";
+
+  private final FallbackBatchWriter<ParsedRecord<T>> writer;
+  private final Function<T, String> idGetter;
+  private final List<BatchSyncStreamError> errors = new ArrayList<>();
+  private int recordsSucceeded;
+
+  /**
+   * Creates the session.
+   *
+   * @param recordType  - class of the records
+   * @param batchWriter - creates or updates a batch of records, responds with 201 on success
+   * @param idGetter    - returns id of a record
+   */
+  public BatchSyncStreamSession(Class<T> recordType, Function<List<T>, Future<Response>> batchWriter,
+                                Function<T, String> idGetter) {
+
+    super(recordType, Integer.parseInt(System.getProperty(BATCH_SIZE_PARAM, DEFAULT_BATCH_SIZE)), succeededFuture());
+    this.writer = new FallbackBatchWriter<>(
+      records -> batchWriter.apply(records.stream().map(ParsedRecord::value).toList()));
+    this.idGetter = idGetter;
+  }
+
+  @Override
+  protected Future<Void> processBatch(List<ParsedRecord<T>> records) {
+    return writer.write(records).map(failures -> {
+      recordsSucceeded += records.size() - failures.size();
+      failures.forEach(failure ->
+        addError(failure.element().line(), idGetter.apply(failure.element().value()), failure.message()));
+      return null;
+    });
+  }
+
+  @Override
+  protected void handleInvalidRecord(ParsedRecord<T> rec, List<Error> recordErrors) {
+    addError(rec.line(), idGetter.apply(rec.value()), recordErrors.stream()
+      .map(error -> error.getParameters().get(0).getKey() + " " + error.getMessage())
+      .collect(Collectors.joining("; ")));
+  }
+
+  @Override
+  protected void handleParsingError(long line, Exception e) {
+    addError(line, null, "Cannot parse record: " + e.getMessage());
+  }
+
+  @Override
+  protected Future<BatchSyncStreamResponse> finish() {
+    errors.sort(Comparator.comparing(BatchSyncStreamError::getLine));
+    LOG.info("finish:: Stream of {} records processed, succeeded: {}, failed: {}", recordType.getSimpleName(),
+      recordsSucceeded, errors.size());
+
+    return succeededFuture(new BatchSyncStreamResponse()
+      .withRecordsProcessed(recordsSucceeded + errors.size())
+      .withRecordsSucceeded(recordsSucceeded)
+      .withRecordsFailed(errors.size())
+      .withErrors(errors));
+  }
+
+  private void addError(long line, String id, String message) {
+    errors.add(new BatchSyncStreamError()
+      .withLine(Math.toIntExact(line))
+      .withId(id)
+      .withMessage(message));
+  }
+}
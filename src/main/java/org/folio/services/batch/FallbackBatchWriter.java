@@ -0,0 +1,90 @@
+package org.folio.services.batch;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.support.ResponseUtil.isCreateSuccessResponse;
+
+import io.vertx.core.Future;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import javax.ws.rs.core.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.Errors;
+
+/**
+ * Writes records with the regular batch API logic (all or nothing); if the batch fails, its records are
+ * written one by one, so that the outcome of each record is known.
+ *
+ * @param <E> - type of the elements, the record or a wrapper of it
+ */
+class FallbackBatchWriter<E> {
+  private static final Logger LOG = LogManager.getLogger(FallbackBatchWriter.class);
+
+  private final Function<List<E>, Future<Response>> batchWriter;
+
+  /**
+   * Creates the writer.
+   *
+   * @param batchWriter - creates or updates a batch of records, responds with 201 on success
+   */
+  FallbackBatchWriter(Function<List<E>, Future<Response>> batchWriter) {
+    this.batchWriter = batchWriter;
+  }
+
+  /**
+   * Writes the elements as a single batch, if the batch fails the elements are written one by one.
+   *
+   * @return the elements that failed with their error message, empty if all succeeded
+   */
+  Future<List<FailedElement<E>>> write(List<E> elements) {
+    return tryWrite(elements).compose(error -> {
+      if (error.isEmpty()) {
+        return succeededFuture(List.of());
+      }
+      if (elements.size() == 1) {
+        return succeededFuture(List.of(new FailedElement<>(elements.get(0), error.get())));
+      }
+
+      LOG.debug("write:: Batch of {} records failed, writing the records one by one", elements.size());
+      List<FailedElement<E>> failures = new ArrayList<>();
+      Future<Void> future = succeededFuture();
+      for (E element : elements) {
+        future = future.compose(notUsed -> tryWrite(List.of(element))
+          .map(elementError -> {
+            elementError.ifPresent(message -> failures.add(new FailedElement<>(element, message)));
+            return null;
+          }));
+      }
+      return future.map(failures);
+    });
+  }
+
+  /**
+   * Writes the elements, returns the error message if the write failed.
+   */
+  private Future<Optional<String>> tryWrite(List<E> elements) {
+    return batchWriter.apply(elements)
+      .map(response -> isCreateSuccessResponse(response)
+        ? Optional.<String>empty()
+        : Optional.of(getErrorMessage(response)))
+      .otherwise(e -> Optional.of(String.valueOf(e.getMessage())));
+  }
+
+  private static String getErrorMessage(Response response) {
+    if (response.getEntity() instanceof Errors responseErrors && !responseErrors.getErrors().isEmpty()) {
+      return responseErrors.getErrors().get(0).getMessage();
+    }
+    return String.valueOf(response.getEntity());
+  }
+
+  /**
+   * Element that failed to be written.
+   *
+   * @param element - the element
+   * @param message - the error message
+   */
+  record FailedElement<E>(E element, String message) {
+  }
+}
@@ -0,0 +1,335 @@
+package org.folio.services.batch;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.dbschema.ObjectMapperTool.readValue;
+import static org.folio.rest.RestVerticle.STREAM_ABORT;
+import static org.folio.rest.RestVerticle.STREAM_COMPLETE;
+import static org.folio.rest.RestVerticle.STREAM_ID;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.ws.rs.core.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.exceptions.ValidationException;
+import org.folio.rest.jaxrs.model.Error;
+import org.folio.rest.jaxrs.model.Errors;
+import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.rest.support.EndpointFailureHandler;
+import org.folio.validator.SchemaValidators;
+
+/**
+ * Processing of records streamed as newline delimited JSON (one record per line) to an RMB {@code @Stream}
+ * endpoint.
+ *
+ * <p>RMB calls the endpoint for each chunk of the request body and finally once more with the STREAM_COMPLETE
+ * or STREAM_ABORT header. The records are parsed line by line as the chunks arrive and collected into batches,
+ * the batches are processed one after another while the next chunks are received. A processed batch is not
+ * referenced anymore, so that only the records not processed yet are kept in memory. Each record is validated
+ * against the constraints of its JSON schema like RMB's {@code @Validate} does for regular endpoints.
+ *
+ * <p>If the client sends faster than the batches are processed, the request is paused while more than
+ * {@code ndjson.stream.max-pending-batches} batches (default 2) wait for processing and is resumed once
+ * the processing caught up, so that the number of records kept in memory is bounded.
+ *
+ * <p>A session that receives no chunk for {@code ndjson.stream.idle-timeout.seconds} (default 60) while the
+ * request is not paused by the session is removed and aborted, so that a client that goes away without
+ * the stream being aborted does not leave the session behind.
+ *
+ * @param <T> - type of the records
+ * @param <R> - type of the result of the whole stream
+ */
+public abstract class NdjsonStreamSession<T, R> {
+  private static final Logger LOG = LogManager.getLogger(NdjsonStreamSession.class);
+  private static final byte NEW_LINE = '\n';
+  private static final String MAX_PENDING_BATCHES_PARAM = "ndjson.stream.max-pending-batches";
+  private static final String DEFAULT_MAX_PENDING_BATCHES = "2";
+  private static final String IDLE_TIMEOUT_PARAM = "ndjson.stream.idle-timeout.seconds";
+  private static final String DEFAULT_IDLE_TIMEOUT_SECONDS = "60";
+  private static final String LINE_PARAMETER = "line";
+  private static final Map<String, NdjsonStreamSession<?, ?>> SESSIONS = new ConcurrentHashMap<>();
+
+  protected final Class<T> recordType;
+  private final int batchSize;
+  private final int maxPendingBatches;
+  private final long idleTimeout;
+  private HttpServerRequest request;
+  private Vertx vertx;
+  private long idleTimerId = -1;
+  private int pendingBatches;
+  private boolean paused;
+  private Buffer pending = Buffer.buffer();
+  private List<ParsedRecord<T>> batch = new ArrayList<>();
+  private Future<Void> processing;
+  private boolean failed;
+  private long lineNumber;
+
+  /**
+   * Creates the session.
+   *
+   * @param recordType     - class of the records
+   * @param batchSize      - number of records processed together
+   * @param initialization - future the processing of the first batch waits for
+   */
+  protected NdjsonStreamSession(Class<T> recordType, int batchSize, Future<Void> initialization) {
+    this.recordType = recordType;
+    this.batchSize = batchSize;
+    this.maxPendingBatches = Integer.parseInt(
+      System.getProperty(MAX_PENDING_BATCHES_PARAM, DEFAULT_MAX_PENDING_BATCHES));
+    this.idleTimeout = TimeUnit.SECONDS.toMillis(
+      Long.parseLong(System.getProperty(IDLE_TIMEOUT_PARAM, DEFAULT_IDLE_TIMEOUT_SECONDS)));
+    this.processing = initialization;
+  }
+
+  /**
+   * Handles a call of an RMB {@code @Stream} endpoint. The session of the stream is created on the first chunk,
+   * the response is sent when the stream is complete or aborted.
+   *
+   * @param entity             - chunk of the request body
+   * @param routingContext     - routing context of the request, used to pause and resume the request
+   * @param okapiHeaders       - okapi headers including the RMB stream headers
+   * @param sessionFactory     - creates the session on the first chunk
+   * @param asyncResultHandler - response handler
+   * @param successResponse    - builds the response from the result of the stream
+   */
+  public static <R> void handleStream(InputStream entity, RoutingContext routingContext,
+                                      Map<String, String> okapiHeaders,
+                                      Supplier<? extends NdjsonStreamSession<?, R>> sessionFactory,
+                                      Handler<AsyncResult<Response>> asyncResultHandler,
+                                      Function<R, Response> successResponse) {
+
+    String streamId = okapiHeaders.get(STREAM_ID);
+    if (okapiHeaders.containsKey(STREAM_ABORT)) {
+      NdjsonStreamSession<?, ?> session = SESSIONS.remove(streamId);
+      if (session != null) {
+        session.cancelIdleTimer();
+        session.abort();
+      }
+      asyncResultHandler.handle(succeededFuture(
+        EndpointFailureHandler.failureResponse(new BadRequestException("Stream aborted"))));
+      return;
+    }
+
+    @SuppressWarnings("unchecked")
+    NdjsonStreamSession<?, R> session =
+      (NdjsonStreamSession<?, R>) SESSIONS.computeIfAbsent(streamId, id -> {
+        NdjsonStreamSession<?, R> newSession = sessionFactory.get();
+        newSession.request = routingContext.request();
+        newSession.vertx = routingContext.vertx();
+        return newSession;
+      });
+    session.append(entity);
+
+    if (okapiHeaders.containsKey(STREAM_COMPLETE)) {
+      SESSIONS.remove(streamId);
+      session.cancelIdleTimer();
+      session.complete()
+        .map(successResponse)
+        .onSuccess(response -> asyncResultHandler.handle(succeededFuture(response)))
+        .onFailure(EndpointFailureHandler.handleFailure(asyncResultHandler));
+    } else {
+      session.resetIdleTimer(streamId);
+    }
+  }
+
+  /**
+   * Processes a batch of parsed records.
+   */
+  protected abstract Future<Void> processBatch(List<ParsedRecord<T>> records);
+
+  /**
+   * Called once all batches are processed successfully.
+   *
+   * @return result of the stream
+   */
+  protected abstract Future<R> finish();
+
+  /**
+   * Called for a line that cannot be parsed, the default fails the whole stream.
+   */
+  protected void handleParsingError(long line, Exception e) {
+    fail(new BadRequestException(String.format("Cannot parse record at line %d: %s", line, e.getMessage())));
+  }
+
+  /**
+   * Called for a record that violates the constraints of its JSON schema, the default fails the whole stream
+   * with the errors of the record.
+   *
+   * @param rec    - the invalid record
+   * @param errors - an error for each violated constraint, each with a parameter of the line number
+   */
+  protected void handleInvalidRecord(ParsedRecord<T> rec, List<Error> errors) {
+    fail(new ValidationException(new Errors().withErrors(errors)));
+  }
+
+  /**
+   * Called with the failure of a complete stream before the failure response is built,
+   * the default returns the failure unchanged.
+   */
+  protected Throwable mapFailure(Throwable e) {
+    return e;
+  }
+
+  /**
+   * Called once the stream is complete or aborted, regardless of the result of the processing.
+   */
+  protected Future<Void> cleanUp() {
+    return succeededFuture();
+  }
+
+  protected long getLineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * Fails the stream, remaining lines are not parsed anymore.
+   */
+  protected void fail(Throwable e) {
+    failed = true;
+    batch = new ArrayList<>();
+    processing = processing.compose(notUsed -> Future.failedFuture(e));
+  }
+
+  void append(InputStream chunk) {
+    // the pending bytes have no new line, only the appended bytes are scanned
+    int scanStart = pending.length();
+    try {
+      pending.appendBytes(chunk.readAllBytes());
+    } catch (IOException e) {
+      fail(e);
+      return;
+    }
+
+    // a new line byte is never part of a multibyte UTF-8 character, the buffer can be split at it
+    int lineStart = 0;
+    for (int i = scanStart; i < pending.length(); i++) {
+      if (pending.getByte(i) == NEW_LINE) {
+        addLine(pending.getString(lineStart, i));
+        lineStart = i + 1;
+      }
+    }
+    if (lineStart > 0) {
+      pending = pending.getBuffer(lineStart, pending.length());
+    }
+  }
+
+  Future<R> complete() {
+    if (pending.length() > 0) {
+      addLine(pending.toString());
+      pending = Buffer.buffer();
+    }
+    if (!batch.isEmpty()) {
+      flush();
+    }
+
+    return processing
+      .compose(notUsed -> finish())
+      .eventually(x -> cleanUp())
+      .recover(e -> Future.failedFuture(mapFailure(e)));
+  }
+
+  void abort() {
+    processing.eventually(x -> cleanUp());
+  }
+
+  private void resetIdleTimer(String streamId) {
+    if (vertx == null) {
+      return;
+    }
+    cancelIdleTimer();
+    idleTimerId = vertx.setTimer(idleTimeout, id -> {
+      idleTimerId = -1;
+      if (paused) {
+        // no chunks are expected while the session itself holds the request back
+        resetIdleTimer(streamId);
+      } else if (SESSIONS.remove(streamId, this)) {
+        LOG.warn("resetIdleTimer:: Stream {} of {} records received no data for {} ms after {} lines, aborting it",
+          streamId, recordType.getSimpleName(), idleTimeout, lineNumber);
+        fail(new BadRequestException("Stream idle timeout"));
+        abort();
+      }
+    });
+  }
+
+  private void cancelIdleTimer() {
+    if (idleTimerId != -1) {
+      vertx.cancelTimer(idleTimerId);
+      idleTimerId = -1;
+    }
+  }
+
+  private void addLine(String line) {
+    lineNumber++;
+    if (failed || isBlank(line)) {
+      return;
+    }
+
+    ParsedRecord<T> parsedRecord;
+    try {
+      parsedRecord = new ParsedRecord<>(lineNumber, readValue(line, recordType));
+    } catch (Exception e) {
+      handleParsingError(lineNumber, e);
+      return;
+    }
+
+    List<Error> errors = SchemaValidators.validate(parsedRecord.value());
+    if (!errors.isEmpty()) {
+      Parameter lineParameter = new Parameter().withKey(LINE_PARAMETER).withValue(String.valueOf(lineNumber));
+      errors.forEach(error -> error.getParameters().add(lineParameter));
+      handleInvalidRecord(parsedRecord, errors);
+      return;
+    }
+    batch.add(parsedRecord);
+
+    if (batch.size() >= batchSize) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    List<ParsedRecord<T>> records = batch;
+    batch = new ArrayList<>();
+    pendingBatches++;
+    processing = processing
+      .compose(notUsed -> processBatch(records))
+      .onComplete(x -> batchProcessed());
+
+    if (pendingBatches > maxPendingBatches && request != null && !paused) {
+      paused = true;
+      request.pause();
+    }
+  }
+
+  private void batchProcessed() {
+    pendingBatches--;
+    if (paused && pendingBatches <= maxPendingBatches) {
+      paused = false;
+      request.resume();
+    }
+  }
+
+  /**
+   * Record parsed from a line of the stream.
+   *
+   * @param line  - number of the line, starting with 1
+   * @param value - the record
+   */
+  public record ParsedRecord<T>(long line, T value) {
+  }
+}
@@ -0,0 +1,126 @@
+package org.folio.services.batch;
+
+import static org.folio.rest.impl.StorageHelper.getParallelDbConnectionsLimit;
+
+import io.vertx.core.Future;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.ws.rs.core.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.Error;
+import org.folio.rest.jaxrs.model.Errors;
+import org.folio.rest.jaxrs.model.Parameter;
+
+/**
+ * Synchronous batch create or update that splits the batch into partitions by the hash of the record id
+ * and writes the partitions concurrently, each in its own transaction on its own pooled connection.
+ *
+ * <p>The partitions are independent: a failed partition does not roll back the others, so the batch is not
+ * all or nothing. The records of a failed partition are written one by one, so that the failure of each record
+ * is known and reported. The failure response has an error for each failed record and a last error with the
+ * code {@value #PARTIALLY_WRITTEN_CODE} and the numbers of succeeded and failed records, because the other
+ * records stay written.
+ */
+public class PartitionedBatchSync<T> {
+  private static final Logger LOG = LogManager.getLogger(PartitionedBatchSync.class);
+  private static final int MIN_PARTITION_SIZE = 100;
+  private static final String ID_PARAMETER = "id";
+  static final String PARTIALLY_WRITTEN_CODE = "partially_written";
+
+  private final FallbackBatchWriter<T> writer;
+  private final Function<T, String> idGetter;
+  private final int partitionsLimit;
+
+  /**
+   * Creates the partitioned batch sync.
+   *
+   * @param batchWriter - creates or updates a batch of records, responds with 201 on success
+   * @param idGetter    - returns id of a record
+   */
+  public PartitionedBatchSync(Function<List<T>, Future<Response>> batchWriter, Function<T, String> idGetter) {
+    this(batchWriter, idGetter, getParallelDbConnectionsLimit());
+  }
+
+  PartitionedBatchSync(Function<List<T>, Future<Response>> batchWriter, Function<T, String> idGetter,
+                       int partitionsLimit) {
+
+    this.writer = new FallbackBatchWriter<>(batchWriter);
+    this.idGetter = idGetter;
+    this.partitionsLimit = partitionsLimit;
+  }
+
+  /**
+   * Writes the records.
+   *
+   * @param records         - records to create or update
+   * @param successResponse - response when all records are written
+   * @param failureResponse - response with an error for each record that failed
+   * @return the response
+   */
+  public Future<Response> write(List<T> records, Supplier<Response> successResponse,
+                                Function<Errors, Response> failureResponse) {
+
+    var partitions = partition(records);
+    LOG.info("write:: Writing {} records in {} partitions", records.size(), partitions.size());
+
+    List<Future<List<Error>>> partitionResults = partitions.stream()
+      .map(this::writePartition)
+      .toList();
+
+    return Future.all(partitionResults).map(notUsed -> {
+      List<Error> errors = partitionResults.stream()
+        .flatMap(result -> result.result().stream())
+        .collect(Collectors.toCollection(ArrayList::new));
+
+      if (errors.isEmpty()) {
+        return successResponse.get();
+      }
+      LOG.warn("write:: {} of {} records failed", errors.size(), records.size());
+      errors.add(partiallyWrittenError(records.size() - errors.size(), errors.size()));
+      return failureResponse.apply(new Errors().withErrors(errors));
+    });
+  }
+
+  List<List<T>> partition(List<T> records) {
+    int partitionsCount = Math.max(1, Math.min(partitionsLimit, records.size() / MIN_PARTITION_SIZE));
+
+    List<List<T>> partitions = new ArrayList<>(partitionsCount);
+    for (int i = 0; i < partitionsCount; i++) {
+      partitions.add(new ArrayList<>());
+    }
+    for (T rec : records) {
+      String id = idGetter.apply(rec);
+      int partition = id == null ? 0 : Math.floorMod(id.hashCode(), partitionsCount);
+      partitions.get(partition).add(rec);
+    }
+
+    partitions.removeIf(List::isEmpty);
+    return partitions;
+  }
+
+  private Future<List<Error>> writePartition(List<T> partition) {
+    return writer.write(partition).map(failures -> failures.stream()
+      .map(failure -> toError(failure.element(), failure.message()))
+      .toList());
+  }
+
+  private static Error partiallyWrittenError(int recordsSucceeded, int recordsFailed) {
+    return new Error()
+      .withCode(PARTIALLY_WRITTEN_CODE)
+      .withMessage(String.format("%d records have been created or updated and are not rolled back,"
+        + " %d records failed", recordsSucceeded, recordsFailed))
+      .withParameters(List.of(
+        new Parameter().withKey("recordsSucceeded").withValue(String.valueOf(recordsSucceeded)),
+        new Parameter().withKey("recordsFailed").withValue(String.valueOf(recordsFailed))));
+  }
+
+  private Error toError(T rec, String message) {
+    return new Error()
+      .withMessage(message)
+      .withParameters(List.of(new Parameter().withKey(ID_PARAMETER).withValue(idGetter.apply(rec))));
+  }
+}
@@ -0,0 +1,164 @@
+package org.folio.services.bulkload;
+
+import static org.folio.rest.persist.PostgresClient.pojo2JsonObject;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.persist.BulkLoadRepository;
+import org.folio.rest.exceptions.ValidationException;
+import org.folio.rest.jaxrs.model.Error;
+import org.folio.rest.jaxrs.model.Errors;
+import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.rest.tools.utils.MetadataUtil;
+import org.folio.services.batch.NdjsonStreamSession;
+
+/**
+ * Bulk load of records streamed as newline delimited JSON.
+ *
+ * <p>Each batch of records is prepared (HRIDs, effective values) and inserted into the target table in its own
+ * transaction while the next chunks are still being received. Once the stream is complete or aborted, a single
+ * bulk load domain event with the number of loaded records is published. Any failure stops the load, the batches
+ * inserted before stay created.
+ *
+ * <p>Records that violate their JSON schema fail the load with a 422 response that lists the errors with the
+ * line numbers, up to {@code bulk-load.max-errors} (default 100) errors are collected before the load is stopped.
+ * Once a record is invalid the remaining batches are not inserted anymore, they are only validated. If records
+ * were inserted before the load failed, the failure response is 422 and its last error has the code
+ * {@value #PARTIALLY_LOADED_CODE} and the number of loaded records.
+ */
+public class BulkLoadSession<T> extends NdjsonStreamSession<T, Integer> {
+  private static final Logger LOG = LogManager.getLogger(BulkLoadSession.class);
+  private static final String BATCH_SIZE_PARAM = "bulk-load.batch.size";
+  private static final String DEFAULT_BATCH_SIZE = "1000";
+  private static final String MAX_ERRORS_PARAM = "bulk-load.max-errors";
+  private static final String DEFAULT_MAX_ERRORS = "100";
+  private static final String ID_FIELD = "id";
+  private static final String PARTIALLY_LOADED_CODE = "partially_loaded";
+
+  private final BulkLoadRepository repository;
+  private final Map<String, String> okapiHeaders;
+  private final Function<List<T>, Future<List<T>>> batchPreparer;
+  private final LongFunction<Future<Void>> bulkLoadedPublisher;
+  private final long startTime;
+  private final int maxErrors;
+  private final List<Error> errors = new ArrayList<>();
+  private int recordsLoaded;
+
+  /**
+   * Creates the session.
+   *
+   * @param recordType          - class of the records
+   * @param repository          - repository of the target table
+   * @param okapiHeaders        - okapi headers
+   * @param batchPreparer       - populates HRIDs and effective values of a batch of records
+   * @param bulkLoadedPublisher - publishes the bulk load domain event with the number of loaded records
+   */
+  public BulkLoadSession(Class<T> recordType, BulkLoadRepository repository, Map<String, String> okapiHeaders,
+                         Function<List<T>, Future<List<T>>> batchPreparer,
+                         LongFunction<Future<Void>> bulkLoadedPublisher) {
+
+    super(recordType, Integer.parseInt(System.getProperty(BATCH_SIZE_PARAM, DEFAULT_BATCH_SIZE)),
+      Future.succeededFuture());
+    this.repository = repository;
+    this.okapiHeaders = okapiHeaders;
+    this.batchPreparer = batchPreparer;
+    this.bulkLoadedPublisher = bulkLoadedPublisher;
+    this.startTime = System.nanoTime();
+    this.maxErrors = Integer.parseInt(System.getProperty(MAX_ERRORS_PARAM, DEFAULT_MAX_ERRORS));
+  }
+
+  @Override
+  protected Future<Void> processBatch(List<ParsedRecord<T>> records) {
+    if (!errors.isEmpty()) {
+      return Future.succeededFuture();
+    }
+    return batchPreparer.apply(records.stream().map(ParsedRecord::value).toList())
+      .compose(preparedRecords -> {
+        try {
+          return repository.insert(toJsonArray(preparedRecords));
+        } catch (Exception e) {
+          return Future.failedFuture(e);
+        }
+      })
+      .map(count -> {
+        recordsLoaded += count;
+        LOG.debug("processBatch:: {} records of type {} loaded", recordsLoaded, recordType.getSimpleName());
+        return null;
+      });
+  }
+
+  @Override
+  protected void handleInvalidRecord(ParsedRecord<T> rec, List<Error> recordErrors) {
+    errors.addAll(recordErrors);
+    if (errors.size() >= maxErrors) {
+      fail(validationException());
+    }
+  }
+
+  @Override
+  protected Future<Integer> finish() {
+    if (!errors.isEmpty()) {
+      return Future.failedFuture(validationException());
+    }
+    LOG.info("finish:: {} records of type {} loaded in {} ms", recordsLoaded, recordType.getSimpleName(),
+      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    return Future.succeededFuture(recordsLoaded);
+  }
+
+  @Override
+  protected Throwable mapFailure(Throwable e) {
+    LOG.warn("mapFailure:: Bulk load of {} records failed after {} lines, {} records loaded",
+      recordType.getSimpleName(), getLineNumber(), recordsLoaded, e);
+    if (recordsLoaded == 0) {
+      return e;
+    }
+    List<Error> failureErrors = e instanceof ValidationException validationException
+      ? new ArrayList<>(validationException.getErrors().getErrors())
+      : new ArrayList<>(List.of(new Error().withMessage(e.getMessage())));
+    failureErrors.add(new Error()
+      .withCode(PARTIALLY_LOADED_CODE)
+      .withMessage(String.format("%d records have been loaded and are not rolled back", recordsLoaded))
+      .withParameters(List.of(
+        new Parameter().withKey("recordsLoaded").withValue(String.valueOf(recordsLoaded)))));
+    return new ValidationException(new Errors().withErrors(failureErrors));
+  }
+
+  // called once the stream is complete or aborted, also the records of a failed load are announced
+  @Override
+  protected Future<Void> cleanUp() {
+    if (recordsLoaded > 0) {
+      bulkLoadedPublisher.apply(recordsLoaded);
+    }
+    return Future.succeededFuture();
+  }
+
+  private ValidationException validationException() {
+    LOG.warn("validationException:: Bulk load of {} records failed with {} invalid values after {} lines",
+      recordType.getSimpleName(), errors.size(), getLineNumber());
+    return new ValidationException(new Errors().withErrors(errors));
+  }
+
+  private JsonArray toJsonArray(List<T> records) throws Exception {
+    MetadataUtil.populateMetadata(records, okapiHeaders);
+
+    JsonArray json = new JsonArray();
+    for (T rec : records) {
+      JsonObject recordJson = pojo2JsonObject(rec);
+      if (recordJson.getString(ID_FIELD) == null) {
+        recordJson.put(ID_FIELD, UUID.randomUUID().toString());
+      }
+      json.add(recordJson);
+    }
+    return json;
+  }
+}
@@ -5,8 +5,12 @@ import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.folio.okapi.common.XOkapiHeaders.URL;
 
-import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
@@ -18,30 +22,72 @@ import io.vertx.ext.web.client.WebClient;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Caches consortium data of tenants.
+ *
+ * <p>Entries are reloaded in the background once they are older than the refresh time, so that requests
+ * do not wait for mod-users on expiration. If the reload fails, the previously loaded data is kept
+ * until it expires, the expiration time is counted from the last successful load.
+ * "Not in a consortium" results and loading errors are cached with their own expiration times.
+ */
 public class ConsortiumDataCache {
 
   private static final Logger LOG = LogManager.getLogger(ConsortiumDataCache.class);
   private static final String EXPIRATION_TIME_PARAM = "cache.consortium-data.expiration.time.seconds";
   private static final String DEFAULT_EXPIRATION_TIME_SECONDS = "300";
+  private static final String REFRESH_TIME_PARAM = "cache.consortium-data.refresh.time.seconds";
+  private static final String DEFAULT_REFRESH_TIME_SECONDS = "240";
+  private static final String NOT_IN_CONSORTIUM_EXPIRATION_TIME_PARAM =
+    "cache.consortium-data.not-in-consortium.expiration.time.seconds";
+  private static final String DEFAULT_NOT_IN_CONSORTIUM_EXPIRATION_TIME_SECONDS = "300";
+  private static final String ERROR_EXPIRATION_TIME_PARAM = "cache.consortium-data.error.expiration.time.seconds";
+  private static final String DEFAULT_ERROR_EXPIRATION_TIME_SECONDS = "5";
+  private static final String STATS_LOG_INTERVAL_PARAM = "cache.consortium-data.stats.log.interval.seconds";
+  private static final String DEFAULT_STATS_LOG_INTERVAL_SECONDS = "300";
   private static final String USER_TENANTS_PATH = "/user-tenants?limit=1"; //NOSONAR
   private static final String USER_TENANTS_FIELD = "userTenants";
   private static final String CENTRAL_TENANT_ID_FIELD = "centralTenantId";
   private static final String CONSORTIUM_ID_FIELD = "consortiumId";
 
   private final HttpClient httpClient;
-  private final AsyncCache<String, Optional<ConsortiumData>> cache;
+  private final Ticker ticker;
+  private final AsyncLoadingCache<String, CacheEntry> cache;
+  private final Map<String, Map<String, String>> headersByTenant = new ConcurrentHashMap<>();
 
   public ConsortiumDataCache(Vertx vertx, HttpClient httpClient) {
-    int expirationTime = Integer.parseInt(System.getProperty(EXPIRATION_TIME_PARAM, DEFAULT_EXPIRATION_TIME_SECONDS));
+    this(vertx, httpClient, Ticker.systemTicker());
+  }
+
+  ConsortiumDataCache(Vertx vertx, HttpClient httpClient, Ticker ticker) {
+    long expirationTime = getSeconds(EXPIRATION_TIME_PARAM, DEFAULT_EXPIRATION_TIME_SECONDS);
+    long notInConsortiumExpirationTime =
+      getSeconds(NOT_IN_CONSORTIUM_EXPIRATION_TIME_PARAM, DEFAULT_NOT_IN_CONSORTIUM_EXPIRATION_TIME_SECONDS);
+    long errorExpirationTime = getSeconds(ERROR_EXPIRATION_TIME_PARAM, DEFAULT_ERROR_EXPIRATION_TIME_SECONDS);
+    long refreshTime = Math.max(1,
+      Math.min(getSeconds(REFRESH_TIME_PARAM, DEFAULT_REFRESH_TIME_SECONDS), expirationTime));
+    long statsLogInterval = getSeconds(STATS_LOG_INTERVAL_PARAM, DEFAULT_STATS_LOG_INTERVAL_SECONDS);
+
     this.httpClient = httpClient;
+    this.ticker = ticker;
     this.cache = Caffeine.newBuilder()
-      .expireAfterWrite(expirationTime, TimeUnit.SECONDS)
+      .expireAfter(new CacheEntryExpiry(expirationTime, notInConsortiumExpirationTime, errorExpirationTime))
+      .refreshAfterWrite(refreshTime, TimeUnit.SECONDS)
+      .recordStats()
+      .ticker(ticker)
       .executor(task -> vertx.runOnContext(v -> task.run()))
-      .buildAsync();
+      .buildAsync(new CacheEntryLoader());
+
+    if (statsLogInterval > 0) {
+      vertx.setPeriodic(TimeUnit.SECONDS.toMillis(statsLogInterval), timerId -> logStats());
+    }
   }
 
   /**
@@ -54,13 +100,48 @@ public class ConsortiumDataCache {
    */
   public Future<Optional<ConsortiumData>> getConsortiumData(String tenantId, Map<String, String> headers) {
     try {
-      return Future.fromCompletionStage(cache.get(tenantId, (key, executor) -> loadConsortiumData(key, headers)));
+      // headers are replaced on every request, so the background reload triggered by this request
+      // uses its token rather than the one of the request that loaded the entry first
+      headersByTenant.put(tenantId, new CaseInsensitiveMap<>(headers));
+      return Future.fromCompletionStage(cache.get(tenantId))
+        .compose(CacheEntry::toFuture);
     } catch (Exception e) {
       LOG.warn("getConsortiumData:: Error loading consortium data, tenantId: '{}'", tenantId, e);
       return Future.failedFuture(e);
     }
   }
 
+  /**
+   * Returns hit, miss and load time statistics of the cache.
+   *
+   * @return cache statistics
+   */
+  public CacheStats getStats() {
+    return cache.synchronous().stats();
+  }
+
+  private void logStats() {
+    CacheStats stats = getStats();
+    LOG.info("logStats:: Consortium data cache statistics, hits: {}, misses: {}, loads: {}, "
+        + "average load time: {} ms, evictions: {}", stats.hitCount(), stats.missCount(), stats.loadCount(),
+      TimeUnit.NANOSECONDS.toMillis((long) stats.averageLoadPenalty()), stats.evictionCount());
+  }
+
+  private CompletableFuture<CacheEntry> loadCacheEntry(String tenantId) {
+    long startTime = System.nanoTime();
+    return loadConsortiumData(tenantId, headersByTenant.get(tenantId))
+      .handle((consortiumData, e) -> {
+        long loadTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        if (e != null) {
+          Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+          LOG.warn("loadCacheEntry:: Failed to load consortium data in {} ms, tenantId: '{}'", loadTime, tenantId);
+          return new CacheEntry(null, cause, ticker.read());
+        }
+        LOG.debug("loadCacheEntry:: Consortium data was loaded in {} ms, tenantId: '{}'", loadTime, tenantId);
+        return new CacheEntry(consortiumData, null, ticker.read());
+      });
+  }
+
   private CompletableFuture<Optional<ConsortiumData>> loadConsortiumData(String tenantId, Map<String, String> headers) {
     String okapiUrl = headers.get(URL);
     WebClient client = WebClient.wrap(httpClient);
@@ -91,4 +172,70 @@ public class ConsortiumDataCache {
       .toCompletableFuture();
   }
 
+  private static long getSeconds(String param, String defaultValue) {
+    return Long.parseLong(System.getProperty(param, defaultValue));
+  }
+
+  /**
+   * Cached result of consortium data loading, either consortium data or the loading error,
+   * with the ticker time of the load.
+   */
+  private record CacheEntry(Optional<ConsortiumData> consortiumData, Throwable error, long loadTime) {
+
+    boolean isFailed() {
+      return error != null;
+    }
+
+    boolean isInConsortium() {
+      return !isFailed() && consortiumData.isPresent();
+    }
+
+    Future<Optional<ConsortiumData>> toFuture() {
+      return isFailed() ? Future.failedFuture(error) : Future.succeededFuture(consortiumData);
+    }
+  }
+
+  private class CacheEntryLoader implements AsyncCacheLoader<String, CacheEntry> {
+
+    @Override
+    public CompletableFuture<CacheEntry> asyncLoad(String tenantId, Executor executor) {
+      return loadCacheEntry(tenantId);
+    }
+
+    @Override
+    public CompletableFuture<CacheEntry> asyncReload(String tenantId, CacheEntry oldValue, Executor executor) {
+      return loadCacheEntry(tenantId)
+        .thenApply(newValue -> newValue.isFailed() && !oldValue.isFailed() ? oldValue : newValue);
+    }
+  }
+
+  private record CacheEntryExpiry(long expirationTime, long notInConsortiumExpirationTime, long errorExpirationTime)
+    implements Expiry<String, CacheEntry> {
+
+    // the expiration is counted from the load time of the entry, so that an entry kept on failed reload
+    // expires at its original time instead of getting the full expiration time again
+    @Override
+    public long expireAfterCreate(String tenantId, CacheEntry entry, long currentTime) {
+      long seconds;
+      if (entry.isFailed()) {
+        seconds = errorExpirationTime;
+      } else if (entry.isInConsortium()) {
+        seconds = expirationTime;
+      } else {
+        seconds = notInConsortiumExpirationTime;
+      }
+      return Math.max(0, entry.loadTime() + TimeUnit.SECONDS.toNanos(seconds) - currentTime);
+    }
+
+    @Override
+    public long expireAfterUpdate(String tenantId, CacheEntry entry, long currentTime, long currentDuration) {
+      return expireAfterCreate(tenantId, entry, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String tenantId, CacheEntry entry, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+
 }
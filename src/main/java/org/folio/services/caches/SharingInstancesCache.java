@@ -0,0 +1,121 @@
+package org.folio.services.caches;
+
+import static io.vertx.core.http.HttpMethod.GET;
+import static java.lang.String.format;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.folio.okapi.common.XOkapiHeaders.URL;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.WebClient;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Caches ids of the tenants an instance is shared with, keyed by consortium id and instance id.
+ *
+ * <p>Concurrent requests for the same key that miss the cache share a single request to mod-consortia.
+ * Failed loads are not cached.
+ *
+ * <p>Invalidation is local to the module instance that completed the sharing, other module instances
+ * may return the previous tenant ids until the entry expires, so the expiration time
+ * ({@value #EXPIRATION_TIME_PARAM}, 10 seconds by default) bounds the staleness across module instances.
+ */
+public class SharingInstancesCache {
+
+  private static final Logger LOG = LogManager.getLogger(SharingInstancesCache.class);
+  private static final String EXPIRATION_TIME_PARAM = "cache.sharing-instances.expiration.time.seconds";
+  private static final String DEFAULT_EXPIRATION_TIME_SECONDS = "10";
+  private static final String SHARING_INSTANCES_PATH =
+    "/consortia/%s/sharing/instances?status=COMPLETE&instanceIdentifier=%s"; //NOSONAR
+  private static final String LIMIT_QUERY_PARAM = "limit";
+  private static final String TENANT_IDS_LIMIT = "1000";
+  private static final String SHARING_INSTANCES_FIELD = "sharingInstances";
+  private static final String TARGET_TENANT_ID_FIELD = "targetTenantId";
+  private static final String SOURCE_TENANT_ID_FIELD = "sourceTenantId";
+
+  private final HttpClient httpClient;
+  private final AsyncCache<Key, List<String>> cache;
+
+  public SharingInstancesCache(Vertx vertx, HttpClient httpClient) {
+    int expirationTime = Integer.parseInt(System.getProperty(EXPIRATION_TIME_PARAM, DEFAULT_EXPIRATION_TIME_SECONDS));
+    this.httpClient = httpClient;
+    this.cache = Caffeine.newBuilder()
+      .expireAfterWrite(expirationTime, TimeUnit.SECONDS)
+      .executor(task -> vertx.runOnContext(v -> task.run()))
+      .buildAsync();
+  }
+
+  /**
+   * Returns ids of the tenants participating in completed sharing of the specified instance.
+   *
+   * @param consortiumId - consortium id
+   * @param instanceId   - instance id
+   * @param headers      - okapi headers
+   * @return future of the list with source and target tenant ids of the instance sharing records
+   */
+  public Future<List<String>> getSharingTenantIds(String consortiumId, String instanceId,
+                                                  Map<String, String> headers) {
+    try {
+      return Future.fromCompletionStage(cache.get(new Key(consortiumId, instanceId),
+        (key, executor) -> loadSharingTenantIds(key, headers)));
+    } catch (Exception e) {
+      LOG.warn("getSharingTenantIds:: Error loading sharing tenant ids, consortiumId: '{}', instanceId: '{}'",
+        consortiumId, instanceId, e);
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Removes cached tenant ids of the specified instance, should be called once sharing of the instance changes.
+   *
+   * @param consortiumId - consortium id
+   * @param instanceId   - instance id
+   */
+  public void invalidate(String consortiumId, String instanceId) {
+    cache.synchronous().invalidate(new Key(consortiumId, instanceId));
+  }
+
+  private CompletableFuture<List<String>> loadSharingTenantIds(Key key, Map<String, String> headers) {
+    String okapiUrl = headers.get(URL);
+    WebClient client = WebClient.wrap(httpClient);
+    HttpRequest<Buffer> request = client.requestAbs(GET,
+      okapiUrl + format(SHARING_INSTANCES_PATH, key.consortiumId(), key.instanceId()));
+    headers.forEach(request::putHeader);
+    request.addQueryParam(LIMIT_QUERY_PARAM, TENANT_IDS_LIMIT);
+
+    return request.send().compose(response -> {
+      if (response.statusCode() != HTTP_OK) {
+        String msg = format("Error retrieving shadow instances tenant ids, response status: '%s', response body: '%s'",
+          response.statusCode(), response.bodyAsString());
+        LOG.warn("loadSharingTenantIds:: {}", msg);
+        return Future.<List<String>>failedFuture(msg);
+      }
+
+      List<String> tenantIds = response.bodyAsJsonObject().getJsonArray(SHARING_INSTANCES_FIELD)
+        .stream()
+        .map(JsonObject.class::cast)
+        .flatMap(sharing ->
+          Stream.of(sharing.getString(TARGET_TENANT_ID_FIELD), sharing.getString(SOURCE_TENANT_ID_FIELD)))
+        .distinct()
+        .toList();
+      return Future.succeededFuture(tenantIds);
+    }).toCompletionStage()
+      .toCompletableFuture();
+  }
+
+  private record Key(String consortiumId, String instanceId) {
+  }
+
+}
@@ -6,7 +6,6 @@ import static org.folio.rest.jaxrs.resource.ClassificationTypes.GetClassificatio
 import static org.folio.rest.jaxrs.resource.ClassificationTypes.PostClassificationTypesResponse;
 import static org.folio.rest.jaxrs.resource.ClassificationTypes.PutClassificationTypesByClassificationTypeIdResponse;
 import static org.folio.rest.persist.PgUtil.deleteById;
-import static org.folio.rest.persist.PgUtil.get;
 import static org.folio.rest.persist.PgUtil.getById;
 import static org.folio.rest.persist.PgUtil.post;
 import static org.folio.rest.persist.PgUtil.put;
@@ -18,6 +17,7 @@ import javax.ws.rs.core.Response;
 import org.folio.persist.ClassificationTypeRepository;
 import org.folio.rest.jaxrs.model.ClassificationType;
 import org.folio.rest.jaxrs.model.ClassificationTypes;
+import org.folio.rest.support.CollectionGet;
 import org.folio.services.domainevent.ClassificationTypeDomainEventPublisher;
 
 public class ClassificationTypeService {
@@ -37,9 +37,9 @@ public class ClassificationTypeService {
     this.domainEventService = new ClassificationTypeDomainEventPublisher(context, okapiHeaders);
   }
 
-  public Future<Response> getByQuery(String cql, int offset, int limit) {
-    return get(CLASSIFICATION_TYPE_TABLE, ClassificationType.class, ClassificationTypes.class,
-      cql, offset, limit, okapiHeaders, context, GetClassificationTypesResponse.class);
+  public Future<Response> getByQuery(String cql, String totalRecords, int offset, int limit) {
+    return CollectionGet.get(CLASSIFICATION_TYPE_TABLE, ClassificationType.class, ClassificationTypes.class,
+      cql, totalRecords, offset, limit, okapiHeaders, context, GetClassificationTypesResponse.class);
   }
 
   public Future<Response> getByTypeId(String id) {
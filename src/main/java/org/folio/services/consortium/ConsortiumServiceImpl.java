@@ -20,6 +20,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.services.caches.ConsortiumData;
 import org.folio.services.caches.ConsortiumDataCache;
+import org.folio.services.caches.SharingInstancesCache;
 import org.folio.services.consortium.entities.SharingInstance;
 import org.folio.services.consortium.entities.SharingStatus;
 import org.folio.services.consortium.exceptions.ConsortiumException;
@@ -31,10 +32,13 @@ public class ConsortiumServiceImpl implements ConsortiumService {
     + " %s, targetTenantId: %s, instanceIdentifier: %s, status code: %s, response message: %s";
   private final HttpClient httpClient;
   private final ConsortiumDataCache consortiumDataCache;
+  private final SharingInstancesCache sharingInstancesCache;
 
-  public ConsortiumServiceImpl(HttpClient httpClient, ConsortiumDataCache consortiumDataCache) {
+  public ConsortiumServiceImpl(HttpClient httpClient, ConsortiumDataCache consortiumDataCache,
+                               SharingInstancesCache sharingInstancesCache) {
     this.httpClient = httpClient;
     this.consortiumDataCache = consortiumDataCache;
+    this.sharingInstancesCache = sharingInstancesCache;
   }
 
   @Override
@@ -57,7 +61,8 @@ public class ConsortiumServiceImpl implements ConsortiumService {
     return consortiumDataCache.getConsortiumData(headers.get(TENANT), headers);
   }
 
-  // Returns successful future if the sharing status is "IN_PROGRESS" or "COMPLETE"
+  // Returns successful future if the sharing status is "IN_PROGRESS" or "COMPLETE",
+  // cached tenant ids the instance is shared with are invalidated only once the sharing is "COMPLETE"
   @Override
   public Future<SharingInstance> shareInstance(String consortiumId, SharingInstance sharingInstance,
                                                Map<String, String> headers) {
@@ -69,6 +74,9 @@ public class ConsortiumServiceImpl implements ConsortiumService {
           SharingInstance response = Json.decodeValue(httpResponse.body(), SharingInstance.class);
           LOGGER.debug("shareInstance:: Successfully sharedInstance with id: {}, sharedInstance: {}",
             response.getInstanceIdentifier(), httpResponse.bodyAsString());
+          if (response.getStatus() == SharingStatus.COMPLETE) {
+            sharingInstancesCache.invalidate(consortiumId, String.valueOf(sharingInstance.getInstanceIdentifier()));
+          }
           return Future.succeededFuture(response);
         } else {
           String message = String.format(SHARING_INSTANCE_ERROR, sharingInstance.getSourceTenantId(),
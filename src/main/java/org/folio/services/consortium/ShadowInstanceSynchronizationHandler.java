@@ -1,29 +1,27 @@
 package org.folio.services.consortium;
 
-import static io.vertx.core.http.HttpMethod.GET;
 import static java.lang.String.format;
-import static java.net.HttpURLConnection.HTTP_OK;
 import static org.folio.okapi.common.XOkapiHeaders.TENANT;
-import static org.folio.okapi.common.XOkapiHeaders.URL;
 import static org.folio.services.domainevent.DomainEventType.UPDATE;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
-import io.vertx.core.json.JsonObject;
-import io.vertx.ext.web.client.HttpRequest;
-import io.vertx.ext.web.client.WebClient;
 import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
+import io.vertx.kafka.client.consumer.KafkaConsumerRecords;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,6 +33,7 @@ import org.folio.rest.jaxrs.model.Instance;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.services.caches.ConsortiumData;
 import org.folio.services.caches.ConsortiumDataCache;
+import org.folio.services.caches.SharingInstancesCache;
 import org.folio.services.domainevent.DomainEvent;
 
 public class ShadowInstanceSynchronizationHandler implements AsyncRecordHandler<String, String> {
@@ -42,31 +41,25 @@ public class ShadowInstanceSynchronizationHandler implements AsyncRecordHandler<
   private static final Logger LOG = LogManager.getLogger(ShadowInstanceSynchronizationHandler.class);
   private static final String EVENT_HANDLING_ERROR_MSG =
     "handle:: Failed to handle event for shadow instances synchronization, centralTenantId: '{}', instanceId: '{}'";
-  private static final String SHARING_INSTANCES_PATH =
-    "/consortia/%s/sharing/instances?status=COMPLETE&instanceIdentifier=%s"; //NOSONAR
   private static final String INSTANCES_PARALLEL_UPDATES_COUNT_PARAM =
     "instance-synchronization.parallel.updates.count";
   private static final String DEFAULT_INSTANCES_PARALLEL_UPDATES_COUNT = "10";
-  private static final String LIMIT_QUERY_PARAM = "limit";
-  private static final String TENANT_IDS_LIMIT = "1000";
   private static final String CONSORTIUM_SOURCE_TEMPLATE = "CONSORTIUM-%s";
-  private static final String SHARING_INSTANCES_FIELD = "sharingInstances";
-  private static final String TARGET_TENANT_ID_FIELD = "targetTenantId";
-  private static final String SOURCE_TENANT_ID_FIELD = "sourceTenantId";
 
 
   private final ConsortiumDataCache consortiaDataCache;
   private final Vertx vertx;
-  private final HttpClient httpClient;
+  private final SharingInstancesCache sharingInstancesCache;
   private final int instancesParallelUpdatesLimit;
+  private final Map<String, InstanceRepository> shadowInstanceRepositories = new ConcurrentHashMap<>();
 
   public ShadowInstanceSynchronizationHandler(ConsortiumDataCache consortiaDataCache,
-                                              HttpClient httpClient, Vertx vertx) {
+                                              SharingInstancesCache sharingInstancesCache, Vertx vertx) {
     this.instancesParallelUpdatesLimit = Integer.parseInt(
       System.getProperty(INSTANCES_PARALLEL_UPDATES_COUNT_PARAM, DEFAULT_INSTANCES_PARALLEL_UPDATES_COUNT));
     this.consortiaDataCache = consortiaDataCache;
     this.vertx = vertx;
-    this.httpClient = httpClient;
+    this.sharingInstancesCache = sharingInstancesCache;
   }
 
   @Override
@@ -98,51 +91,140 @@ public class ShadowInstanceSynchronizationHandler implements AsyncRecordHandler<
     }
   }
 
+  /**
+   * Handles instance events polled as one batch. Only the last event of each instance is taken into account,
+   * it is applied if it is an UPDATE, and the shadow instances of each member tenant are updated with
+   * a single statement. An event that cannot be decoded is logged and skipped.
+   *
+   * @param records - polled instance events
+   * @return future that succeeds when shadow instances for all events of the batch have been updated
+   */
+  public Future<Void> handleBatch(KafkaConsumerRecords<String, String> records) {
+    try {
+      long startTime = System.currentTimeMillis();
+      Map<String, Map<String, InstanceUpdate>> updatesByTenant = new LinkedHashMap<>();
+      for (int i = 0; i < records.size(); i++) {
+        KafkaConsumerRecord<String, String> kafkaRecord = records.recordAt(i);
+        DomainEvent<Instance> event;
+        Instance shadowInstance;
+        try {
+          event = Json.decodeValue(kafkaRecord.value(), DomainEvent.class);
+          shadowInstance = event.getType() == UPDATE ? toShadowInstance(event) : null;
+        } catch (DecodeException | JsonProcessingException e) {
+          LOG.warn("handleBatch:: Skipping event that cannot be decoded, topic: '{}', partition: {}, offset: {}",
+            kafkaRecord.topic(), kafkaRecord.partition(), kafkaRecord.offset(), e);
+          continue;
+        }
+        // the last event of an instance wins, a DELETE discards an earlier UPDATE
+        Map<String, InstanceUpdate> tenantUpdates =
+          updatesByTenant.computeIfAbsent(event.getTenant(), tenantId -> new LinkedHashMap<>());
+        tenantUpdates.remove(kafkaRecord.key());
+        if (shadowInstance != null) {
+          Map<String, String> headers =
+            new CaseInsensitiveMap<>(KafkaHeaderUtils.kafkaHeadersToMap(kafkaRecord.headers()));
+          tenantUpdates.put(kafkaRecord.key(), new InstanceUpdate(shadowInstance, headers));
+        }
+      }
+
+      List<Future<Void>> tenantFutures = updatesByTenant.entrySet().stream()
+        .filter(entry -> !entry.getValue().isEmpty())
+        .map(entry -> synchronizeShadowInstances(entry.getKey(), entry.getValue().values()))
+        .toList();
+      return Future.all(tenantFutures)
+        .onComplete(ar -> LOG.info("handleBatch:: Synchronization of shadow instances took {} ms, "
+            + "events count: {}, coalesced updates count: {}, succeeded: {}", System.currentTimeMillis() - startTime,
+          records.size(), updatesByTenant.values().stream().mapToInt(Map::size).sum(), ar.succeeded()))
+        .mapEmpty();
+    } catch (Exception e) {
+      LOG.warn("handleBatch:: Error while handling events batch for shadow instances synchronization", e);
+      return Future.failedFuture(e);
+    }
+  }
+
+  private Future<Void> synchronizeShadowInstances(String eventTenantId, Collection<InstanceUpdate> updates) {
+    Map<String, String> headers = Iterables.getLast(updates).headers();
+    return consortiaDataCache.getConsortiumData(headers.get(TENANT), headers)
+      .compose(consortiumDataOptional -> consortiumDataOptional
+        .filter(consortiumData -> isCentralTenantId(eventTenantId, consortiumData))
+        .map(consortiumData -> getShadowInstancesByTenant(updates, consortiumData)
+          .compose(instancesByTenant -> updateShadowInstances(instancesByTenant, headers)))
+        .orElse(Future.succeededFuture()))
+      .onFailure(e -> LOG.warn("synchronizeShadowInstances:: Failed to synchronize shadow instances, "
+        + "centralTenantId: '{}', instances count: {}", eventTenantId, updates.size(), e));
+  }
+
+  private Future<Map<String, List<Instance>>> getShadowInstancesByTenant(Collection<InstanceUpdate> updates,
+                                                                         ConsortiumData consortiumData) {
+    Map<String, List<Instance>> instancesByTenant = new HashMap<>();
+    // at most instancesParallelUpdatesLimit sharing lookups at a time
+    Future<Void> future = Future.succeededFuture();
+    for (List<InstanceUpdate> updatesChunk : Lists.partition(new ArrayList<>(updates), instancesParallelUpdatesLimit)) {
+      future = future.compose(v -> Future.all(updatesChunk.stream()
+          .map(update -> getShadowInstancesTenantIds(consortiumData.getConsortiumId(),
+            consortiumData.getCentralTenantId(), update.instance().getId(), update.headers())
+            .onSuccess(tenantIds -> tenantIds.forEach(tenantId ->
+              instancesByTenant.computeIfAbsent(tenantId, key -> new ArrayList<>()).add(update.instance()))))
+          .toList())
+        .mapEmpty());
+    }
+    return future.map(instancesByTenant);
+  }
+
+  private Future<Void> updateShadowInstances(Map<String, List<Instance>> instancesByTenant,
+                                             Map<String, String> headers) {
+    List<List<String>> tenantsChunks =
+      Lists.partition(new ArrayList<>(instancesByTenant.keySet()), instancesParallelUpdatesLimit);
+
+    Future<Void> future = Future.succeededFuture();
+    for (List<String> tenantsChunk : tenantsChunks) {
+      future = future.compose(v -> Future.all(tenantsChunk.stream()
+          .map(tenantId -> updateTenantShadowInstances(tenantId, instancesByTenant.get(tenantId), headers))
+          .toList())
+        .mapEmpty());
+    }
+    return future;
+  }
+
+  private Future<Integer> updateTenantShadowInstances(String tenantId, List<Instance> instances,
+                                                      Map<String, String> okapiHeaders) {
+    return getShadowInstanceRepository(tenantId, okapiHeaders)
+      .updateKeepingVersion(instances)
+      .onFailure(e -> LOG.warn(
+        "updateTenantShadowInstances:: Error during shadow instances update, tenantId: '{}', instances count: {}",
+        tenantId, instances.size(), e))
+      .onSuccess(count -> LOG.info(
+        "updateTenantShadowInstances:: {} of {} shadow instances have been updated, tenantId: '{}'",
+        count, instances.size(), tenantId));
+  }
+
   private boolean isCentralTenantId(String tenantId, ConsortiumData consortiumData) {
     return tenantId.equals(consortiumData.getCentralTenantId());
   }
 
   private Future<Void> synchronizeShadowInstances(DomainEvent<Instance> event, String instanceId,
                                                   ConsortiumData consortiumData, Map<String, String> headers) {
+    long startTime = System.currentTimeMillis();
     return getShadowInstancesTenantIds(consortiumData.getConsortiumId(), consortiumData.getCentralTenantId(),
       instanceId, headers)
-      .compose(tenantIds -> updateShadowInstances(event, tenantIds, headers));
+      .compose(tenantIds -> updateShadowInstances(event, tenantIds, headers)
+        .onComplete(ar -> LOG.info("synchronizeShadowInstances:: Synchronization of shadow instances took {} ms, "
+            + "instanceId: '{}', tenants count: {}, succeeded: {}",
+          System.currentTimeMillis() - startTime, instanceId, tenantIds.size(), ar.succeeded())));
   }
 
   private Future<List<String>> getShadowInstancesTenantIds(String consortiumId, String centralTenantId,
                                                            String instanceId, Map<String, String> headers) {
-    String okapiUrl = headers.get(URL);
-    String preparedPath = format(SHARING_INSTANCES_PATH, consortiumId, instanceId);
-    WebClient client = WebClient.wrap(httpClient);
-    HttpRequest<Buffer> request = client.requestAbs(GET, okapiUrl + preparedPath);
-    headers.forEach(request::putHeader);
-    request.addQueryParam(LIMIT_QUERY_PARAM, TENANT_IDS_LIMIT);
-
-    return request.send().compose(response -> {
-      if (response.statusCode() != HTTP_OK) {
-        String msg = format("Error retrieving shadow instances tenant ids, response status: '%s', response body: '%s'",
-          response.statusCode(), response.bodyAsString());
-        LOG.warn("getShadowInstancesTenantIds:: {}", msg);
-        return Future.failedFuture(msg);
-      }
-
-      List<String> affiliationsTenantIds = response.bodyAsJsonObject().getJsonArray(SHARING_INSTANCES_FIELD)
-        .stream()
-        .map(JsonObject.class::cast)
-        .flatMap(sharing ->
-          Stream.of(sharing.getString(TARGET_TENANT_ID_FIELD), sharing.getString(SOURCE_TENANT_ID_FIELD)))
+    return sharingInstancesCache.getSharingTenantIds(consortiumId, instanceId, headers)
+      .map(tenantIds -> tenantIds.stream()
         .filter(tenantId -> !tenantId.equals(centralTenantId))
-        .toList();
-      return Future.succeededFuture(affiliationsTenantIds);
-    });
+        .toList());
   }
 
   private Future<Void> updateShadowInstances(DomainEvent<Instance> event, List<String> tenantIds,
                                              Map<String, String> headers) {
     try {
       LOG.info("updateShadowInstances:: Trying to update shadow instances in the following tenants: {} ", tenantIds);
-      Instance instance = PostgresClient.pojo2JsonObject(event.getNewEntity()).mapTo(Instance.class);
-      prepareInstanceForUpdate(instance);
+      Instance instance = toShadowInstance(event);
       List<List<String>> tenantsChunks = Lists.partition(tenantIds, instancesParallelUpdatesLimit);
 
       Future<CompositeFuture> future = Future.succeededFuture();
@@ -164,27 +246,35 @@ public class ShadowInstanceSynchronizationHandler implements AsyncRecordHandler<
     return GenericCompositeFuture.join(updateFutures);
   }
 
-  private void prepareInstanceForUpdate(Instance instance) {
+  private Instance toShadowInstance(DomainEvent<Instance> event) throws JsonProcessingException {
+    Instance instance = PostgresClient.pojo2JsonObject(event.getNewEntity()).mapTo(Instance.class);
     instance.setSource(format(CONSORTIUM_SOURCE_TEMPLATE, instance.getSource()));
+    return instance;
   }
 
   private Future<Void> updateShadowInstance(Instance instance, String tenantId, Map<String, String> okapiHeaders) {
     LOG.debug("updateShadowInstance:: Trying to update shadow instance, tenantId: '{}', instanceId: '{}'",
       tenantId, instance.getId());
-    HashMap<String, String> headers = new HashMap<>(okapiHeaders);
-    headers.put(TENANT, tenantId);
-    InstanceRepository instanceRepository = new InstanceRepository(vertx.getOrCreateContext(), headers);
 
-    return instanceRepository.getById(instance.getId())
-      .map(Instance::getVersion)
-      .compose(currentVersion -> instanceRepository.update(instance.getId(), instance.withVersion(currentVersion)))
+    return getShadowInstanceRepository(tenantId, okapiHeaders)
+      .updateKeepingVersion(instance.getId(), instance)
       .onFailure(e -> LOG.warn(
         "updateShadowInstance:: Error during shadow instance update, tenantId: '{}', instanceId: '{}'",
         tenantId, instance.getId(), e))
       .onSuccess(v -> LOG.info(
         "updateShadowInstance:: Shadow instance has been updated, tenantId: '{}', instanceId: '{}'",
-        tenantId, instance.getId()))
-      .mapEmpty();
+        tenantId, instance.getId()));
+  }
+
+  private InstanceRepository getShadowInstanceRepository(String tenantId, Map<String, String> okapiHeaders) {
+    return shadowInstanceRepositories.computeIfAbsent(tenantId, key -> {
+      HashMap<String, String> headers = new HashMap<>(okapiHeaders);
+      headers.put(TENANT, tenantId);
+      return new InstanceRepository(vertx.getOrCreateContext(), headers);
+    });
+  }
+
+  private record InstanceUpdate(Instance instance, Map<String, String> headers) {
   }
 
 }
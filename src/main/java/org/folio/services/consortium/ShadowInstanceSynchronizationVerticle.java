@@ -5,34 +5,71 @@ import static org.folio.InventoryKafkaTopic.INSTANCE;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
-import io.vertx.core.http.HttpClient;
+import io.vertx.kafka.client.common.TopicPartition;
+import io.vertx.kafka.client.consumer.KafkaConsumer;
+import io.vertx.kafka.client.consumer.KafkaConsumerRecord;
+import io.vertx.kafka.client.consumer.KafkaConsumerRecords;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.kafka.AsyncRecordHandler;
 import org.folio.kafka.GlobalLoadSensor;
 import org.folio.kafka.KafkaConfig;
 import org.folio.kafka.KafkaConsumerWrapper;
+import org.folio.kafka.KafkaTopicNameHelper;
+import org.folio.kafka.SimpleConfigurationReader;
 import org.folio.kafka.SubscriptionDefinition;
 import org.folio.kafka.services.KafkaEnvironmentProperties;
 import org.folio.services.caches.ConsortiumDataCache;
+import org.folio.services.caches.SharingInstancesCache;
+import org.folio.services.domainevent.DomainEventDeserializer;
+import org.folio.services.domainevent.DomainEventEncoding;
 
 public class ShadowInstanceSynchronizationVerticle extends AbstractVerticle {
 
+  private static final Logger LOG = LogManager.getLogger(ShadowInstanceSynchronizationVerticle.class);
   private static final String LOAD_LIMIT_PARAM = "consumer.instance-synchronization.load-limit";
   private static final String DEFAULT_LOAD_LIMIT = "5";
+  private static final String BATCH_ENABLED_PARAM = "consumer.instance-synchronization.batch.enabled";
+  private static final String BATCH_POLL_TIMEOUT_PARAM = "consumer.instance-synchronization.batch.poll-timeout.ms";
+  private static final String DEFAULT_BATCH_POLL_TIMEOUT = "1000";
+  private static final String BATCH_RETRY_DELAY_PARAM = "consumer.instance-synchronization.batch.retry-delay.ms";
+  private static final String DEFAULT_BATCH_RETRY_DELAY = "5000";
+  private static final String BATCH_MAX_RETRIES_PARAM = "consumer.instance-synchronization.batch.max-retries";
+  private static final String DEFAULT_BATCH_MAX_RETRIES = "3";
   private static final String TENANT_PATTERN = "\\w{1,}";
 
   private final ConsortiumDataCache consortiumDataCache;
+  private final SharingInstancesCache sharingInstancesCache;
+  private int batchFailures;
 
-  public ShadowInstanceSynchronizationVerticle(ConsortiumDataCache consortiumDataCache) {
+  public ShadowInstanceSynchronizationVerticle(ConsortiumDataCache consortiumDataCache,
+                                               SharingInstancesCache sharingInstancesCache) {
     this.consortiumDataCache = consortiumDataCache;
+    this.sharingInstancesCache = sharingInstancesCache;
   }
 
   @Override
   public void start(Promise<Void> startPromise) throws Exception {
-    HttpClient httpClient = vertx.createHttpClient();
     ShadowInstanceSynchronizationHandler handler =
-      new ShadowInstanceSynchronizationHandler(consortiumDataCache, httpClient, vertx);
+      new ShadowInstanceSynchronizationHandler(consortiumDataCache, sharingInstancesCache, vertx);
 
-    createKafkaConsumerWrapper(handler).onComplete(startPromise);
+    if (Boolean.parseBoolean(System.getProperty(BATCH_ENABLED_PARAM, "false"))) {
+      createBatchKafkaConsumer(handler).onComplete(startPromise);
+    } else if (DomainEventEncoding.configured().isBinary()) {
+      // the consumer wrapper always decodes the events as UTF-8 text
+      LOG.info("start:: Domain events are published as {}, using the batch consumer that decodes them",
+        DomainEventEncoding.configured());
+      createBatchKafkaConsumer(handler).onComplete(startPromise);
+    } else {
+      createKafkaConsumerWrapper(handler).onComplete(startPromise);
+    }
   }
 
   private Future<Void> createKafkaConsumerWrapper(
@@ -55,10 +92,110 @@ public class ShadowInstanceSynchronizationVerticle extends AbstractVerticle {
       .build();
 
     return consumerWrapper
-      .start(recordHandler, INSTANCE.moduleName() + ShadowInstanceSynchronizationVerticle.class.getName())
+      .start(recordHandler, getModuleName())
       .mapEmpty();
   }
 
+  /**
+   * Creates consumer that polls instance events in batches, the batch is passed to
+   * {@link ShadowInstanceSynchronizationHandler#handleBatch} and its offsets are committed only after
+   * the whole batch is applied. If the batch fails, the consumer seeks back to the beginning of the batch
+   * and polls it again after a delay. After {@code consumer.instance-synchronization.batch.max-retries}
+   * failed attempts the events are applied one by one, an event that still fails is logged and skipped.
+   * The consumer uses the same group as the record-by-record consumer,
+   * so that switching between the modes does not reprocess events. The events are decoded by their
+   * content-type header, the consumer is also used when the domain events are published with a binary encoding.
+   */
+  private Future<Void> createBatchKafkaConsumer(ShadowInstanceSynchronizationHandler handler) {
+    String subscriptionPattern = INSTANCE.fullTopicName(TENANT_PATTERN);
+    String groupId = KafkaTopicNameHelper.formatGroupName(INSTANCE.topicName(), getModuleName());
+    KafkaConsumer<String, String> consumer = KafkaConsumer.create(vertx, getBatchKafkaConsumerProperties(groupId));
+
+    return consumer.subscribe(Pattern.compile(subscriptionPattern))
+      .onSuccess(v -> {
+        LOG.info("createBatchKafkaConsumer:: Consumer created, subscriptionPattern: {}", subscriptionPattern);
+        pollBatch(consumer, handler);
+      });
+  }
+
+  private void pollBatch(KafkaConsumer<String, String> consumer, ShadowInstanceSynchronizationHandler handler) {
+    long pollTimeout = Long.parseLong(System.getProperty(BATCH_POLL_TIMEOUT_PARAM, DEFAULT_BATCH_POLL_TIMEOUT));
+    long retryDelay = Long.parseLong(System.getProperty(BATCH_RETRY_DELAY_PARAM, DEFAULT_BATCH_RETRY_DELAY));
+    int maxRetries = Integer.parseInt(System.getProperty(BATCH_MAX_RETRIES_PARAM, DEFAULT_BATCH_MAX_RETRIES));
+
+    consumer.poll(Duration.ofMillis(pollTimeout))
+      .compose(records -> records.isEmpty()
+        ? Future.<Void>succeededFuture()
+        : applyBatch(records, handler, batchFailures >= maxRetries)
+          .compose(v -> consumer.commit())
+          .onSuccess(v -> batchFailures = 0)
+          .recover(e -> {
+            batchFailures++;
+            LOG.warn("pollBatch:: Failed to apply events batch, it will be polled again, batch size: {}, "
+              + "failed attempts: {}", records.size(), batchFailures, e);
+            return seekToBatchStart(consumer, records).compose(v -> Future.failedFuture(e));
+          }))
+      .onComplete(ar -> {
+        if (ar.succeeded()) {
+          pollBatch(consumer, handler);
+        } else {
+          vertx.setTimer(retryDelay, timerId -> pollBatch(consumer, handler));
+        }
+      });
+  }
+
+  private Future<Void> applyBatch(KafkaConsumerRecords<String, String> records,
+                                  ShadowInstanceSynchronizationHandler handler, boolean oneByOne) {
+    if (!oneByOne) {
+      return handler.handleBatch(records);
+    }
+
+    Future<Void> future = Future.succeededFuture();
+    for (int i = 0; i < records.size(); i++) {
+      KafkaConsumerRecord<String, String> kafkaRecord = records.recordAt(i);
+      future = future.compose(v -> handler.handle(kafkaRecord)
+        .<Void>mapEmpty()
+        .recover(e -> {
+          LOG.error("applyBatch:: Skipping event that failed repeatedly, topic: '{}', partition: {}, offset: {}, "
+            + "key: '{}'", kafkaRecord.topic(), kafkaRecord.partition(), kafkaRecord.offset(), kafkaRecord.key(), e);
+          return Future.succeededFuture();
+        }));
+    }
+    return future;
+  }
+
+  private Future<Void> seekToBatchStart(KafkaConsumer<String, String> consumer,
+                                        KafkaConsumerRecords<String, String> records) {
+    Map<TopicPartition, Long> batchStartOffsets = new HashMap<>();
+    for (int i = 0; i < records.size(); i++) {
+      KafkaConsumerRecord<String, String> kafkaRecord = records.recordAt(i);
+      batchStartOffsets.merge(new TopicPartition(kafkaRecord.topic(), kafkaRecord.partition()),
+        kafkaRecord.offset(), Math::min);
+    }
+
+    List<Future<Void>> seekFutures = new ArrayList<>();
+    batchStartOffsets.forEach((partition, offset) -> seekFutures.add(consumer.seek(partition, offset)));
+    return Future.all(seekFutures).mapEmpty();
+  }
+
+  private Map<String, String> getBatchKafkaConsumerProperties(String groupId) {
+    Map<String, String> config = new HashMap<>();
+    config.put("bootstrap.servers", KafkaEnvironmentProperties.host() + ":" + KafkaEnvironmentProperties.port());
+    config.put("key.deserializer", StringDeserializer.class.getName());
+    config.put("value.deserializer", DomainEventDeserializer.class.getName());
+    config.put("max.poll.records", SimpleConfigurationReader.getValue(
+      List.of("kafka.consumer.max.poll.records", "spring.kafka.consumer.max-poll-records"), "100"));
+    config.put("group.id", groupId);
+    config.put("metadata.max.age.ms", "15000");
+    config.put("auto.offset.reset", "earliest");
+    config.put("enable.auto.commit", "false");
+    return config;
+  }
+
+  private String getModuleName() {
+    return INSTANCE.moduleName() + ShadowInstanceSynchronizationVerticle.class.getName();
+  }
+
   private KafkaConfig getKafkaConfig() {
     return KafkaConfig.builder()
       .envId(KafkaEnvironmentProperties.environment())
@@ -68,7 +68,9 @@ abstract class AbstractDomainEventPublisher<D, E> {
         batchOperation.getExistingRecords().size());
 
       publishRecordsCreated(batchOperation.getRecordsToBeCreated()).compose(
-        notUsed -> publishUpdated(batchOperation.getExistingRecords()));
+        notUsed -> batchOperation.isOldStateCaptured()
+          ? publishUpdated(batchOperation.getExistingRecords())
+          : publishUpdatedWithoutOldState(batchOperation.getExistingRecords()));
     };
   }
 
@@ -92,6 +94,13 @@ abstract class AbstractDomainEventPublisher<D, E> {
     return domainEventService.publishAllRecordsRemoved();
   }
 
+  /**
+   * Publishes a single "records bulk loaded" event instead of one event per created record.
+   */
+  public Future<Void> publishBulkLoaded(long recordsLoaded) {
+    return domainEventService.publishRecordsBulkLoaded(recordsLoaded);
+  }
+
   public Handler<Response> publishUpdated(D oldRecord) {
     return response -> {
       if (!isUpdateSuccessResponse(response)) {
@@ -116,6 +125,25 @@ abstract class AbstractDomainEventPublisher<D, E> {
       .compose(domainEventService::publishRecordsUpdated);
   }
 
+  /**
+   * Publishes update events that contain the new records only, used when the old records were not fetched.
+   */
+  protected Future<Void> publishUpdatedWithoutOldState(Collection<D> updatedRecords) {
+    if (updatedRecords.isEmpty()) {
+      log.info("No records were updated, skipping event sending");
+      return succeededFuture();
+    }
+
+    log.info("[{}] records were updated, sending events without old records for them", updatedRecords.size());
+
+    return repository.getById(updatedRecords, this::getId)
+      .compose(newRecords -> convertDomainsToEvents(newRecords.values()))
+      .map(pairs -> pairs.stream()
+        .map(pair -> AbstractDomainEventPublisher.<String, E, E>triple(pair.getKey(), null, pair.getValue()))
+        .collect(toList()))
+      .compose(domainEventService::publishRecordsUpdated);
+  }
+
   protected abstract Future<List<Pair<String, D>>> getRecordIds(Collection<D> domainTypes);
 
   protected abstract E convertDomainToEvent(String instanceId, D domain);
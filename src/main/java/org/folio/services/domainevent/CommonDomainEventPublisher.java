@@ -8,12 +8,18 @@ import static org.folio.services.domainevent.DomainEvent.createEvent;
 import static org.folio.services.domainevent.DomainEvent.deleteAllEvent;
 import static org.folio.services.domainevent.DomainEvent.deleteEvent;
 import static org.folio.services.domainevent.DomainEvent.updateEvent;
+import static org.folio.services.domainevent.DomainEventDelta.DELTA_FORMAT;
+import static org.folio.services.domainevent.DomainEventDelta.EVENT_FORMAT_HEADER;
+import static org.folio.services.domainevent.DomainEventEncoding.CONTENT_TYPE_HEADER;
+import static org.folio.services.domainevent.DomainEventProducerManager.BINARY_PRODUCER_PREFIX;
 
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.kafka.client.producer.KafkaProducer;
+import io.vertx.kafka.client.producer.KafkaProducerRecord;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +31,6 @@ import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.Logger;
 import org.folio.kafka.KafkaConfig;
 import org.folio.kafka.KafkaProducerManager;
-import org.folio.kafka.SimpleKafkaProducerManager;
 import org.folio.kafka.services.KafkaEnvironmentProperties;
 import org.folio.kafka.services.KafkaProducerRecordBuilder;
 import org.folio.rest.tools.utils.TenantTool;
@@ -33,11 +38,15 @@ import org.folio.rest.tools.utils.TenantTool;
 public class CommonDomainEventPublisher<T> {
   public static final String NULL_ID = "00000000-0000-0000-0000-000000000000";
   private static final Logger log = getLogger(CommonDomainEventPublisher.class);
+  private static final String DELTA_INCLUDE_NEW_PARAM = "domain-events.delta.include-new";
+  private static final String STREAM_PRODUCER_PREFIX = "stream_";
 
   private final Map<String, String> okapiHeaders;
   private final KafkaProducerManager producerManager;
   private final FailureHandler failureHandler;
   private final String kafkaTopic;
+  private final String deltaTopic;
+  private final DomainEventEncoding encoding;
 
   CommonDomainEventPublisher(Map<String, String> okapiHeaders, String kafkaTopic,
                              KafkaProducerManager kafkaProducerManager, FailureHandler failureHandler) {
@@ -46,6 +55,10 @@ public class CommonDomainEventPublisher<T> {
     this.kafkaTopic = kafkaTopic;
     this.producerManager = kafkaProducerManager;
     this.failureHandler = failureHandler;
+    this.deltaTopic = DeltaKafkaTopic.isDeltaTopic(kafkaTopic)
+      ? DeltaKafkaTopic.deltaTopicName(kafkaTopic)
+      : null;
+    this.encoding = DomainEventEncoding.configured();
   }
 
   public CommonDomainEventPublisher(Context vertxContext, Map<String, String> okapiHeaders,
@@ -61,7 +74,7 @@ public class CommonDomainEventPublisher<T> {
       .kafkaHost(KafkaEnvironmentProperties.host())
       .build();
 
-    return new SimpleKafkaProducerManager(vertxContext.owner(), kafkaConfig);
+    return new DomainEventProducerManager(vertxContext.owner(), kafkaConfig);
   }
 
   public <R> Future<Long> publishStream(ReadStream<R> readStream,
@@ -69,7 +82,13 @@ public class CommonDomainEventPublisher<T> {
                                         LongFunction<Future<?>> progressHandler) {
 
     var promise = Promise.<Long>promise();
-    var kafkaProducer = getOrCreateProducer("stream_");
+    KafkaProducer<String, String> jsonProducer = encoding.isBinary()
+      ? null
+      : getOrCreateProducer(STREAM_PRODUCER_PREFIX);
+    KafkaProducer<String, byte[]> binaryProducer = encoding.isBinary()
+      ? producerManager.createShared(BINARY_PRODUCER_PREFIX + STREAM_PRODUCER_PREFIX + kafkaTopic)
+      : null;
+    KafkaProducer<String, ?> kafkaProducer = encoding.isBinary() ? binaryProducer : jsonProducer;
     var recordsProcessed = new AtomicLong(0);
 
     readStream.exceptionHandler(error -> {
@@ -79,13 +98,15 @@ public class CommonDomainEventPublisher<T> {
       var producerRecord = mapper.apply(rec)
         .topic(kafkaTopic).propagateOkapiHeaders(okapiHeaders).build();
 
-      kafkaProducer.send(producerRecord)
-        .onFailure(error -> {
-          log.error("Unable to send event [{}]", producerRecord.value(), error);
+      Future<?> sent = binaryProducer != null
+        ? binaryProducer.send(toBinaryRecord(producerRecord))
+        : jsonProducer.send(producerRecord);
+      sent.onFailure(error -> {
+        log.error("Unable to send event [{}]", producerRecord.value(), error);
 
-          failureHandler.handleFailure(error, producerRecord);
-          recordsProcessed.decrementAndGet();
-        });
+        failureHandler.handleFailure(error, producerRecord);
+        recordsProcessed.decrementAndGet();
+      });
 
       progressHandler.apply(recordsProcessed.incrementAndGet())
         .onFailure(error -> {
@@ -112,8 +133,24 @@ public class CommonDomainEventPublisher<T> {
 
   Future<Void> publishRecordUpdated(String instanceId, T oldRecord, T newRecord) {
     final DomainEvent<T> domainEvent = updateEvent(oldRecord, newRecord, tenantId(okapiHeaders));
+    Future<Void> published = publish(instanceId, domainEvent);
 
-    return publish(instanceId, domainEvent);
+    if (deltaTopic != null && oldRecord != null) {
+      return all(published, publishDelta(instanceId, JsonObject.mapFrom(oldRecord), JsonObject.mapFrom(newRecord)))
+        .mapEmpty();
+    }
+    return published;
+  }
+
+  Future<Void> publishRecordUpdated(String instanceId, String oldRecord, String newRecord) {
+    final DomainEventRaw domainEvent = DomainEventRaw.updateEvent(oldRecord, newRecord, tenantId(okapiHeaders));
+    Future<Void> published = publish(instanceId, domainEvent);
+
+    if (deltaTopic != null && oldRecord != null) {
+      return all(published, publishDelta(instanceId, new JsonObject(oldRecord), new JsonObject(newRecord)))
+        .mapEmpty();
+    }
+    return published;
   }
 
   Future<Void> publishRecordsUpdated(Collection<Triple<String, T, T>> updatedRecords) {
@@ -160,17 +197,60 @@ public class CommonDomainEventPublisher<T> {
     return publish(NULL_ID, deleteAllEvent(tenantId(okapiHeaders)));
   }
 
+  Future<Void> publishRecordsBulkLoaded(long recordsLoaded) {
+    String summary = new JsonObject().put("recordsLoaded", recordsLoaded).encode();
+
+    return publish(NULL_ID, DomainEventRaw.bulkLoadEvent(summary, tenantId(okapiHeaders)));
+  }
+
+  /**
+   * Publishes the delta update event to the companion delta topic, the full update event is published to the topic
+   * regardless.
+   */
+  private Future<Void> publishDelta(String instanceId, JsonObject oldRecord, JsonObject newRecord) {
+    var domainEvent = DomainEventDelta.updateEvent(oldRecord, newRecord, tenantId(okapiHeaders),
+      Boolean.parseBoolean(System.getProperty(DELTA_INCLUDE_NEW_PARAM, "false")));
+
+    return publish(deltaTopic, instanceId, domainEvent, Map.of(EVENT_FORMAT_HEADER, DELTA_FORMAT));
+  }
+
   private Future<Void> publish(String key, Object value) {
+    return publish(kafkaTopic, key, value, Map.of());
+  }
+
+  private Future<Void> publish(String topic, String key, Object value, Map<String, String> headers) {
     log.debug("Sending domain event [{}], payload [{}]", key, value);
 
-    var producerRecord = new KafkaProducerRecordBuilder<String, Object>(TenantTool.tenantId(okapiHeaders))
+    var builder = new KafkaProducerRecordBuilder<String, Object>(TenantTool.tenantId(okapiHeaders))
       .key(key)
       .value(value)
-      .topic(kafkaTopic)
-      .propagateOkapiHeaders(okapiHeaders)
-      .build();
+      .topic(topic)
+      .propagateOkapiHeaders(okapiHeaders);
+    headers.forEach(builder::header);
+    var producerRecord = builder.build();
+
+    if (encoding.isBinary()) {
+      return send(producerManager.createShared(BINARY_PRODUCER_PREFIX + topic), toBinaryRecord(producerRecord),
+        producerRecord);
+    }
 
-    KafkaProducer<String, String> producer = getOrCreateProducer();
+    return send(producerManager.createShared(topic), producerRecord, producerRecord);
+  }
+
+  /**
+   * Converts the JSON record into a record with the configured binary encoding.
+   */
+  private KafkaProducerRecord<String, byte[]> toBinaryRecord(KafkaProducerRecord<String, String> jsonRecord) {
+    return KafkaProducerRecord.create(jsonRecord.topic(), jsonRecord.key(), encoding.encode(jsonRecord.value()))
+      .addHeaders(jsonRecord.headers())
+      .addHeader(CONTENT_TYPE_HEADER, encoding.getContentType());
+  }
+
+  /**
+   * Sends the record, the JSON record is passed to the failure handler if sending fails.
+   */
+  private <V> Future<Void> send(KafkaProducer<String, V> producer, KafkaProducerRecord<String, V> producerRecord,
+                                KafkaProducerRecord<String, String> jsonRecord) {
 
     return producer.send(producerRecord)
       .<Void>mapEmpty()
@@ -178,16 +258,12 @@ public class CommonDomainEventPublisher<T> {
       .eventually(x -> producer.close())
       .onFailure(cause -> {
         log.error("Unable to send domain event [{}], payload - [{}]",
-          key, value, cause);
+          jsonRecord.key(), jsonRecord.value(), cause);
 
-        failureHandler.handleFailure(cause, producerRecord);
+        failureHandler.handleFailure(cause, jsonRecord);
       });
   }
 
-  private KafkaProducer<String, String> getOrCreateProducer() {
-    return getOrCreateProducer("");
-  }
-
   private KafkaProducer<String, String> getOrCreateProducer(String prefix) {
     return producerManager.createShared(prefix + kafkaTopic);
   }
@@ -0,0 +1,62 @@
+package org.folio.services.domainevent;
+
+import java.util.Arrays;
+import org.folio.InventoryKafkaTopic;
+import org.folio.kafka.services.KafkaTopic;
+
+/**
+ * Companion topic of a domain event topic that gets the {@link DomainEventDelta} update events in addition to
+ * the full update events of the topic, for example {@code inventory.item.delta} for {@code inventory.item}.
+ *
+ * <p>The topics are configured by their short name in the {@code domain-events.delta.topics} system property
+ * (comma separated). Consumers opt in to the delta format by subscribing to the companion topic, consumers of
+ * the topic itself keep getting the full update events.
+ *
+ * @param topic - the topic that gets the full update events
+ */
+public record DeltaKafkaTopic(KafkaTopic topic) implements KafkaTopic {
+  private static final String DELTA_TOPICS_PARAM = "domain-events.delta.topics";
+  private static final String DELTA_TOPIC_SUFFIX = ".delta";
+
+  /**
+   * Returns the companion topics of the configured inventory topics, these are created and deleted together with
+   * the inventory topics.
+   */
+  public static DeltaKafkaTopic[] configured() {
+    return Arrays.stream(InventoryKafkaTopic.values())
+      .filter(topic -> isDeltaTopic(topic.moduleName() + "." + topic.topicName()))
+      .map(DeltaKafkaTopic::new)
+      .toArray(DeltaKafkaTopic[]::new);
+  }
+
+  /**
+   * Whether delta update events are published for the topic, the topic is given by its full or its short name.
+   */
+  static boolean isDeltaTopic(String kafkaTopic) {
+    return kafkaTopic != null && Arrays.stream(System.getProperty(DELTA_TOPICS_PARAM, "").split(","))
+      .map(String::trim)
+      .anyMatch(topic -> !topic.isEmpty() && (kafkaTopic.equals(topic) || kafkaTopic.endsWith("." + topic)));
+  }
+
+  /**
+   * Returns the full name of the companion topic of the full topic name.
+   */
+  static String deltaTopicName(String kafkaTopic) {
+    return kafkaTopic + DELTA_TOPIC_SUFFIX;
+  }
+
+  @Override
+  public String moduleName() {
+    return topic.moduleName();
+  }
+
+  @Override
+  public String topicName() {
+    return topic.topicName() + DELTA_TOPIC_SUFFIX;
+  }
+
+  @Override
+  public int numPartitions() {
+    return topic.numPartitions();
+  }
+}
@@ -0,0 +1,90 @@
+package org.folio.services.domainevent;
+
+import static org.folio.services.domainevent.DomainEventType.UPDATE;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.Objects;
+
+/**
+ * Compact update domain event: instead of the full old and new entity it carries the id, the
+ * {@code _version} and an RFC 6902 JSON patch that transforms the old entity into the new one.
+ *
+ * <p>Nested objects are compared property by property, arrays are replaced as a whole.
+ */
+public final class DomainEventDelta {
+  public static final String EVENT_FORMAT_HEADER = "event-format";
+  public static final String DELTA_FORMAT = "delta";
+
+  private DomainEventDelta() {
+  }
+
+  /**
+   * Creates the delta update event.
+   *
+   * @param oldEntity  - the entity before the update
+   * @param newEntity  - the entity after the update
+   * @param tenant     - tenant name
+   * @param includeNew - whether the full new entity is added as {@code new}
+   * @return the event
+   */
+  public static JsonObject updateEvent(JsonObject oldEntity, JsonObject newEntity, String tenant,
+                                       boolean includeNew) {
+
+    var event = new JsonObject()
+      .put("type", UPDATE.name())
+      .put("tenant", tenant)
+      .put("id", newEntity.getValue("id"))
+      .put("_version", newEntity.getValue("_version"))
+      .put("patch", diff(oldEntity, newEntity));
+
+    if (includeNew) {
+      event.put("new", newEntity);
+    }
+    return event;
+  }
+
+  /**
+   * Returns the RFC 6902 JSON patch operations that transform source into target.
+   */
+  static JsonArray diff(JsonObject source, JsonObject target) {
+    var operations = new JsonArray();
+    diff("", source, target, operations);
+    return operations;
+  }
+
+  private static void diff(String path, JsonObject source, JsonObject target, JsonArray operations) {
+    for (String name : source.fieldNames()) {
+      if (!target.containsKey(name)) {
+        operations.add(operation("remove", path + "/" + escape(name)));
+      }
+    }
+
+    for (String name : target.fieldNames()) {
+      String fieldPath = path + "/" + escape(name);
+      Object targetValue = target.getValue(name);
+      if (!source.containsKey(name)) {
+        operations.add(operation("add", fieldPath).put("value", targetValue));
+        continue;
+      }
+
+      Object sourceValue = source.getValue(name);
+      if (sourceValue instanceof JsonObject sourceObject && targetValue instanceof JsonObject targetObject) {
+        diff(fieldPath, sourceObject, targetObject, operations);
+      } else if (!Objects.equals(sourceValue, targetValue)) {
+        operations.add(operation("replace", fieldPath).put("value", targetValue));
+      }
+    }
+  }
+
+  private static JsonObject operation(String op, String path) {
+    return new JsonObject().put("op", op).put("path", path);
+  }
+
+  /**
+   * Escapes a property name for a JSON pointer (RFC 6901).
+   */
+  private static String escape(String name) {
+    return name.replace("~", "~0").replace("/", "~1");
+  }
+}
@@ -0,0 +1,45 @@
+package org.folio.services.domainevent;
+
+import static org.folio.services.domainevent.DomainEventEncoding.CONTENT_TYPE_HEADER;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Kafka deserializer of domain events for the consumers of this module, it decodes the event by its
+ * {@link DomainEventEncoding#CONTENT_TYPE_HEADER} header, so that the consumers get JSON regardless of
+ * the {@code domain-events.encoding} the event was published with.
+ *
+ * <p>An event that cannot be decoded is passed on as UTF-8 text, the consumer fails to parse it and skips it,
+ * failing here would stop the consumer at the event.
+ */
+public class DomainEventDeserializer implements Deserializer<String> {
+  private static final Logger LOG = LogManager.getLogger(DomainEventDeserializer.class);
+
+  @Override
+  public String deserialize(String topic, byte[] data) {
+    return data == null ? null : DomainEventEncoding.JSON.decode(data);
+  }
+
+  @Override
+  public String deserialize(String topic, Headers headers, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+
+    Header contentType = headers == null ? null : headers.lastHeader(CONTENT_TYPE_HEADER);
+    DomainEventEncoding encoding = contentType == null
+      ? DomainEventEncoding.JSON
+      : DomainEventEncoding.ofContentType(new String(contentType.value(), StandardCharsets.UTF_8));
+    try {
+      return encoding.decode(data);
+    } catch (IllegalArgumentException e) {
+      LOG.warn("deserialize:: Cannot decode event as {}, topic: '{}'", encoding, topic, e);
+      return DomainEventEncoding.JSON.decode(data);
+    }
+  }
+}
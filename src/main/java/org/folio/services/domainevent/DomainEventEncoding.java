@@ -0,0 +1,109 @@
+package org.folio.services.domainevent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.vertx.core.json.jackson.DatabindCodec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Encoding of the domain event payload sent to Kafka.
+ *
+ * <p>The event is always serialized to JSON first, a binary encoding converts the JSON, so that all events
+ * including the ones with raw JSON values are encoded the same way. Events with a binary encoding have the
+ * {@link #CONTENT_TYPE_HEADER} Kafka header, consumers use it to decode the event back to JSON.
+ */
+public enum DomainEventEncoding {
+  JSON("application/json"),
+  SMILE("application/x-jackson-smile");
+
+  public static final String CONTENT_TYPE_HEADER = "content-type";
+  private static final String ENCODING_PARAM = "domain-events.encoding";
+  private static final ObjectMapper SMILE_MAPPER = new SmileMapper();
+  private static final Logger LOG = LogManager.getLogger(DomainEventEncoding.class);
+  private static volatile String reportedUnknownValue;
+
+  private final String contentType;
+
+  DomainEventEncoding(String contentType) {
+    this.contentType = contentType;
+  }
+
+  /**
+   * Returns the encoding configured by the {@code domain-events.encoding} system property, JSON by default.
+   * An unknown value falls back to JSON, a warning is logged once for it.
+   */
+  public static DomainEventEncoding configured() {
+    String value = System.getProperty(ENCODING_PARAM, JSON.name());
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      if (!value.equals(reportedUnknownValue)) {
+        reportedUnknownValue = value;
+        LOG.warn("configured:: Unknown {} value '{}', using JSON; supported values: {}", ENCODING_PARAM, value,
+          Arrays.toString(values()));
+      }
+      return JSON;
+    }
+  }
+
+  /**
+   * Returns the encoding of the {@link #CONTENT_TYPE_HEADER} value of an event, JSON if the event has no or an
+   * unknown content type.
+   */
+  public static DomainEventEncoding ofContentType(String contentType) {
+    return Arrays.stream(values())
+      .filter(encoding -> encoding.contentType.equalsIgnoreCase(contentType))
+      .findFirst()
+      .orElse(JSON);
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public boolean isBinary() {
+    return this != JSON;
+  }
+
+  /**
+   * Encodes the JSON serialized event.
+   *
+   * @param json - the event serialized to JSON
+   * @return bytes of the event
+   */
+  public byte[] encode(String json) {
+    if (this == JSON) {
+      return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    try {
+      return SMILE_MAPPER.writeValueAsBytes(DatabindCodec.mapper().readTree(json));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot encode domain event as " + this, e);
+    }
+  }
+
+  /**
+   * Decodes the bytes of an event with this encoding.
+   *
+   * @param bytes - bytes of the event
+   * @return the event as JSON
+   */
+  public String decode(byte[] bytes) {
+    if (this == JSON) {
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    try {
+      return DatabindCodec.mapper().writeValueAsString(SMILE_MAPPER.readTree(bytes));
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot decode domain event as " + this, e);
+    }
+  }
+}
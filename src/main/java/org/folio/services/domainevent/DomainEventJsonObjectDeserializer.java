@@ -0,0 +1,26 @@
+package org.folio.services.domainevent;
+
+import io.vertx.core.json.JsonObject;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka deserializer of domain events into {@link JsonObject}, decodes the event like {@link DomainEventDeserializer}.
+ */
+public class DomainEventJsonObjectDeserializer implements Deserializer<JsonObject> {
+  private final DomainEventDeserializer deserializer = new DomainEventDeserializer();
+
+  @Override
+  public JsonObject deserialize(String topic, byte[] data) {
+    return toJsonObject(deserializer.deserialize(topic, data));
+  }
+
+  @Override
+  public JsonObject deserialize(String topic, Headers headers, byte[] data) {
+    return toJsonObject(deserializer.deserialize(topic, headers, data));
+  }
+
+  private static JsonObject toJsonObject(String json) {
+    return json == null ? null : new JsonObject(json);
+  }
+}
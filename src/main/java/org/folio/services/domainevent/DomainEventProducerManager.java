@@ -0,0 +1,44 @@
+package org.folio.services.domainevent;
+
+import io.vertx.core.Vertx;
+import io.vertx.kafka.client.producer.KafkaProducer;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.folio.kafka.KafkaConfig;
+import org.folio.kafka.KafkaProducerManager;
+
+/**
+ * Creates the Kafka producers of the domain event publishers.
+ *
+ * <p>The producers compress the record batches with the codec of the {@code domain-events.compression.type}
+ * system property: {@code none} (default), {@code gzip}, {@code snappy}, {@code lz4} or {@code zstd}. Producers
+ * with a name starting with {@link #BINARY_PRODUCER_PREFIX} send byte array values.
+ */
+public class DomainEventProducerManager implements KafkaProducerManager {
+  public static final String BINARY_PRODUCER_PREFIX = "binary_";
+  private static final String COMPRESSION_TYPE_PARAM = "domain-events.compression.type";
+
+  private final Vertx vertx;
+  private final KafkaConfig kafkaConfig;
+
+  public DomainEventProducerManager(Vertx vertx, KafkaConfig kafkaConfig) {
+    this.vertx = vertx;
+    this.kafkaConfig = kafkaConfig;
+  }
+
+  @Override
+  public <K, V> KafkaProducer<K, V> createShared(String producerName) {
+    return KafkaProducer.createShared(vertx, producerName, producerProps(producerName));
+  }
+
+  Map<String, String> producerProps(String producerName) {
+    Map<String, String> props = new HashMap<>(kafkaConfig.getProducerProps());
+    props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, System.getProperty(COMPRESSION_TYPE_PARAM, "none"));
+    if (producerName.startsWith(BINARY_PRODUCER_PREFIX)) {
+      props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+    }
+    return props;
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.services.domainevent;
 
+import static org.folio.services.domainevent.DomainEventType.BULK_LOAD;
 import static org.folio.services.domainevent.DomainEventType.CREATE;
 import static org.folio.services.domainevent.DomainEventType.DELETE;
 import static org.folio.services.domainevent.DomainEventType.DELETE_ALL;
@@ -64,6 +65,10 @@ public class DomainEventRaw {
     return new DomainEventRaw(null, job, MIGRATION, tenant);
   }
 
+  public static DomainEventRaw bulkLoadEvent(String summary, String tenant) {
+    return new DomainEventRaw(null, summary, BULK_LOAD, tenant);
+  }
+
   public String getOldEntity() {
     return oldEntity;
   }
@@ -1,5 +1,5 @@
 package org.folio.services.domainevent;
 
 public enum DomainEventType {
-  UPDATE, DELETE, CREATE, DELETE_ALL, REINDEX, ITERATE, MIGRATION
+  UPDATE, DELETE, CREATE, DELETE_ALL, REINDEX, ITERATE, MIGRATION, BULK_LOAD
 }
@@ -32,12 +32,15 @@ public class ItemDomainEventPublisher extends AbstractDomainEventPublisher<Item,
     holdingsRepository = new HoldingsRepository(context, okapiHeaders);
   }
 
-  public Future<Void> publishUpdated(Item newItem, Item oldItem, HoldingsRecord newHoldings,
-                                     HoldingsRecord oldHoldings) {
-    ItemWithInstanceId oldItemWithId = new ItemWithInstanceId(oldItem, oldHoldings.getInstanceId());
-    ItemWithInstanceId newItemWithId = new ItemWithInstanceId(newItem, newHoldings.getInstanceId());
-
-    return domainEventService.publishRecordUpdated(newHoldings.getInstanceId(), oldItemWithId, newItemWithId);
+  /**
+   * Publishes the update event from the JSON of the old and the new item as stored in the database,
+   * without deserializing and serializing the items.
+   */
+  public Future<Void> publishUpdated(String oldInstanceId, String newInstanceId, String oldItemRaw,
+                                     String newItemRaw) {
+
+    return domainEventService.publishRecordUpdated(newInstanceId, withInstanceId(oldInstanceId, oldItemRaw),
+      withInstanceId(newInstanceId, newItemRaw));
   }
 
   public Future<Void> publishUpdated(HoldingsRecord oldHoldings, HoldingsRecord newHoldings, List<Item> oldItems) {
@@ -55,8 +58,7 @@ public class ItemDomainEventPublisher extends AbstractDomainEventPublisher<Item,
 
   @Override
   public void publishRemoved(String instanceId, String itemRaw) {
-    String instanceIdAndItemRaw = "{\"instanceId\":\"" + instanceId + "\"," + itemRaw.substring(1);
-    domainEventService.publishRecordRemoved(instanceId, instanceIdAndItemRaw);
+    domainEventService.publishRecordRemoved(instanceId, withInstanceId(instanceId, itemRaw));
   }
 
   @Override
@@ -85,6 +87,10 @@ public class ItemDomainEventPublisher extends AbstractDomainEventPublisher<Item,
       newItems.stream().map(item -> pair(newHoldings.getInstanceId(), item)).collect(toList()));
   }
 
+  private static String withInstanceId(String instanceId, String itemRaw) {
+    return "{\"instanceId\":\"" + instanceId + "\"," + itemRaw.substring(1);
+  }
+
   private String getInstanceId(Map<String, HoldingsRecord> holdings, Item item) {
     return holdings.get(item.getHoldingsRecordId()).getInstanceId();
   }
@@ -16,19 +16,19 @@ import static org.folio.rest.persist.PgUtil.postgresClient;
 import static org.folio.services.batch.BatchOperationContextFactory.buildBatchOperationContext;
 import static org.folio.validator.HridValidators.refuseWhenHridChanged;
 
+import com.google.common.collect.Lists;
 import io.vertx.core.AsyncResult;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.Logger;
+import org.folio.persist.BulkLoadRepository;
 import org.folio.persist.HoldingsRepository;
 import org.folio.persist.InstanceRepository;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
@@ -38,11 +38,12 @@ import org.folio.rest.persist.SQLConnection;
 import org.folio.rest.support.CqlQuery;
 import org.folio.rest.support.HridManager;
 import org.folio.services.ResponseHandlerUtil;
+import org.folio.services.bulkload.BulkLoadSession;
 import org.folio.services.caches.ConsortiumData;
 import org.folio.services.caches.ConsortiumDataCache;
+import org.folio.services.caches.SharingInstancesCache;
 import org.folio.services.consortium.ConsortiumService;
 import org.folio.services.consortium.ConsortiumServiceImpl;
-import org.folio.services.consortium.entities.SharingInstance;
 import org.folio.services.domainevent.HoldingDomainEventPublisher;
 import org.folio.services.domainevent.ItemDomainEventPublisher;
 import org.folio.services.item.ItemService;
@@ -51,6 +52,9 @@ import org.folio.validator.NotesValidators;
 
 public class HoldingsService {
   private static final Logger log = getLogger(HoldingsService.class);
+  private static final String SHADOW_INSTANCES_PARALLEL_CREATION_COUNT_PARAM =
+    "shadow-instances.parallel.creation.count";
+  private static final String DEFAULT_SHADOW_INSTANCES_PARALLEL_CREATION_COUNT = "5";
   private final Context vertxContext;
   private final Map<String, String> okapiHeaders;
   private final PostgresClient postgresClient;
@@ -61,6 +65,7 @@ public class HoldingsService {
   private final HoldingDomainEventPublisher domainEventPublisher;
   private final InstanceRepository instanceRepository;
   private final ConsortiumService consortiumService;
+  private final int shadowInstancesParallelCreationLimit;
 
   public HoldingsService(Context context, Map<String, String> okapiHeaders) {
     this.vertxContext = context;
@@ -74,7 +79,9 @@ public class HoldingsService {
     domainEventPublisher = new HoldingDomainEventPublisher(context, okapiHeaders);
     instanceRepository = new InstanceRepository(context, okapiHeaders);
     consortiumService = new ConsortiumServiceImpl(context.owner().createHttpClient(),
-      context.get(ConsortiumDataCache.class.getName()));
+      context.get(ConsortiumDataCache.class.getName()), context.get(SharingInstancesCache.class.getName()));
+    shadowInstancesParallelCreationLimit = Integer.parseInt(System.getProperty(
+      SHADOW_INSTANCES_PARALLEL_CREATION_COUNT_PARAM, DEFAULT_SHADOW_INSTANCES_PARALLEL_CREATION_COUNT));
   }
 
   /**
@@ -103,7 +110,7 @@ public class HoldingsService {
 
     return consortiumService.getConsortiumData(okapiHeaders)
       .compose(consortiumDataOptional -> consortiumDataOptional
-        .map(consortiumData -> createShadowInstanceIfNeeded(entity.getInstanceId(), consortiumData).mapEmpty())
+        .map(consortiumData -> createShadowInstancesIfNeeded(List.of(entity.getInstanceId()), consortiumData))
         .orElse(Future.succeededFuture()))
       .compose(v -> hridManager.populateHrid(entity))
       .compose(NotesValidators::refuseLongNotes)
@@ -153,6 +160,25 @@ public class HoldingsService {
       .map(Response.noContent().build());
   }
 
+  /**
+   * Creates a bulk load session that prepares the streamed holdings the same way as {@link #createHoldings}
+   * but inserts each batch in its own transaction and publishes a single domain event.
+   * Shadow instances are not created, the instances of the holdings must exist.
+   */
+  public BulkLoadSession<HoldingsRecord> createBulkLoadSession() {
+    return new BulkLoadSession<>(HoldingsRecord.class, new BulkLoadRepository(postgresClient, HOLDINGS_RECORD_TABLE),
+      okapiHeaders, this::prepareBulkLoadBatch, domainEventPublisher::publishBulkLoaded);
+  }
+
+  private Future<List<HoldingsRecord>> prepareBulkLoadBatch(List<HoldingsRecord> holdings) {
+    for (HoldingsRecord holdingsRecord : holdings) {
+      holdingsRecord.setEffectiveLocationId(calculateEffectiveLocation(holdingsRecord));
+    }
+
+    return hridManager.populateHridForHoldings(holdings)
+      .compose(NotesValidators::refuseHoldingLongNotes);
+  }
+
   public Future<Response> createHoldings(List<HoldingsRecord> holdings, boolean upsert, boolean optimisticLocking) {
     for (HoldingsRecord holdingsRecord : holdings) {
       holdingsRecord.setEffectiveLocationId(calculateEffectiveLocation(holdingsRecord));
@@ -161,7 +187,8 @@ public class HoldingsService {
     return consortiumService.getConsortiumData(okapiHeaders)
       .compose(consortiumDataOptional -> {
         if (consortiumDataOptional.isPresent()) {
-          return createShadowInstancesIfNeeded(holdings, consortiumDataOptional.get());
+          List<String> instanceIds = holdings.stream().map(HoldingsRecord::getInstanceId).distinct().toList();
+          return createShadowInstancesIfNeeded(instanceIds, consortiumDataOptional.get());
         }
         return Future.succeededFuture();
       })
@@ -235,26 +262,35 @@ public class HoldingsService {
     };
   }
 
-  private CompositeFuture createShadowInstancesIfNeeded(List<HoldingsRecord> holdingsRecords,
-                                                        ConsortiumData consortiumData) {
-    Map<String, Future<SharingInstance>> instanceFuturesMap = new HashMap<>();
-
-    for (HoldingsRecord holdingRecord : holdingsRecords) {
-      String instanceId = holdingRecord.getInstanceId();
-      instanceFuturesMap.computeIfAbsent(instanceId, v -> createShadowInstanceIfNeeded(instanceId, consortiumData));
-    }
-    return Future.all(new ArrayList<>(instanceFuturesMap.values()));
-  }
-
-  private Future<SharingInstance> createShadowInstanceIfNeeded(String instanceId, ConsortiumData consortiumData) {
-    return instanceRepository.getById(instanceId)
-      .compose(instance -> {
-        if (instance != null) {
+  /**
+   * Creates shadow instances for those of the given instance ids that do not exist in the local tenant.
+   * Existence is checked with a single query, sharing requests run with bounded concurrency.
+   */
+  private Future<Void> createShadowInstancesIfNeeded(List<String> instanceIds, ConsortiumData consortiumData) {
+    return instanceRepository.getExistingIds(instanceIds)
+      .compose(existingIds -> {
+        // the payload may contain upper case ids, existing ids are in canonical lower case
+        List<String> missingIds = instanceIds.stream()
+          .map(instanceId -> UUID.fromString(instanceId).toString())
+          .distinct()
+          .filter(instanceId -> !existingIds.contains(instanceId))
+          .toList();
+        if (missingIds.isEmpty()) {
           return Future.succeededFuture();
         }
-        log.info("createShadowInstanceIfNeeded:: instance with id: {} is not found in local tenant."
-          + " Trying to create a shadow instance", instanceId);
-        return consortiumService.createShadowInstance(instanceId, consortiumData, okapiHeaders);
+        log.info("createShadowInstancesIfNeeded:: {} of {} instances are not found in local tenant."
+          + " Trying to create shadow instances: {}", missingIds.size(), instanceIds.size(), missingIds);
+
+        Future<Void> future = Future.succeededFuture();
+        for (List<String> idsChunk : Lists.partition(missingIds, shadowInstancesParallelCreationLimit)) {
+          future = future.compose(v -> Future.all(idsChunk.stream()
+              .map(instanceId -> consortiumService.createShadowInstance(instanceId, consortiumData, okapiHeaders))
+              .toList())
+            .mapEmpty());
+        }
+        return future
+          .onSuccess(v -> log.info("createShadowInstancesIfNeeded:: {} shadow instances were created for the batch of "
+            + "{} instances", missingIds.size(), instanceIds.size()));
       });
   }
 
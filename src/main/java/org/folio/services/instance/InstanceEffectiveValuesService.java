@@ -34,7 +34,9 @@ public class InstanceEffectiveValuesService {
 
     for (Instance newInstance : allInstances) {
       var instanceId = newInstance.getId();
-      if (existingInstancesMap.containsKey(instanceId)) {
+      if (!context.isOldStateCaptured()) {
+        populatePublicationPeriod(newInstance);
+      } else if (existingInstancesMap.containsKey(instanceId)) {
         populateEffectiveValues(newInstance, existingInstancesMap.get(instanceId));
       } else {
         populateEffectiveValues(newInstance);
@@ -3,6 +3,7 @@ package org.folio.services.instance;
 import static io.vertx.core.Promise.promise;
 import static org.folio.persist.InstanceRepository.INSTANCE_TABLE;
 import static org.folio.rest.impl.StorageHelper.MAX_ENTITIES;
+import static org.folio.rest.impl.StorageHelper.getParallelDbConnectionsLimit;
 import static org.folio.rest.jaxrs.resource.InstanceStorage.DeleteInstanceStorageInstancesByInstanceIdResponse;
 import static org.folio.rest.jaxrs.resource.InstanceStorage.DeleteInstanceStorageInstancesResponse;
 import static org.folio.rest.jaxrs.resource.InstanceStorage.GetInstanceStorageInstancesByInstanceIdResponse;
@@ -16,31 +17,45 @@ import static org.folio.services.batch.BatchOperationContextFactory.buildBatchOp
 import static org.folio.validator.HridValidators.refuseWhenHridChanged;
 import static org.folio.validator.NotesValidators.refuseLongNotes;
 
+import com.google.common.collect.Lists;
 import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.persist.BulkLoadRepository;
 import org.folio.persist.InstanceMarcRepository;
 import org.folio.persist.InstanceRelationshipRepository;
 import org.folio.persist.InstanceRepository;
 import org.folio.rest.jaxrs.model.Instance;
+import org.folio.rest.jaxrs.model.InstancesBatchResponse;
 import org.folio.rest.jaxrs.resource.InstanceStorage;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.support.ConditionalGet;
 import org.folio.rest.support.CqlQuery;
 import org.folio.rest.support.HridManager;
+import org.folio.rest.tools.utils.MetadataUtil;
 import org.folio.services.ResponseHandlerUtil;
+import org.folio.services.bulkload.BulkLoadSession;
 import org.folio.services.domainevent.InstanceDomainEventPublisher;
 import org.folio.util.StringUtil;
 import org.folio.validator.CommonValidators;
 import org.folio.validator.NotesValidators;
 
 public class InstanceService {
+  private static final Logger LOG = LogManager.getLogger(InstanceService.class);
+  private static final int BATCH_CHUNK_SIZE = 500;
+
   private final HridManager hridManager;
   private final Context vertxContext;
   private final Map<String, String> okapiHeaders;
+  private final PostgresClient postgresClient;
   private final InstanceDomainEventPublisher domainEventPublisher;
   private final InstanceRepository instanceRepository;
   private final InstanceMarcRepository marcRepository;
@@ -51,7 +66,7 @@ public class InstanceService {
     this.vertxContext = vertxContext;
     this.okapiHeaders = okapiHeaders;
 
-    final PostgresClient postgresClient = postgresClient(vertxContext, okapiHeaders);
+    postgresClient = postgresClient(vertxContext, okapiHeaders);
     hridManager = new HridManager(postgresClient);
     domainEventPublisher = new InstanceDomainEventPublisher(vertxContext, okapiHeaders);
     instanceRepository = new InstanceRepository(vertxContext, okapiHeaders);
@@ -60,14 +75,15 @@ public class InstanceService {
     effectiveValuesService = new InstanceEffectiveValuesService();
   }
 
-  public Future<Response> getInstance(String id) {
-    return instanceRepository.getById(id)
-      .map(instance -> {
-        if (instance == null) {
-          return GetInstanceStorageInstancesByInstanceIdResponse.respond404WithTextPlain(null);
-        }
-        return GetInstanceStorageInstancesByInstanceIdResponse.respond200WithApplicationJson(instance);
-      });
+  /**
+   * Gets the instance, responds with 304 if ifNoneMatch is the ETag of its current version.
+   *
+   * @param ifNoneMatch - If-None-Match request header, null if not sent
+   */
+  public Future<Response> getInstance(String id, String ifNoneMatch) {
+    return ConditionalGet.get(instanceRepository, id, ifNoneMatch, Instance::getVersion,
+      GetInstanceStorageInstancesByInstanceIdResponse::respond200WithApplicationJson,
+      () -> GetInstanceStorageInstancesByInstanceIdResponse.respond404WithTextPlain(null));
   }
 
   @SuppressWarnings("java:S107")
@@ -124,6 +140,134 @@ public class InstanceService {
       .map(ResponseHandlerUtil::handleHridError);
   }
 
+  /**
+   * Creates the instances independently of each other, an instance that cannot be created does not prevent
+   * the others from being created. HRIDs are allocated for the whole batch at once and the instances are
+   * inserted in chunks with a single batch insert each. A chunk that fails is inserted instance by instance,
+   * so that the error of each failed instance is known.
+   *
+   * @param instances - instances to create
+   * @return created instances and an error message for each instance that was not created
+   */
+  public Future<InstancesBatchResponse> createInstancesWithPartialSuccess(List<Instance> instances) {
+    final String statusUpdatedDate = generateStatusUpdatedDate();
+    instances.forEach(instance -> {
+      instance.setStatusUpdatedDate(statusUpdatedDate);
+      if (instance.getId() == null) {
+        instance.setId(UUID.randomUUID().toString());
+      }
+      effectiveValuesService.populateEffectiveValues(instance);
+    });
+
+    try {
+      MetadataUtil.populateMetadata(instances, okapiHeaders);
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+
+    return populateHrids(instances).compose(hridResults -> {
+      List<Future<Instance>> validated = hridResults.stream()
+        .map(result -> result.compose(NotesValidators::refuseLongNotes))
+        .toList();
+      List<Instance> toBeSaved = validated.stream()
+        .filter(Future::succeeded)
+        .map(Future::result)
+        .toList();
+
+      return saveInChunks(toBeSaved).map(saveResults -> {
+        var saveResultsIterator = saveResults.iterator();
+        var response = new InstancesBatchResponse();
+        for (Future<Instance> result : validated) {
+          var outcome = result.succeeded() ? saveResultsIterator.next() : result;
+          if (outcome.succeeded()) {
+            response.getInstances().add(outcome.result());
+          } else {
+            response.getErrorMessages().add(outcome.cause().getMessage());
+          }
+        }
+        return response.withTotalRecords(response.getInstances().size());
+      });
+    }).compose(response -> domainEventPublisher.publishInstancesCreated(response.getInstances()).map(response));
+  }
+
+  /**
+   * Creates a bulk load session that prepares the streamed instances the same way as {@link #createInstances}
+   * but inserts each batch in its own transaction and publishes a single domain event.
+   */
+  public BulkLoadSession<Instance> createBulkLoadSession() {
+    return new BulkLoadSession<>(Instance.class, new BulkLoadRepository(postgresClient, INSTANCE_TABLE),
+      okapiHeaders, this::prepareBulkLoadBatch, domainEventPublisher::publishBulkLoaded);
+  }
+
+  /**
+   * Allocates the HRIDs for the whole batch at once. If that fails, for example because the sequence is
+   * exhausted, the HRIDs are allocated one by one so that only the instances without an HRID fail.
+   */
+  private Future<List<Future<Instance>>> populateHrids(List<Instance> instances) {
+    return hridManager.populateHridForInstances(instances)
+      .map(populated -> populated.stream().<Future<Instance>>map(Future::succeededFuture).toList())
+      .recover(e -> {
+        LOG.warn("populateHrids:: Cannot allocate HRIDs for {} instances at once, allocating them one by one",
+          instances.size(), e);
+        List<Future<Instance>> results = instances.stream().map(hridManager::populateHrid).toList();
+        return Future.join(results).map(results).otherwise(results);
+      });
+  }
+
+  /**
+   * Saves the instances in chunks, at most as many chunks in parallel as the parallel db connections limit.
+   *
+   * @return result of each instance, in the order of the instances
+   */
+  private Future<List<Future<Instance>>> saveInChunks(List<Instance> instances) {
+    List<Future<Instance>> results = new ArrayList<>(instances.size());
+    Future<Void> future = Future.succeededFuture();
+    for (List<List<Instance>> chunks : Lists.partition(Lists.partition(instances, BATCH_CHUNK_SIZE),
+      getParallelDbConnectionsLimit())) {
+
+      future = future.compose(notUsed -> {
+        List<Future<List<Future<Instance>>>> chunkResults = chunks.stream().map(this::saveChunk).toList();
+        return Future.all(chunkResults)
+          .onSuccess(saved -> chunkResults.forEach(chunkResult -> results.addAll(chunkResult.result())))
+          .<Void>mapEmpty();
+      });
+    }
+    return future.map(results);
+  }
+
+  private Future<List<Future<Instance>>> saveChunk(List<Instance> chunk) {
+    return postgresClient.saveBatch(INSTANCE_TABLE, chunk)
+      .map(notUsed -> chunk.stream().<Future<Instance>>map(Future::succeededFuture).toList())
+      .recover(e -> {
+        if (chunk.size() == 1) {
+          return Future.succeededFuture(List.of(Future.<Instance>failedFuture(e)));
+        }
+
+        LOG.info("saveChunk:: Chunk of {} instances failed, saving the instances one by one", chunk.size());
+        List<Future<Instance>> results = new ArrayList<>(chunk.size());
+        Future<Void> future = Future.succeededFuture();
+        for (Instance instance : chunk) {
+          future = future.compose(notUsed -> postgresClient.save(INSTANCE_TABLE, instance.getId(), instance)
+            .transform(ar -> {
+              results.add(ar.succeeded() ? Future.succeededFuture(instance) : Future.failedFuture(ar.cause()));
+              return Future.<Void>succeededFuture();
+            }));
+        }
+        return future.map(results);
+      });
+  }
+
+  private Future<List<Instance>> prepareBulkLoadBatch(List<Instance> instances) {
+    final String statusUpdatedDate = generateStatusUpdatedDate();
+    instances.forEach(instance -> {
+      instance.setStatusUpdatedDate(statusUpdatedDate);
+      effectiveValuesService.populateEffectiveValues(instance);
+    });
+
+    return hridManager.populateHridForInstances(instances)
+      .compose(NotesValidators::refuseInstanceLongNotes);
+  }
+
   public Future<Response> updateInstance(String id, Instance newInstance) {
     return refuseLongNotes(newInstance)
       .compose(notUsed -> instanceRepository.getById(id))
@@ -14,6 +14,7 @@ import static org.folio.rest.jaxrs.resource.ItemStorage.DeleteItemStorageItemsBy
 import static org.folio.rest.jaxrs.resource.ItemStorage.DeleteItemStorageItemsResponse;
 import static org.folio.rest.jaxrs.resource.ItemStorage.PostItemStorageItemsResponse;
 import static org.folio.rest.jaxrs.resource.ItemStorage.PutItemStorageItemsByItemIdResponse;
+import static org.folio.rest.jaxrs.resource.ItemStorage.PutItemStorageItemsStatusByItemIdResponse;
 import static org.folio.rest.jaxrs.resource.ItemStorageBatchSynchronous.PostItemStorageBatchSynchronousResponse;
 import static org.folio.rest.persist.PgUtil.deleteById;
 import static org.folio.rest.persist.PgUtil.post;
@@ -22,7 +23,6 @@ import static org.folio.rest.persist.PgUtil.postgresClient;
 import static org.folio.rest.persist.PostgresClient.pojo2JsonObject;
 import static org.folio.rest.support.CollectionUtil.deepCopy;
 import static org.folio.services.batch.BatchOperationContextFactory.buildBatchOperationContext;
-import static org.folio.validator.HridValidators.refuseWhenHridChanged;
 import static org.folio.validator.NotesValidators.refuseLongNotes;
 
 import io.vertx.core.AsyncResult;
@@ -43,12 +43,17 @@ import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.folio.okapi.common.XOkapiHeaders;
-import org.folio.persist.HoldingsRepository;
+import org.folio.persist.BulkLoadRepository;
 import org.folio.persist.ItemRepository;
+import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.exceptions.NotFoundException;
 import org.folio.rest.jaxrs.model.CirculationNote;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.jaxrs.model.ItemStatusUpdate;
 import org.folio.rest.jaxrs.model.Metadata;
 import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PostgresClient;
@@ -59,11 +64,18 @@ import org.folio.rest.support.HridManager;
 import org.folio.rest.tools.client.exceptions.ResponseException;
 import org.folio.services.ItemEffectiveValuesService;
 import org.folio.services.ResponseHandlerUtil;
+import org.folio.services.batch.BatchStageTimings;
+import org.folio.services.bulkload.BulkLoadSession;
 import org.folio.services.domainevent.ItemDomainEventPublisher;
 import org.folio.validator.CommonValidators;
 import org.folio.validator.NotesValidators;
 
 public class ItemService {
+  private static final Logger LOG = LogManager.getLogger(ItemService.class);
+  private static final String HRID_STAGE = "hrid";
+  private static final String EFFECTIVE_VALUES_STAGE = "effectiveValues";
+  private static final String EXISTING_RECORDS_STAGE = "existingRecords";
+  private static final String SAVE_STAGE = "save";
   private static final Pattern KEY_ALREADY_EXISTS_PATTERN = Pattern.compile(
     ": Key \\(([^=]+)\\)=\\((.*)\\) already exists.$");
   private static final Pattern KEY_NOT_PRESENT_PATTERN = Pattern.compile(
@@ -77,7 +89,6 @@ public class ItemService {
   private final ItemRepository itemRepository;
   private final PostgresClient postgresClient;
   private final PostgresClientFuturized postgresClientFuturized;
-  private final HoldingsRepository holdingsRepository;
 
   public ItemService(Context vertxContext, Map<String, String> okapiHeaders) {
     this.vertxContext = vertxContext;
@@ -89,7 +100,6 @@ public class ItemService {
     effectiveValuesService = new ItemEffectiveValuesService(vertxContext, okapiHeaders);
     domainEventService = new ItemDomainEventPublisher(vertxContext, okapiHeaders);
     itemRepository = new ItemRepository(vertxContext, okapiHeaders);
-    holdingsRepository = new HoldingsRepository(vertxContext, okapiHeaders);
   }
 
   private static Response putFailure(Throwable e) {
@@ -141,15 +151,47 @@ public class ItemService {
       .filter(item -> item.getStatus().getDate() == null)
       .forEach(item -> item.getStatus().setDate(itemStatusDate));
 
-    return hridManager.populateHridForItems(items)
-      .compose(NotesValidators::refuseItemLongNotes)
-      .compose(result -> effectiveValuesService.populateEffectiveValues(items))
+    var timings = new BatchStageTimings();
+    return NotesValidators.refuseItemLongNotes(items)
       .compose(this::populateCirculationNoteId)
-      .compose(result -> buildBatchOperationContext(upsert, items, itemRepository, Item::getId))
-      .compose(batchOperation -> postSync(ITEM_TABLE, items, MAX_ENTITIES, upsert, optimisticLocking,
-        okapiHeaders, vertxContext, PostItemStorageBatchSynchronousResponse.class)
+      .compose(notUsed -> {
+        // HRID allocation, holdings lookup for the effective values and existing items lookup
+        // are independent of each other, they run concurrently
+        var hrids = timings.time(HRID_STAGE, () -> hridManager.populateHridForItems(items));
+        var effectiveValues = timings.time(EFFECTIVE_VALUES_STAGE,
+          () -> effectiveValuesService.populateEffectiveValues(items));
+        var batchOperation = timings.time(EXISTING_RECORDS_STAGE,
+          () -> buildBatchOperationContext(upsert, items, itemRepository, Item::getId));
+        return Future.all(hrids, effectiveValues, batchOperation)
+          .map(allCompleted -> batchOperation.result());
+      })
+      .compose(batchOperation -> timings.time(SAVE_STAGE, () -> postSync(ITEM_TABLE, items, MAX_ENTITIES, upsert,
+          optimisticLocking, okapiHeaders, vertxContext, PostItemStorageBatchSynchronousResponse.class))
         .onSuccess(domainEventService.publishCreatedOrUpdated(batchOperation)))
-      .map(ResponseHandlerUtil::handleHridError);
+      .map(ResponseHandlerUtil::handleHridError)
+      .onComplete(ar -> LOG.log(timings.getLogLevel(), "createItems:: {} items processed, {}", items.size(), timings));
+  }
+
+  /**
+   * Creates a bulk load session that prepares the streamed items the same way as {@link #createItems}
+   * but inserts each batch in its own transaction and publishes a single domain event.
+   */
+  public BulkLoadSession<Item> createBulkLoadSession() {
+    return new BulkLoadSession<>(Item.class, new BulkLoadRepository(postgresClient, ITEM_TABLE), okapiHeaders,
+      this::prepareBulkLoadBatch, domainEventService::publishBulkLoaded);
+  }
+
+  private Future<List<Item>> prepareBulkLoadBatch(List<Item> items) {
+    final Date itemStatusDate = new Date();
+    items.stream()
+      .filter(item -> item.getStatus().getDate() == null)
+      .forEach(item -> item.getStatus().setDate(itemStatusDate));
+
+    return NotesValidators.refuseItemLongNotes(items)
+      .compose(this::populateCirculationNoteId)
+      .compose(notUsed -> Future.all(hridManager.populateHridForItems(items),
+        effectiveValuesService.populateEffectiveValues(items)))
+      .map(items);
   }
 
   public Future<Response> updateItems(List<Item> items) {
@@ -158,29 +200,67 @@ public class ItemService {
 
   public Future<Response> updateItem(String itemId, Item newItem) {
     newItem.setId(itemId);
-    PutData putData = new PutData();
     return refuseLongNotes(newItem)
       .compose(this::populateCirculationNoteId)
-      .compose(notUsed -> getItemAndHolding(itemId, newItem.getHoldingsRecordId()))
-      .onSuccess(putData::set)
-      .compose(x -> refuseWhenHridChanged(putData.oldItem, newItem))
-      .compose(x -> {
-        if (newItem.getHoldingsRecordId().equals(putData.oldItem.getHoldingsRecordId())) {
-          return Future.succeededFuture(putData.newHoldings);
-        }
-        return holdingsRepository.getById(putData.oldItem.getHoldingsRecordId());
+      .compose(notUsed -> getHoldingsOfExistingItem(itemId, newItem.getHoldingsRecordId()))
+      .compose(newHoldings -> {
+        effectiveValuesService.populateEffectiveValues(newItem, newHoldings);
+        return doUpdateItem(newItem)
+          .onSuccess(updated -> domainEventService.publishUpdated(updated.oldInstanceId(),
+            newHoldings.getInstanceId(), updated.oldItem(), updated.newItem()));
       })
-      .compose(oldHoldings -> {
-        putData.oldHoldings = oldHoldings;
-        effectiveValuesService.populateEffectiveValues(newItem, putData.newHoldings);
-        return doUpdateItem(newItem);
-      })
-      .onSuccess(finalItem ->
-        domainEventService.publishUpdated(finalItem, putData.oldItem, putData.newHoldings, putData.oldHoldings))
       .<Response>map(x -> PutItemStorageItemsByItemIdResponse.respond204())
       ;
   }
 
+  /**
+   * Changes the status of the item in a single statement without reading and writing the whole item.
+   * The status is not used by any effective value, so the effective values are not recomputed.
+   */
+  public Future<Response> updateItemStatus(String itemId, ItemStatusUpdate statusUpdate) {
+    JsonObject metadata;
+    try {
+      metadata = pojo2JsonObject(new Metadata()
+        .withUpdatedDate(new Date())
+        .withUpdatedByUserId(okapiHeaders.get(XOkapiHeaders.USER_ID)));
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+    String tableName = postgresClientFuturized.getFullTableName(ITEM_TABLE);
+    String holdingsTableName = postgresClientFuturized.getFullTableName(HOLDINGS_RECORD_TABLE);
+    // the status date is set by the update_item_status_date trigger, the _version is checked by the
+    // optimistic locking trigger
+    String sql = "WITH old AS ("
+      + "  SELECT jsonb FROM " + tableName + " WHERE id = $1 FOR UPDATE"
+      + "), updated AS ("
+      + "  UPDATE " + tableName + " AS target"
+      + "  SET jsonb = jsonb_set(target.jsonb, '{status}', jsonb_build_object('name', $2::text))"
+      + "    || jsonb_build_object('_version', $3::integer,"
+      + "      'metadata', COALESCE(target.jsonb->'metadata', '{}'::jsonb) || $4::jsonb)"
+      + "  FROM old WHERE target.id = $1"
+      + "  RETURNING target.jsonb"
+      + ") "
+      + "SELECT old.jsonb::text, updated.jsonb::text, holdings.jsonb->>'instanceId' "
+      + "FROM old "
+      + "JOIN updated ON true "
+      + "LEFT JOIN " + holdingsTableName + " AS holdings"
+      + "  ON holdings.id = (old.jsonb->>'holdingsRecordId')::uuid";
+    // single item updates never suppress optimistic locking
+    Integer version = Integer.valueOf(-1).equals(statusUpdate.getVersion()) ? null : statusUpdate.getVersion();
+    Tuple tuple = Tuple.of(itemId, statusUpdate.getName().value(), version, metadata);
+
+    return postgresClient.execute(sql, tuple)
+      .compose(rowSet -> {
+        if (rowSet.size() != 1) {
+          return Future.failedFuture(new NotFoundException("Not found"));
+        }
+        var row = rowSet.iterator().next();
+        String instanceId = row.getString(2);
+        domainEventService.publishUpdated(instanceId, instanceId, row.getString(0), row.getString(1));
+        return Future.succeededFuture(PutItemStorageItemsStatusByItemIdResponse.respond204());
+      });
+  }
+
   public Future<Response> deleteItem(String itemId) {
     return itemRepository.getById(itemId)
       .compose(CommonValidators::refuseIfNotFound)
@@ -279,32 +359,31 @@ public class ItemService {
     return connection -> itemRepository.update(connection, item.getId(), item);
   }
 
-  private Future<PutData> getItemAndHolding(String itemId, String holdingsId) {
-    String sql = "SELECT item.jsonb::text, holdings_record.jsonb::text "
-      + "FROM " + postgresClientFuturized.getFullTableName(ITEM_TABLE) + " "
-      + "LEFT JOIN " + postgresClientFuturized.getFullTableName(HOLDINGS_RECORD_TABLE)
-      + "  ON holdings_record.id = $2 "
-      + "WHERE item.id = $1";
+  private Future<HoldingsRecord> getHoldingsOfExistingItem(String itemId, String holdingsId) {
+    String sql = "SELECT (SELECT jsonb::text FROM " + postgresClientFuturized.getFullTableName(HOLDINGS_RECORD_TABLE)
+      + " WHERE id = $2), "
+      + "EXISTS (SELECT 1 FROM " + postgresClientFuturized.getFullTableName(ITEM_TABLE) + " WHERE id = $1)";
     return postgresClient.execute(sql, Tuple.of(itemId, holdingsId))
       .compose(rowSet -> {
-        if (rowSet.size() == 0) {
+        var row = rowSet.iterator().next();
+        if (!row.getBoolean(1)) {
           return Future.failedFuture(new ResponseException(
             PutItemStorageItemsByItemIdResponse.respond404WithTextPlain("Not found")));
         }
-        var row = rowSet.iterator().next();
-        if (row.getString(1) == null) {
+        if (row.getString(0) == null) {
           return Future.failedFuture(new ResponseException(
             PutItemStorageItemsByItemIdResponse.respond400WithTextPlain(
               "holdingsRecordId not found: " + holdingsId)));
         }
-        PutData putData = new PutData();
-        putData.oldItem = readValue(row.getString(0), Item.class);
-        putData.newHoldings = readValue(row.getString(1), HoldingsRecord.class);
-        return Future.succeededFuture(putData);
+        return Future.succeededFuture(readValue(row.getString(0), HoldingsRecord.class));
       });
   }
 
-  private Future<Item> doUpdateItem(Item item) {
+  /**
+   * Updates the item and returns the old and the new item as stored, and the instance id of the old
+   * holdings record, all in a single statement. The update is refused if the hrid is changed.
+   */
+  private Future<ItemUpdate> doUpdateItem(Item item) {
     if (Integer.valueOf(-1).equals(item.getVersion())) {
       item.setVersion(null);  // enforce optimistic locking
     }
@@ -316,17 +395,35 @@ public class ItemService {
       return Future.failedFuture(e);
     }
     String tableName = postgresClientFuturized.getFullTableName(ITEM_TABLE);
+    String holdingsTableName = postgresClientFuturized.getFullTableName(HOLDINGS_RECORD_TABLE);
+    String sql = "WITH old AS ("
+      + "  SELECT jsonb FROM " + tableName + " WHERE id = $2 FOR UPDATE"
+      + "), updated AS ("
+      + "  UPDATE " + tableName + " AS target SET jsonb = $1 FROM old"
+      + "  WHERE target.id = $2 AND old.jsonb->>'hrid' IS NOT DISTINCT FROM $1::jsonb->>'hrid'"
+      + "  RETURNING target.jsonb"
+      + ") "
+      + "SELECT old.jsonb::text, updated.jsonb::text, old_holdings.jsonb->>'instanceId', old.jsonb->>'hrid' "
+      + "FROM old "
+      + "LEFT JOIN updated ON true "
+      + "LEFT JOIN " + holdingsTableName + " AS old_holdings"
+      + "  ON old_holdings.id = (old.jsonb->>'holdingsRecordId')::uuid";
     Tuple tuple = Tuple.of(itemJson, item.getId());
 
-    return postgresClient.execute("UPDATE " + tableName + " SET jsonb=$1 WHERE id=$2 RETURNING jsonb::text", tuple)
+    return postgresClient.execute(sql, tuple)
+      .recover(e -> Future.failedFuture(new ResponseException(putFailure(e))))
       .compose(rowSet -> {
         if (rowSet.size() != 1) {
           return Future.failedFuture(new ResponseException(
             PutItemStorageItemsByItemIdResponse.respond404WithTextPlain("Record not Found")));
         }
-        return Future.succeededFuture(readValue(rowSet.iterator().next().getString(0), Item.class));
-      })
-      .recover(e -> Future.failedFuture(new ResponseException(putFailure(e))));
+        var row = rowSet.iterator().next();
+        if (row.getString(1) == null) {
+          return Future.failedFuture(new BadRequestException(String.format(
+            "The hrid field cannot be changed: new=%s, old=%s", item.getHrid(), row.getString(3))));
+        }
+        return Future.succeededFuture(new ItemUpdate(row.getString(0), row.getString(1), row.getString(2)));
+      });
   }
 
   private void populateMetadata(Item item, Metadata metadata) {
@@ -358,14 +455,14 @@ public class ItemService {
     return Future.succeededFuture(item);
   }
 
-  private static final class PutData {
-    private Item oldItem;
-    private HoldingsRecord oldHoldings;
-    private HoldingsRecord newHoldings;
-
-    public void set(PutData other) {
-      oldItem = other.oldItem;
-      newHoldings = other.newHoldings;
-    }
+  /**
+   * Item update as stored in the database.
+   *
+   * @param oldItem       - JSON of the item before the update
+   * @param newItem       - JSON of the item after the update
+   * @param oldInstanceId - instance id of the holdings record of the item before the update
+   */
+  private record ItemUpdate(String oldItem, String newItem, String oldInstanceId) {
   }
+
 }
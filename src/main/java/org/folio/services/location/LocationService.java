@@ -2,7 +2,6 @@ package org.folio.services.location;
 
 import static org.folio.rest.impl.StorageHelper.logAndSaveError;
 import static org.folio.rest.persist.PgUtil.deleteById;
-import static org.folio.rest.persist.PgUtil.get;
 import static org.folio.rest.persist.PgUtil.post;
 import static org.folio.rest.persist.PgUtil.put;
 
@@ -30,6 +29,7 @@ import org.folio.rest.jaxrs.resource.Locations.GetLocationsResponse;
 import org.folio.rest.jaxrs.resource.Locations.PostLocationsResponse;
 import org.folio.rest.jaxrs.resource.Locations.PutLocationsByIdResponse;
 import org.folio.rest.persist.PgUtil;
+import org.folio.rest.support.CollectionGet;
 import org.folio.services.domainevent.LocationDomainEventPublisher;
 
 public class LocationService {
@@ -49,9 +49,9 @@ public class LocationService {
     this.domainEventService = new LocationDomainEventPublisher(context, okapiHeaders);
   }
 
-  public Future<Response> getByQuery(String cql, int offset, int limit) {
-    return get(LOCATION_TABLE, Location.class, Locations.class,
-      cql, offset, limit, okapiHeaders, context, GetLocationsResponse.class);
+  public Future<Response> getByQuery(String cql, String totalRecords, int offset, int limit) {
+    return CollectionGet.get(LOCATION_TABLE, Location.class, Locations.class,
+      cql, totalRecords, offset, limit, okapiHeaders, context, GetLocationsResponse.class);
   }
 
   public Future<Response> getById(String id) {
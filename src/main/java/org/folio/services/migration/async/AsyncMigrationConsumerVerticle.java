@@ -7,7 +7,6 @@ import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
 import io.vertx.core.json.JsonObject;
 import io.vertx.kafka.client.consumer.KafkaConsumer;
-import io.vertx.kafka.client.serialization.JsonObjectDeserializer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
@@ -18,6 +17,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.kafka.SimpleConfigurationReader;
 import org.folio.kafka.services.KafkaEnvironmentProperties;
+import org.folio.services.domainevent.DomainEventJsonObjectDeserializer;
 
 public class AsyncMigrationConsumerVerticle extends AbstractVerticle {
   private static final Logger log = LogManager.getLogger(AsyncMigrationConsumerVerticle.class);
@@ -30,7 +30,7 @@ public class AsyncMigrationConsumerVerticle extends AbstractVerticle {
     config.put("key.deserializer", StringDeserializer.class.getName());
     config.put("max.poll.records", SimpleConfigurationReader.getValue(
       List.of("kafka.consumer.max.poll.records", "spring.kafka.consumer.max-poll-records"), "100"));
-    config.put("value.deserializer", JsonObjectDeserializer.class.getName());
+    config.put("value.deserializer", DomainEventJsonObjectDeserializer.class.getName());
     config.put("group.id", groupId);
     config.put("metadata.max.age.ms", "15000");
     config.put("auto.offset.reset", "earliest");
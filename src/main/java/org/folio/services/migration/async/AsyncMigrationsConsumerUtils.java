@@ -43,7 +43,8 @@ public final class AsyncMigrationsConsumerUtils {
         var availableMigrations = Set.of(
           new PublicationPeriodMigrationService(vertxContext, headers),
           new ShelvingOrderAsyncMigrationService(vertxContext, headers),
-          new SubjectSeriesMigrationService(vertxContext, headers));
+          new SubjectSeriesMigrationService(vertxContext, headers),
+          new InventoryViewMigrationService(vertxContext, headers));
         var jobService = new AsyncMigrationJobService(vertxContext, headers);
 
         var migrationEvents = buildIdsForMigrations(v.getValue());
@@ -0,0 +1,45 @@
+package org.folio.services.migration.async;
+
+import static java.lang.String.format;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import java.util.Collections;
+import java.util.List;
+import org.folio.rest.jaxrs.model.AffectedEntity;
+import org.folio.rest.jaxrs.model.AsyncMigrationJob;
+import org.folio.rest.persist.PostgresClientFuturized;
+import org.folio.rest.persist.SQLConnection;
+
+/**
+ * Fills the instance_holdings_item table for all instances, for example after the table has been created.
+ *
+ * <p>The triggers that maintain the table are installed before the instances are streamed, so that changes
+ * made while the migration runs are not missed.
+ */
+public class InventoryViewMigrationJobRunner extends AbstractAsyncMigrationJobRunner {
+
+  private static final String SELECT_SQL = "SELECT id FROM %s";
+
+  @Override
+  public String getMigrationName() {
+    return "inventoryViewMigration";
+  }
+
+  @Override
+  protected Future<Void> startMigration(AsyncMigrationJob migrationJob, AsyncMigrationContext context) {
+    return new InventoryViewMigrationService(context.getPostgresClient()).setTriggers(true)
+      .compose(notUsed -> super.startMigration(migrationJob, context));
+  }
+
+  @Override
+  public List<AffectedEntity> getAffectedEntities() {
+    return Collections.singletonList(AffectedEntity.INSTANCE);
+  }
+
+  @Override
+  protected Future<RowStream<Row>> openStream(PostgresClientFuturized postgresClient, SQLConnection connection) {
+    return postgresClient.selectStream(connection, format(SELECT_SQL, postgresClient.getFullTableName("instance")));
+  }
+}
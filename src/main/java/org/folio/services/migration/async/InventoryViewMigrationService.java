@@ -0,0 +1,84 @@
+package org.folio.services.migration.async;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.Tuple;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.folio.rest.persist.PgUtil;
+import org.folio.rest.persist.PostgresClientFuturized;
+import org.folio.rest.persist.SQLConnection;
+
+/**
+ * Computes the instance_holdings_item rows of the instances from instance_holdings_item_view.
+ */
+public class InventoryViewMigrationService extends AsyncBaseMigrationService {
+
+  private static final String SELECT_SQL = "SELECT id FROM %s WHERE %s";
+  private static final String WHERE_CONDITION = "id in (%s)";
+  private static final String REFRESH_FUNCTION = "refresh_instance_holdings_item";
+  private static final String SET_TRIGGERS_FUNCTION = "set_instance_holdings_item_triggers";
+
+  private final PostgresClientFuturized postgresClient;
+
+  public InventoryViewMigrationService(Context context, Map<String, String> okapiHeaders) {
+    this(new PostgresClientFuturized(PgUtil.postgresClient(context, okapiHeaders)));
+  }
+
+  public InventoryViewMigrationService(PostgresClientFuturized postgresClient) {
+    super("27.2.0", postgresClient);
+    this.postgresClient = postgresClient;
+  }
+
+  @Override
+  protected Future<RowStream<Row>> openStream(SQLConnection connection) {
+    return postgresClient.selectStream(connection, selectSql());
+  }
+
+  @Override
+  protected Future<Integer> updateBatch(List<Row> batch, SQLConnection connection) {
+    var ids = batch.stream()
+      .map(row -> row.getUUID("id"))
+      .toArray(UUID[]::new);
+
+    return connection.getConn()
+      .preparedQuery("SELECT " + postgresClient.getFullTableName(REFRESH_FUNCTION) + "($1)")
+      .execute(Tuple.of(ids))
+      .map(notUsed -> ids.length);
+  }
+
+  /**
+   * Installs or removes the triggers that keep instance_holdings_item up to date.
+   *
+   * @param enabled - true to install the triggers, false to remove them
+   */
+  public Future<Void> setTriggers(boolean enabled) {
+    return postgresClient.execute("SELECT " + postgresClient.getFullTableName(SET_TRIGGERS_FUNCTION)
+        + "(" + enabled + ")")
+      .mapEmpty();
+  }
+
+  @Override
+  public String getMigrationName() {
+    return "inventoryViewMigration";
+  }
+
+  private String selectSql() {
+    var idsForMigration = getIdsForMigration();
+    var whereCondition = "false";
+
+    if (!idsForMigration.isEmpty()) {
+      var ids = idsForMigration.stream()
+        .map(id -> "'" + id + "'")
+        .collect(Collectors.joining(", "));
+
+      whereCondition = String.format(WHERE_CONDITION, ids);
+    }
+
+    return String.format(SELECT_SQL, postgresClient.getFullTableName("instance"), whereCondition);
+  }
+}
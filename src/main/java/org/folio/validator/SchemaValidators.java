@@ -0,0 +1,43 @@
+package org.folio.validator;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.Comparator;
+import java.util.List;
+import org.folio.rest.jaxrs.model.Error;
+import org.folio.rest.jaxrs.model.Parameter;
+
+/**
+ * Validation of records against the constraints of their JSON schema for records that are not validated
+ * by RMB's {@code @Validate}, e.g. records parsed from a streamed request body.
+ */
+public final class SchemaValidators {
+  private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+  private SchemaValidators() { }
+
+  /**
+   * Validates the record against the constraints generated from its JSON schema.
+   *
+   * @param rec - the record
+   * @return a modifiable error for each violated constraint in the format of RMB's {@code @Validate}, empty if valid
+   */
+  public static <T> List<Error> validate(T rec) {
+    return VALIDATOR.validate(rec).stream()
+      .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+      .map(SchemaValidators::toError)
+      .toList();
+  }
+
+  private static Error toError(ConstraintViolation<?> violation) {
+    Error error = new Error()
+      .withMessage(violation.getMessage())
+      .withType("1")
+      .withCode("-1");
+    error.getParameters().add(new Parameter()
+      .withKey(violation.getPropertyPath().toString())
+      .withValue(String.valueOf(violation.getInvalidValue())));
+    return error;
+  }
+}
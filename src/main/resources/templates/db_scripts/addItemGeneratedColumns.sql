@@ -0,0 +1,16 @@
+-- Stored generated columns with the normalized values of the hottest item lookups, computed once on write
+-- with the same normalization as the CQL queries on barcode and status.name. ItemRepository runs a
+-- CQL query that is a single exact match on one of these fields against the plain B-tree index of the
+-- column instead of extracting and normalizing the value from the jsonb.
+-- Adding a stored generated column rewrites the table.
+ALTER TABLE ${myuniversity}_${mymodule}.item
+  ADD COLUMN IF NOT EXISTS normalized_barcode text
+    GENERATED ALWAYS AS (lower(jsonb->>'barcode')) STORED,
+  ADD COLUMN IF NOT EXISTS normalized_status_name text
+    GENERATED ALWAYS AS (lower(${myuniversity}_${mymodule}.f_unaccent(jsonb->'status'->>'name'))) STORED;
+
+CREATE INDEX IF NOT EXISTS item_normalized_barcode_idx
+ON ${myuniversity}_${mymodule}.item(normalized_barcode);
+
+CREATE INDEX IF NOT EXISTS item_normalized_status_name_idx
+ON ${myuniversity}_${mymodule}.item(normalized_status_name);
@@ -0,0 +1,135 @@
+-- instance_holdings_item has the same rows as instance_holdings_item_view, but precomputed. It is
+-- maintained by the statement level triggers below once they are installed, rows of existing instances are
+-- filled by the inventoryViewMigration async migration.
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.instance_holdings_item (
+  id uuid PRIMARY KEY REFERENCES ${myuniversity}_${mymodule}.instance ON DELETE CASCADE,
+  jsonb jsonb NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.refresh_instance_holdings_item(instance_ids uuid[])
+  RETURNS void AS $$
+BEGIN
+  -- lock the rows before aggregating: the aggregating statement gets a new snapshot and sees the changes
+  -- of concurrent transactions that have refreshed the same instances before
+  INSERT INTO ${myuniversity}_${mymodule}.instance_holdings_item (id, jsonb)
+    SELECT id, '{}' FROM ${myuniversity}_${mymodule}.instance WHERE id = ANY(instance_ids) ORDER BY id
+    ON CONFLICT (id) DO NOTHING;
+  PERFORM 1 FROM ${myuniversity}_${mymodule}.instance_holdings_item
+    WHERE id = ANY(instance_ids) ORDER BY id FOR UPDATE;
+  UPDATE ${myuniversity}_${mymodule}.instance_holdings_item AS target SET jsonb = view.jsonb
+    FROM ${myuniversity}_${mymodule}.instance_holdings_item_view AS view
+    WHERE view.id = target.id AND target.id = ANY(instance_ids);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_instance()
+  RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    PERFORM ${myuniversity}_${mymodule}.refresh_instance_holdings_item(ARRAY(SELECT id FROM new_rows));
+  ELSE
+    -- updates of complete_updated_date only (on holdings and item changes) don't change the aggregate
+    PERFORM ${myuniversity}_${mymodule}.refresh_instance_holdings_item(ARRAY(
+      SELECT new_rows.id FROM new_rows JOIN old_rows ON old_rows.id = new_rows.id
+      WHERE new_rows.jsonb IS DISTINCT FROM old_rows.jsonb));
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings()
+  RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    PERFORM ${myuniversity}_${mymodule}.refresh_instance_holdings_item(ARRAY(
+      SELECT DISTINCT instanceid FROM new_rows));
+  ELSIF TG_OP = 'UPDATE' THEN
+    PERFORM ${myuniversity}_${mymodule}.refresh_instance_holdings_item(ARRAY(
+      SELECT instanceid FROM new_rows UNION SELECT instanceid FROM old_rows));
+  ELSE
+    PERFORM ${myuniversity}_${mymodule}.refresh_instance_holdings_item(ARRAY(
+      SELECT DISTINCT instanceid FROM old_rows));
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- items and bound-with parts have the holdings record id, the instance id is taken from the holdings record
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings_child()
+  RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'INSERT' THEN
+    PERFORM ${myuniversity}_${mymodule}.refresh_instance_holdings_item(ARRAY(
+      SELECT DISTINCT hr.instanceid FROM ${myuniversity}_${mymodule}.holdings_record AS hr
+      WHERE hr.id IN (SELECT holdingsrecordid FROM new_rows)));
+  ELSIF TG_OP = 'UPDATE' THEN
+    PERFORM ${myuniversity}_${mymodule}.refresh_instance_holdings_item(ARRAY(
+      SELECT DISTINCT hr.instanceid FROM ${myuniversity}_${mymodule}.holdings_record AS hr
+      WHERE hr.id IN (SELECT holdingsrecordid FROM new_rows UNION SELECT holdingsrecordid FROM old_rows)));
+  ELSE
+    PERFORM ${myuniversity}_${mymodule}.refresh_instance_holdings_item(ARRAY(
+      SELECT DISTINCT hr.instanceid FROM ${myuniversity}_${mymodule}.holdings_record AS hr
+      WHERE hr.id IN (SELECT holdingsrecordid FROM old_rows)));
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The triggers are installed only when the table is enabled, they are not needed as long as
+-- GET /inventory-view/instances reads the view. set_instance_holdings_item_triggers(true) is called by the
+-- inventoryViewMigration async migration before it fills the table, and on tenant init if the
+-- inventory-view.table.enabled system property is true; set_instance_holdings_item_triggers(false) removes them.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.set_instance_holdings_item_triggers(enabled boolean)
+  RETURNS void AS $$
+BEGIN
+  DROP TRIGGER IF EXISTS instance_holdings_item_insert ON ${myuniversity}_${mymodule}.instance;
+  DROP TRIGGER IF EXISTS instance_holdings_item_update ON ${myuniversity}_${mymodule}.instance;
+  DROP TRIGGER IF EXISTS instance_holdings_item_insert ON ${myuniversity}_${mymodule}.holdings_record;
+  DROP TRIGGER IF EXISTS instance_holdings_item_update ON ${myuniversity}_${mymodule}.holdings_record;
+  DROP TRIGGER IF EXISTS instance_holdings_item_delete ON ${myuniversity}_${mymodule}.holdings_record;
+  DROP TRIGGER IF EXISTS instance_holdings_item_insert ON ${myuniversity}_${mymodule}.item;
+  DROP TRIGGER IF EXISTS instance_holdings_item_update ON ${myuniversity}_${mymodule}.item;
+  DROP TRIGGER IF EXISTS instance_holdings_item_delete ON ${myuniversity}_${mymodule}.item;
+  DROP TRIGGER IF EXISTS instance_holdings_item_insert ON ${myuniversity}_${mymodule}.bound_with_part;
+  DROP TRIGGER IF EXISTS instance_holdings_item_update ON ${myuniversity}_${mymodule}.bound_with_part;
+  DROP TRIGGER IF EXISTS instance_holdings_item_delete ON ${myuniversity}_${mymodule}.bound_with_part;
+
+  IF NOT enabled THEN
+    RETURN;
+  END IF;
+
+  CREATE TRIGGER instance_holdings_item_insert AFTER INSERT ON ${myuniversity}_${mymodule}.instance
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_instance();
+  CREATE TRIGGER instance_holdings_item_update AFTER UPDATE ON ${myuniversity}_${mymodule}.instance
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_instance();
+  CREATE TRIGGER instance_holdings_item_insert AFTER INSERT ON ${myuniversity}_${mymodule}.holdings_record
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings();
+  CREATE TRIGGER instance_holdings_item_update AFTER UPDATE ON ${myuniversity}_${mymodule}.holdings_record
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings();
+  CREATE TRIGGER instance_holdings_item_delete AFTER DELETE ON ${myuniversity}_${mymodule}.holdings_record
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings();
+  CREATE TRIGGER instance_holdings_item_insert AFTER INSERT ON ${myuniversity}_${mymodule}.item
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings_child();
+  CREATE TRIGGER instance_holdings_item_update AFTER UPDATE ON ${myuniversity}_${mymodule}.item
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings_child();
+  CREATE TRIGGER instance_holdings_item_delete AFTER DELETE ON ${myuniversity}_${mymodule}.item
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings_child();
+  CREATE TRIGGER instance_holdings_item_insert AFTER INSERT ON ${myuniversity}_${mymodule}.bound_with_part
+    REFERENCING NEW TABLE AS new_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings_child();
+  CREATE TRIGGER instance_holdings_item_update AFTER UPDATE ON ${myuniversity}_${mymodule}.bound_with_part
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings_child();
+  CREATE TRIGGER instance_holdings_item_delete AFTER DELETE ON ${myuniversity}_${mymodule}.bound_with_part
+    REFERENCING OLD TABLE AS old_rows FOR EACH STATEMENT
+    EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_holdings_item_for_holdings_child();
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,134 @@
+-- instance_change_log has one row per instance with the date of the last change of the instance, its holdings
+-- records or items (instance.complete_updated_date), including deleted instances. The updated instance ids
+-- functions for OAI-PMH and the inventory hierarchy read it with an index range scan on updated_at instead of
+-- scanning the instance, holdings_record, item and audit tables.
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.instance_change_log (
+  instance_id uuid PRIMARY KEY,
+  updated_at timestamptz NOT NULL,
+  deleted boolean NOT NULL,
+  suppressed boolean NOT NULL,
+  source varchar
+);
+
+-- rows are updated in place, so they are not stored in updated_at order and a BRIN index would not help
+CREATE INDEX IF NOT EXISTS instance_change_log_updated_at_idx
+  ON ${myuniversity}_${mymodule}.instance_change_log (updated_at) INCLUDE (instance_id, deleted, suppressed, source);
+
+INSERT INTO ${myuniversity}_${mymodule}.instance_change_log (instance_id, updated_at, deleted, suppressed, source)
+  SELECT id,
+         COALESCE(complete_updated_date, strToTimestamp(jsonb -> 'metadata' ->> 'updatedDate'), NOW()),
+         false,
+         COALESCE((jsonb ->> 'discoverySuppress')::bool, false),
+         jsonb ->> 'source'
+  FROM ${myuniversity}_${mymodule}.instance
+  ON CONFLICT (instance_id) DO NOTHING;
+
+INSERT INTO ${myuniversity}_${mymodule}.instance_change_log (instance_id, updated_at, deleted, suppressed, source)
+  SELECT DISTINCT ON ((jsonb #>> '{record,id}')::uuid)
+         (jsonb #>> '{record,id}')::uuid,
+         strToTimestamp(jsonb ->> 'createdDate'),
+         true,
+         false,
+         jsonb #>> '{record,source}'
+  FROM ${myuniversity}_${mymodule}.audit_instance
+  WHERE jsonb #>> '{record,id}' IS NOT NULL
+  ORDER BY (jsonb #>> '{record,id}')::uuid, strToTimestamp(jsonb ->> 'createdDate') DESC
+  ON CONFLICT (instance_id) DO NOTHING;
+
+-- changes of holdings records and items update instance.complete_updated_date, so that they fire this trigger too
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_instance()
+  RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    INSERT INTO ${myuniversity}_${mymodule}.instance_change_log (instance_id, updated_at, deleted, suppressed, source)
+      VALUES (OLD.id, NOW(), true, false, OLD.jsonb ->> 'source')
+      ON CONFLICT (instance_id) DO UPDATE
+        SET updated_at = EXCLUDED.updated_at, deleted = true, suppressed = false, source = EXCLUDED.source;
+    RETURN OLD;
+  END IF;
+
+  INSERT INTO ${myuniversity}_${mymodule}.instance_change_log (instance_id, updated_at, deleted, suppressed, source)
+    VALUES (NEW.id, COALESCE(NEW.complete_updated_date, NOW()), false,
+            COALESCE((NEW.jsonb ->> 'discoverySuppress')::bool, false), NEW.jsonb ->> 'source')
+    ON CONFLICT (instance_id) DO UPDATE
+      SET updated_at = EXCLUDED.updated_at, deleted = false, suppressed = EXCLUDED.suppressed,
+          source = EXCLUDED.source;
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS instance_change_log_insert_update ON ${myuniversity}_${mymodule}.instance;
+CREATE TRIGGER instance_change_log_insert_update AFTER INSERT OR UPDATE ON ${myuniversity}_${mymodule}.instance
+  FOR EACH ROW EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_instance();
+DROP TRIGGER IF EXISTS instance_change_log_delete ON ${myuniversity}_${mymodule}.instance;
+CREATE TRIGGER instance_change_log_delete AFTER DELETE ON ${myuniversity}_${mymodule}.instance
+  FOR EACH ROW EXECUTE FUNCTION ${myuniversity}_${mymodule}.instance_change_log_for_instance();
+
+-- afterId ($5) is the keyset of a chunked harvest: only instances with a greater id are returned, so that a chunk
+-- starts with an index scan after the last id of the previous chunk instead of skipping the ids before it.
+-- The functions are STABLE so that they are inlined and the ORDER BY of the caller is planned with the predicate.
+DROP FUNCTION IF EXISTS ${myuniversity}_${mymodule}.pmh_get_updated_instances_ids(timestamptz, timestamptz, bool, bool);
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.pmh_get_updated_instances_ids(startDate timestamptz,
+                                                                                     endDate timestamptz,
+                                                                                     deletedRecordSupport bool default true,
+                                                                                     skipSuppressedFromDiscoveryRecords bool default true,
+                                                                                     afterId uuid default null)
+    RETURNS TABLE
+            (
+                instanceId             uuid,
+                updatedDate            timestamptz,
+                suppressFromDiscovery  boolean,
+                deleted                boolean
+            )
+AS
+$BODY$
+SELECT instance_id, updated_at, suppressed, deleted
+FROM ${myuniversity}_${mymodule}.instance_change_log
+WHERE updated_at BETWEEN dateOrMin($1) AND dateOrMax($2)
+  AND ($3 OR NOT deleted)
+  AND NOT ($4 AND suppressed)
+  AND ($5 IS NULL OR instance_id > $5)
+$BODY$ LANGUAGE sql STABLE;
+
+-- onlyInstanceUpdateDate ($5) uses the updatedDate of the instance record only, it cannot be taken from the log
+DROP FUNCTION IF EXISTS ${myuniversity}_${mymodule}.get_updated_instance_ids_view(timestamptz, timestamptz, bool, bool,
+                                                                                 bool, varchar);
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.get_updated_instance_ids_view(startDate                          timestamptz,
+                                                                                     endDate                            timestamptz,
+                                                                                     deletedRecordSupport               bool DEFAULT TRUE,
+                                                                                     skipSuppressedFromDiscoveryRecords bool DEFAULT TRUE,
+                                                                                     onlyInstanceUpdateDate             bool DEFAULT TRUE,
+                                                                                     source                             varchar DEFAULT NULL,
+                                                                                     afterId                            uuid DEFAULT NULL)
+    RETURNS TABLE
+            (
+                "instanceId"            uuid,
+                "source"                varchar,
+                "updatedDate"           timestamptz,
+                "suppressFromDiscovery" boolean,
+                "deleted"               boolean
+            )
+AS
+$BODY$
+SELECT inst.id,
+       inst.jsonb ->> 'source',
+       strToTimestamp(inst.jsonb -> 'metadata' ->> 'updatedDate'),
+       (inst.jsonb ->> 'discoverySuppress')::bool,
+       false
+FROM ${myuniversity}_${mymodule}.instance inst
+WHERE $5
+  AND ($6 IS NULL OR inst.jsonb ->> 'source' = $6)
+  AND strToTimestamp(inst.jsonb -> 'metadata' ->> 'updatedDate') BETWEEN dateOrMin($1) AND dateOrMax($2)
+  AND NOT ($4 AND COALESCE((inst.jsonb ->> 'discoverySuppress')::bool, false))
+  AND ($7 IS NULL OR inst.id > $7)
+
+UNION ALL
+SELECT instance_id, log.source, updated_at, suppressed, deleted
+FROM ${myuniversity}_${mymodule}.instance_change_log log
+WHERE updated_at BETWEEN dateOrMin($1) AND dateOrMax($2)
+  AND (deleted OR NOT $5)
+  AND ($3 OR NOT deleted)
+  AND NOT ($4 AND suppressed)
+  AND ($6 IS NULL OR log.source = $6)
+  AND ($7 IS NULL OR instance_id > $7)
+$BODY$ LANGUAGE sql STABLE;
@@ -0,0 +1,41 @@
+package org.folio.persist;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import org.folio.rest.exceptions.BadRequestException;
+import org.folio.rest.jaxrs.model.Item;
+import org.junit.Test;
+
+public class FieldProjectionTest {
+
+  @Test
+  public void buildsNestedObjects() {
+    var projection = FieldProjection.parse("id, barcode,status.name,status.date,effectiveLocationId", Item.class);
+
+    assertThat(projection.toSql("item.jsonb"), is("jsonb_strip_nulls(jsonb_build_object("
+      + "'id', item.jsonb->'id', "
+      + "'barcode', item.jsonb->'barcode', "
+      + "'status', jsonb_build_object('name', item.jsonb->'status'->'name', 'date', item.jsonb->'status'->'date'), "
+      + "'effectiveLocationId', item.jsonb->'effectiveLocationId'))"));
+  }
+
+  @Test
+  public void wholePropertyWins() {
+    var projection = FieldProjection.parse("status.name,status,notes", Item.class);
+
+    assertThat(projection.toSql("jsonb"), is("jsonb_strip_nulls(jsonb_build_object("
+      + "'status', jsonb->'status', 'notes', jsonb->'notes'))"));
+  }
+
+  @Test
+  public void rejectsUnsupportedFields() {
+    assertThrows(BadRequestException.class, () -> FieldProjection.parse("id,foo", Item.class));
+    assertThrows(BadRequestException.class, () -> FieldProjection.parse("notes.note", Item.class));
+    assertThrows(BadRequestException.class, () -> FieldProjection.parse("status.name.x", Item.class));
+    assertThrows(BadRequestException.class, () -> FieldProjection.parse("status.", Item.class));
+    assertThrows(BadRequestException.class, () -> FieldProjection.parse("id'||", Item.class));
+    assertThrows(BadRequestException.class, () -> FieldProjection.parse(" , ", Item.class));
+  }
+}
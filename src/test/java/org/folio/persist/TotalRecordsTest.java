@@ -0,0 +1,85 @@
+package org.folio.persist;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.folio.rest.exceptions.BadRequestException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitParamsRunner.class)
+public class TotalRecordsTest {
+
+  @Test
+  @Parameters({
+    "estimated, true",
+    "auto, true",
+    ", true",
+    "exact, false",
+    "none, false",
+    "foo, false",
+  })
+  public void isEstimated(String totalRecords, boolean expected) {
+    assertThat(TotalRecords.isEstimated(totalRecords), is(expected));
+  }
+
+  @Test
+  public void isEstimatedByDefault() {
+    assertThat(TotalRecords.isEstimated(null), is(true));
+  }
+
+  @Test
+  @Parameters({
+    "estimated, estimated",
+    "auto, estimated",
+    ", estimated",
+    "EXACT, exact",
+    "None, none",
+  })
+  public void normalize(String totalRecords, String expected) {
+    assertThat(TotalRecords.normalize(totalRecords), is(expected));
+  }
+
+  @Test(expected = BadRequestException.class)
+  public void normalizeRejectsUnknownValue() {
+    TotalRecords.normalize("foo");
+  }
+
+  @Test
+  @Parameters({
+    "0, 10, 1, 1",
+    "0, 10, 0, 0",
+    "20, 10, 3, 23",
+  })
+  public void countsPageThatIsNotFullWithoutQuery(int offset, int limit, int pageSize, int expected) {
+    assertThat(TotalRecords.count(null, "item", "", "exact", offset, limit, pageSize).result(), is(expected));
+    assertThat(TotalRecords.count(null, "item", "", "estimated", offset, limit, pageSize).result(), is(expected));
+  }
+
+  @Test
+  public void countsNothingForNone() {
+    assertThat(TotalRecords.count(null, "item", "", "none", 0, 10, 1).result(), is(nullValue()));
+  }
+
+  @Test
+  public void planRowsOfExplainOutput() {
+    var plan = new JsonArray().add(new JsonObject()
+      .put("Plan", new JsonObject().put("Node Type", "Seq Scan").put("Plan Rows", 123456)));
+
+    assertThat(TotalRecords.planRows(plan), is(123456));
+    assertThat(TotalRecords.planRows(plan.encode()), is(123456));
+  }
+
+  @Test
+  public void planRowsAreLimitedToInteger() {
+    var plan = new JsonArray().add(new JsonObject()
+      .put("Plan", new JsonObject().put("Plan Rows", 1L + Integer.MAX_VALUE)));
+
+    assertThat(TotalRecords.planRows(plan), is(Integer.MAX_VALUE));
+  }
+}
@@ -5,9 +5,11 @@ import static org.folio.utility.ModuleUtility.getVertx;
 import static org.folio.utility.RestUtility.TENANT_ID;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
@@ -29,16 +31,20 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.rest.RestVerticle;
 import org.folio.rest.impl.AbstractInstanceRecordsApi;
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
 
 @RunWith(VertxUnitRunner.class)
 public class AbstractInstanceRecordsApiTest extends TestBase {
   private static final Map<String, String> OKAPI_HEADERS = Collections.singletonMap(
     RestVerticle.OKAPI_HEADER_TENANT, TENANT_ID);
+  private static final String WRITE_BUFFER_SIZE_PARAM = "stream.write.buffer.size";
 
   @Test
   public void shouldRespondWith500StatusWhenErrorsOccursWhilstFetchingRecords(TestContext testContext) {
@@ -71,11 +77,18 @@ public class AbstractInstanceRecordsApiTest extends TestBase {
     new MyAbstractInstanceRecordsApi().fetchRecordsByQuery("SELECT generate_series(1, 300)",
       routingContext, Tuple::tuple, nu -> { });
 
-    verify(httpServerResponse, timeout(1000).times(300)).write(anyString());
+    verify(httpServerResponse, timeout(1000)).end();
+    ArgumentCaptor<String> written = ArgumentCaptor.forClass(String.class);
+    verify(httpServerResponse, atLeastOnce()).write(written.capture());
+    String body = String.join("", written.getAllValues());
+    assertThat(StringUtils.countMatches(body, "{\"generate_series\":"), is(300));
+    assertThat(body, startsWith("{\"generate_series\":\"1\"}{\"generate_series\":\"2\"}"));
   }
 
   @Test
   public void canHandleWriteQueueFull() {
+    // write each row on its own
+    System.setProperty(WRITE_BUFFER_SIZE_PARAM, "1");
     Handler<?>[] drainHandler = new Handler[1];
     AtomicInteger drainCount = new AtomicInteger();
 
@@ -105,6 +118,11 @@ public class AbstractInstanceRecordsApiTest extends TestBase {
     verify(httpServerResponse, times(300)).write(anyString());
   }
 
+  @After
+  public void clearWriteBufferSize() {
+    System.clearProperty(WRITE_BUFFER_SIZE_PARAM);
+  }
+
   private HttpServerResponse getHttpServerResponseMock() {
     HttpServerResponse httpServerResponse = mock(HttpServerResponse.class);
     doAnswer(AdditionalAnswers.answerVoid(
@@ -1,5 +1,6 @@
 package org.folio.rest.api;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToIgnoreCase;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
@@ -2704,6 +2705,52 @@ public class HoldingsStorageTest extends TestBaseWithInventoryUtil {
     canPostSynchronousBatchAndCreateShadowInstance("?upsert=true");
   }
 
+  @Test
+  public void canPostSynchronousBatchAndCreateShadowInstanceOncePerInstance() {
+    mockSharingInstance();
+
+    UUID instanceId = UUID.randomUUID();
+    JsonArray holdingsArray = new JsonArray();
+    for (int i = 0; i < 3; i++) {
+      holdingsArray.add(new JsonObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("instanceId", instanceId.toString())
+        .put("permanentLocationId", MAIN_LIBRARY_LOCATION_ID.toString()));
+    }
+
+    assertThat(postSynchronousBatch("", holdingsArray, CONSORTIUM_MEMBER_TENANT), statusCodeIs(HTTP_CREATED));
+    verify(1, postRequestedFor(urlEqualTo("/consortia/mobius/sharing/instances")));
+    for (Object hrObj : holdingsArray) {
+      assertExists((JsonObject) hrObj, CONSORTIUM_MEMBER_TENANT);
+    }
+  }
+
+  @Test
+  public void canPostSynchronousBatchWithMixedCaseInstanceIdsAndCreateShadowInstanceOnlyForMissingInstance() {
+    mockSharingInstance();
+
+    UUID existingInstanceId = UUID.randomUUID();
+    instancesClient.create(smallAngryPlanet(existingInstanceId), CONSORTIUM_MEMBER_TENANT);
+    UUID missingInstanceId = UUID.randomUUID();
+    JsonArray holdingsArray = new JsonArray();
+    for (UUID instanceId : List.of(existingInstanceId, missingInstanceId)) {
+      for (String id : List.of(instanceId.toString().toUpperCase(), instanceId.toString())) {
+        holdingsArray.add(new JsonObject()
+          .put("id", UUID.randomUUID().toString())
+          .put("instanceId", id)
+          .put("permanentLocationId", MAIN_LIBRARY_LOCATION_ID.toString()));
+      }
+    }
+
+    assertThat(postSynchronousBatch("", holdingsArray, CONSORTIUM_MEMBER_TENANT), statusCodeIs(HTTP_CREATED));
+    verify(1, postRequestedFor(urlEqualTo("/consortia/mobius/sharing/instances")));
+    verify(1, postRequestedFor(urlEqualTo("/consortia/mobius/sharing/instances"))
+      .withRequestBody(containing(missingInstanceId.toString())));
+    for (Object hrObj : holdingsArray) {
+      assertExists((JsonObject) hrObj, CONSORTIUM_MEMBER_TENANT);
+    }
+  }
+
   @Test
   public void cannotPostSynchronousBatchWithNonExistingInstanceAndNonConsortiumTenant() {
     JsonArray holdingsArray = threeHoldingsWithoutInstance();
@@ -606,6 +606,50 @@ public class InstanceStorageTest extends TestBaseWithInventoryUtil {
     assertThat(identifiers, hasItem(identifierMatches(UUID_ISBN.toString(), "9781473619777")));
   }
 
+  @Test
+  @SneakyThrows
+  public void canRetrieveInstancesByIdsInRequestOrder() {
+    UUID firstId = UUID.randomUUID();
+    UUID secondId = UUID.randomUUID();
+    UUID thirdId = UUID.randomUUID();
+    createInstance(smallAngryPlanet(firstId));
+    createInstance(nod(secondId));
+    createInstance(uprooted(thirdId));
+
+    // a buffer of 1 character writes each record to the response separately
+    System.setProperty("stream.write.buffer.size", "1");
+    try {
+      Response response = retrieveByIds(thirdId.toString(), UUID.randomUUID().toString(), firstId.toString(),
+        thirdId.toString());
+
+      assertThat(response.getStatusCode(), is(HTTP_OK));
+      assertThat(response.getJson().getInteger("totalRecords"), is(3));
+      List<String> ids = toList(response.getJson().getJsonArray("instances")).stream()
+        .map(instance -> instance.getString("id"))
+        .toList();
+      assertThat(ids, is(List.of(thirdId.toString(), firstId.toString(), thirdId.toString())));
+    } finally {
+      System.clearProperty("stream.write.buffer.size");
+    }
+  }
+
+  @Test
+  public void retrievingInstancesByUnknownIdsReturnsEmptyCollection() {
+    Response response = retrieveByIds(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+    assertThat(response.getStatusCode(), is(HTTP_OK));
+    assertThat(response.getJson().getInteger("totalRecords"), is(0));
+    assertThat(response.getJson().getJsonArray("instances").size(), is(0));
+  }
+
+  @Test
+  public void cannotRetrieveMoreThan50000InstancesByIds() {
+    String[] ids = new String[50_001];
+    Arrays.setAll(ids, i -> UUID.randomUUID().toString());
+
+    assertThat(retrieveByIds(ids).getStatusCode(), is(AdditionalHttpStatusCodes.UNPROCESSABLE_ENTITY));
+  }
+
   @Test
   public void canGetAllInstances() throws InterruptedException, ExecutionException, TimeoutException {
 
@@ -777,6 +821,19 @@ public class InstanceStorageTest extends TestBaseWithInventoryUtil {
     //assertThat(page.getInteger(TOTAL_RECORDS_KEY), is(5));
   }
 
+  @Test
+  public void canGetTitleSortedInstancesWithTotalRecordsMode(TestContext testContext) {
+    insert(testContext, PostgresClient.getInstance(getVertx(), TENANT_ID), "b foo", 3);
+
+    JsonObject exact = searchForInstances("title=foo sortBy title", 0, 2, "&totalRecords=exact");
+    assertThat(exact.getJsonArray(INSTANCES_KEY).size(), is(2));
+    assertThat(exact.getInteger(TOTAL_RECORDS_KEY), is(3));
+
+    JsonObject none = searchForInstances("title=foo sortBy title", 0, 2, "&totalRecords=none");
+    assertThat(none.getJsonArray(INSTANCES_KEY).size(), is(2));
+    assertThat(none.containsKey(TOTAL_RECORDS_KEY), is(false));
+  }
+
   @Test
   public void canGetWithOptimizedSql(TestContext testContext) {
     int n = PgUtil.getOptimizedSqlSize() / 2;
@@ -1675,6 +1732,74 @@ public class InstanceStorageTest extends TestBaseWithInventoryUtil {
     assertThat(instances.size(), is(0));
   }
 
+  @Test
+  public void canCreateInstancesOfChunkWithInvalidInstance() {
+    JsonArray instancesArray = new JsonArray();
+    int numberOfInstances = 600;
+    for (int i = 0; i < numberOfInstances; i++) {
+      instancesArray.add(smallAngryPlanet(UUID.randomUUID()).put("hrid", "chunk" + i));
+    }
+    // the second chunk of 500 instances fails as a whole and is created instance by instance
+    JsonObject invalidInstance = instancesArray.getJsonObject(550)
+      .put("modeOfIssuanceId", UUID.randomUUID().toString());
+
+    Response response = postBatchInstances(instancesArray);
+
+    assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_CREATED));
+    InstancesBatchResponse ibr = response.getJson().mapTo(InstancesBatchResponse.class);
+    assertThat(ibr.getTotalRecords(), is(numberOfInstances - 1));
+    assertThat(ibr.getErrorMessages(), hasSize(1));
+    assertThat(ibr.getInstances().stream().map(Instance::getId).toList(),
+      not(hasItem(invalidInstance.getString("id"))));
+    assertThat(getById(invalidInstance.getString("id")), statusCodeIs(HttpStatus.HTTP_NOT_FOUND));
+    for (int i : new int[] {0, 499, 500, 549, 551, 599}) {
+      assertThat(getById(instancesArray.getJsonObject(i).getString("id")), statusCodeIs(HttpStatus.HTTP_OK));
+    }
+    instanceMessageChecks.noMessagesPublished(invalidInstance.getString("id"));
+  }
+
+  @Test
+  public void canCreateInstancesWithHridsWhenHridBlockAllocationFails() {
+    JsonObject instanceWithHrid = smallAngryPlanet(UUID.randomUUID()).put("hrid", "own-hrid");
+    JsonObject firstWithoutHrid = smallAngryPlanet(UUID.randomUUID());
+    firstWithoutHrid.remove("hrid");
+    JsonObject secondWithoutHrid = smallAngryPlanet(UUID.randomUUID());
+    secondWithoutHrid.remove("hrid");
+    // the block of two HRIDs exceeds the sequence, the HRIDs are allocated one by one and only the instances
+    // without an HRID fail
+    setInstanceSequence(99_999_999_999L);
+
+    Response response = postBatchInstances(new JsonArray()
+      .add(firstWithoutHrid).add(instanceWithHrid).add(secondWithoutHrid));
+
+    assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_CREATED));
+    InstancesBatchResponse ibr = response.getJson().mapTo(InstancesBatchResponse.class);
+    assertThat(ibr.getTotalRecords(), is(1));
+    assertThat(ibr.getInstances().get(0).getId(), is(instanceWithHrid.getString("id")));
+    assertThat(ibr.getErrorMessages(), hasSize(2));
+    assertThat(ibr.getErrorMessages().get(0), isMaximumSequenceValueError("hrid_instances_seq"));
+    assertThat(ibr.getErrorMessages().get(1), isMaximumSequenceValueError("hrid_instances_seq"));
+    assertThat(getById(instanceWithHrid.getString("id")).getJson().getString("hrid"), is("own-hrid"));
+  }
+
+  @Test
+  public void cannotCreateInstanceWithLongNoteInBatch() {
+    JsonObject correctInstance = smallAngryPlanet(UUID.randomUUID());
+    JsonObject instanceWithLongNote = smallAngryPlanet(UUID.randomUUID())
+      .put("administrativeNotes", new JsonArray().add("x".repeat(MAX_NOTE_LENGTH + 1)));
+    setInstanceSequence(1);
+
+    Response response = postBatchInstances(new JsonArray().add(instanceWithLongNote).add(correctInstance));
+
+    assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_CREATED));
+    InstancesBatchResponse ibr = response.getJson().mapTo(InstancesBatchResponse.class);
+    assertThat(ibr.getTotalRecords(), is(1));
+    assertThat(ibr.getInstances().get(0).getId(), is(correctInstance.getString("id")));
+    assertThat(ibr.getErrorMessages(), hasSize(1));
+    assertThat(ibr.getErrorMessages().get(0), containsString("character limit"));
+    assertThat(getById(instanceWithLongNote.getString("id")), statusCodeIs(HttpStatus.HTTP_NOT_FOUND));
+  }
+
   /**
    * Test case for instanceStatusUpdatedDateTrigger.sql trigger.
    */
@@ -2702,10 +2827,17 @@ public class InstanceStorageTest extends TestBaseWithInventoryUtil {
    * @return the response as an JsonObject
    */
   private JsonObject searchForInstances(String cql, int offset, int limit) {
+    return searchForInstances(cql, offset, limit, "");
+  }
+
+  /**
+   * Like {@link #searchForInstances(String, int, int)}, the parameters are appended to the url as they are.
+   */
+  private JsonObject searchForInstances(String cql, int offset, int limit, String parameters) {
     try {
       CompletableFuture<Response> searchCompleted = new CompletableFuture<>();
 
-      String url = instancesStorageUrl("") + "?query=" + urlEncode(cql);
+      String url = instancesStorageUrl("") + "?query=" + urlEncode(cql) + parameters;
       if (offset >= 0) {
         url += "&offset=" + offset;
       }
@@ -2839,6 +2971,23 @@ public class InstanceStorageTest extends TestBaseWithInventoryUtil {
     return createCompleted;
   }
 
+  @SneakyThrows
+  private Response retrieveByIds(String... ids) {
+    return getClient().post(instancesStorageUrl("/retrieve-by-ids"),
+      new JsonObject().put("ids", new JsonArray(List.of(ids))), TENANT_ID).get(30, SECONDS);
+  }
+
+  @SneakyThrows
+  private Response postBatchInstances(JsonArray instancesArray) {
+    JsonObject instanceCollection = new JsonObject()
+      .put(INSTANCES_KEY, instancesArray)
+      .put(TOTAL_RECORDS_KEY, instancesArray.size());
+    CompletableFuture<Response> createCompleted = new CompletableFuture<>();
+    getClient().post(instancesStorageBatchInstancesUrl(StringUtils.EMPTY), instanceCollection, TENANT_ID,
+      json(createCompleted));
+    return createCompleted.get(30, SECONDS);
+  }
+
   private void setInstanceSequence(long sequenceNumber) {
     final PostgresClient postgresClient =
       PostgresClient.getInstance(getVertx(), TENANT_ID);
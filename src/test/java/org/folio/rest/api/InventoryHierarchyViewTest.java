@@ -514,7 +514,8 @@ public class InventoryHierarchyViewTest extends TestBaseWithInventoryUtil {
 
   void clearAuditTables() {
     CompletableFuture<Row> future = new CompletableFuture<>();
-    final String sql = Stream.of("audit_instance", "audit_holdings_record", "audit_item")
+    final String sql = Stream.of("audit_instance", "audit_holdings_record", "audit_item",
+        "instance_change_log")
       .map(s -> "DELETE FROM " + s)
       .collect(Collectors.joining(";"));
 
@@ -3,24 +3,33 @@ package org.folio.rest.api;
 import static java.util.UUID.randomUUID;
 import static java.util.stream.Collectors.toList;
 import static org.folio.rest.api.ItemStorageTest.nodWithNoBarcode;
+import static org.folio.utility.ModuleUtility.getVertx;
+import static org.folio.utility.RestUtility.TENANT_ID;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertTrue;
 
+import io.vertx.sqlclient.Tuple;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.InventoryViewInstance;
 import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.PostgresClientFuturized;
 import org.folio.rest.support.IndividualResource;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.services.migration.async.InventoryViewMigrationService;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
 public class InventoryViewTest extends TestBaseWithInventoryUtil {
+  private static final String TABLE = "instance_holdings_item";
+
   @Test
   public void shouldReturnInstanceWithRecords() {
     var instanceOne = instancesClient.create(instance(randomUUID()));
@@ -108,6 +117,73 @@ public class InventoryViewTest extends TestBaseWithInventoryUtil {
     }
   }
 
+  @Test
+  public void shouldReturnInstanceWithRecordsFromTable() {
+    enableTable();
+    try {
+      shouldReturnInstanceWithRecords();
+    } finally {
+      disableTable();
+    }
+  }
+
+  @Test
+  public void tableIsNotUpdatedWhenNotEnabled() {
+    var instance = instancesClient.create(instance(randomUUID()));
+
+    var rows = get(postgresClient().select(
+      "SELECT count(*) FROM " + new PostgresClientFuturized(postgresClient()).getFullTableName(TABLE)
+        + " WHERE id = $1", Tuple.of(instance.getId())));
+
+    assertThat(rows.iterator().next().getLong(0), is(0L));
+  }
+
+  @Test
+  public void tableIsUpdatedWhenItemIsDeletedAndHoldingsRecordIsMoved() {
+    enableTable();
+    try {
+      var instanceOne = instancesClient.create(instance(randomUUID()));
+      var instanceTwo = instancesClient.create(instance(randomUUID()));
+      var holdingsId = createHolding(instanceOne.getId(), MAIN_LIBRARY_LOCATION_ID, null);
+      var itemId = createItem(nodWithNoBarcode(holdingsId)).getString("id");
+
+      itemsClient.delete(UUID.fromString(itemId));
+      holdingsClient.replace(holdingsId, holdingsClient.getById(holdingsId).getJson()
+        .put("instanceId", instanceTwo.getId().toString()));
+
+      var instances = inventoryViewClient.getMany("id==(%s or %s)",
+        instanceTwo.getId(), instanceOne.getId());
+
+      var firstInstance = getInstanceById(instances, instanceOne.getId());
+      var secondInstance = getInstanceById(instances, instanceTwo.getId());
+
+      isNonNullEmpty(firstInstance.getHoldingsRecords());
+      isNonNullEmpty(firstInstance.getItems());
+      assertThat(getHoldingIds(secondInstance), matchesInAnyOrder(List.of(holdingsId)));
+      isNonNullEmpty(secondInstance.getItems());
+    } finally {
+      disableTable();
+    }
+  }
+
+  private static void enableTable() {
+    get(migrationService().setTriggers(true));
+    System.setProperty("inventory-view.table.enabled", "true");
+  }
+
+  private static void disableTable() {
+    System.clearProperty("inventory-view.table.enabled");
+    get(migrationService().setTriggers(false));
+  }
+
+  private static InventoryViewMigrationService migrationService() {
+    return new InventoryViewMigrationService(new PostgresClientFuturized(postgresClient()));
+  }
+
+  private static PostgresClient postgresClient() {
+    return PostgresClient.getInstance(getVertx(), TenantTool.calculateTenantId(TENANT_ID));
+  }
+
   private List<UUID> getHoldingIds(InventoryViewInstance instance) {
     return instance.getHoldingsRecords().stream()
       .map(HoldingsRecord::getId)
@@ -15,6 +15,7 @@ import static org.folio.rest.support.JsonObjectMatchers.validationErrorMatches;
 import static org.folio.rest.support.ResponseHandler.empty;
 import static org.folio.rest.support.ResponseHandler.json;
 import static org.folio.rest.support.ResponseHandler.text;
+import static org.folio.rest.support.http.InterfaceUrls.itemsStorageBulkLoadUrl;
 import static org.folio.rest.support.http.InterfaceUrls.itemsStorageSyncUnsafeUrl;
 import static org.folio.rest.support.http.InterfaceUrls.itemsStorageSyncUrl;
 import static org.folio.rest.support.http.InterfaceUrls.itemsStorageUrl;
@@ -47,8 +48,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpResponse;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -607,6 +611,164 @@ public class ItemStorageTest extends TestBaseWithInventoryUtil {
     assertThat(update(item).getStatusCode(), is(409));
   }
 
+  @Test
+  public void canUpdateItemStatus() {
+    UUID itemId = UUID.randomUUID();
+    UUID holdingId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    createItem(nod(itemId, holdingId));
+    JsonObject createdItem = getById(itemId).getJson();
+
+    Response response = updateStatus(itemId, "Checked out", createdItem.getInteger("_version"));
+
+    assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_NO_CONTENT));
+    JsonObject updatedItem = getById(itemId).getJson();
+    assertThat(updatedItem.getJsonObject("status").getString("name"), is("Checked out"));
+    assertThat(updatedItem.getJsonObject("status").getString("date"), notNullValue());
+    assertThat(updatedItem.getInteger("_version"), is(createdItem.getInteger("_version") + 1));
+    assertThat(updatedItem.getString("barcode"), is(createdItem.getString("barcode")));
+    assertThat(updatedItem.getString("effectiveLocationId"), is(createdItem.getString("effectiveLocationId")));
+    itemMessageChecks.updatedMessagePublished(createdItem, updatedItem);
+  }
+
+  @Test
+  public void canGetItemsWithSelectedFields() {
+    UUID itemId = UUID.randomUUID();
+    UUID holdingId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    createItem(nod(itemId, holdingId));
+
+    Response response = getWithFields("id,barcode,status.name,effectiveLocationId", "id==" + itemId);
+
+    assertThat(response.getStatusCode(), is(HTTP_OK));
+    assertThat(response.getJson().getInteger("totalRecords"), is(1));
+    JsonObject item = response.getJson().getJsonArray("items").getJsonObject(0);
+    assertThat(item.fieldNames(), containsInAnyOrder("id", "barcode", "status", "effectiveLocationId"));
+    assertThat(item.getJsonObject("status"), is(new JsonObject().put("name", "Available")));
+    assertThat(item.getString("id"), is(itemId.toString()));
+
+    assertThat(getWithFields("id,notes.note", "id==" + itemId).getStatusCode(),
+      is(HttpURLConnection.HTTP_BAD_REQUEST));
+    assertThat(getWithFields("id", "((").getStatusCode(), is(HttpURLConnection.HTTP_BAD_REQUEST));
+  }
+
+  @Test
+  public void canGetItemsWithTotalRecordsMode() {
+    UUID holdingId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    createItem(nod(UUID.randomUUID(), holdingId));
+    createItem(smallAngryPlanet(UUID.randomUUID(), holdingId));
+    String query = "holdingsRecordId==" + holdingId;
+
+    assertThat(getWithTotalRecords("exact", query).getJson().getInteger("totalRecords"), is(2));
+    assertThat(getWithTotalRecords("estimated", query).getJson().getInteger("totalRecords"), is(2));
+
+    Response withoutCount = getWithTotalRecords("none", query);
+    assertThat(withoutCount.getStatusCode(), is(HTTP_OK));
+    assertThat(withoutCount.getJson().getJsonArray("items").size(), is(2));
+    assertThat(withoutCount.getJson().containsKey("totalRecords"), is(false));
+
+    System.setProperty("total.records.exact.count.limit", "1");
+    try {
+      assertThat(getWithTotalRecords("estimated", query).getJson().getInteger("totalRecords"),
+        greaterThanOrEqualTo(2));
+    } finally {
+      System.clearProperty("total.records.exact.count.limit");
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  public void canFindItemsByExactBarcodeAndStatusName() {
+    UUID holdingId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    UUID itemId = UUID.randomUUID();
+    createItem(nod(itemId, holdingId).put("barcode", "O'Brien-1"));
+    createItem(smallAngryPlanet(UUID.randomUUID(), holdingId).put("barcode", "o'brien-2"));
+
+    Items byBarcode = findItems("barcode==\"o'BRIEN-1\"");
+    assertThat(byBarcode.getTotalRecords(), is(1));
+    assertThat(byBarcode.getItems().get(0).getId(), is(itemId.toString()));
+
+    assertThat(findItems("status.name==available").getTotalRecords(), is(2));
+    assertThat(findItems("status.name==\"Checked out\"").getTotalRecords(), is(0));
+    assertThat(findItems("barcode==\"o'brien*\"").getTotalRecords(), is(2));
+  }
+
+  @Test
+  public void canRetrieveItemsByIdsInRequestOrder() {
+    UUID holdingId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    UUID firstId = UUID.randomUUID();
+    UUID secondId = UUID.randomUUID();
+    createItem(nod(firstId, holdingId));
+    createItem(smallAngryPlanet(secondId, holdingId));
+
+    Response response = retrieveByIds(secondId.toString(), UUID.randomUUID().toString(), firstId.toString());
+
+    assertThat(response.getStatusCode(), is(HTTP_OK));
+    assertThat(response.getJson().getInteger("totalRecords"), is(2));
+    List<String> ids = toList(response.getJson().getJsonArray("items")).stream()
+      .map(item -> item.getString("id"))
+      .toList();
+    assertThat(ids, is(List.of(secondId.toString(), firstId.toString())));
+
+    assertThat(retrieveByIds("foo").getStatusCode(), is(HTTP_UNPROCESSABLE_ENTITY.toInt()));
+  }
+
+  @Test
+  @SneakyThrows
+  public void canGetItemConditionallyByVersion() {
+    UUID itemId = UUID.randomUUID();
+    UUID holdingId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    createItem(nod(itemId, holdingId));
+
+    HttpResponse<Buffer> response = getWithIfNoneMatch(itemId, null);
+    assertThat(response.statusCode(), is(HTTP_OK));
+    String etag = response.getHeader("ETag");
+    assertThat(etag, is("\"" + response.bodyAsJsonObject().getInteger("_version") + "\""));
+
+    response = getWithIfNoneMatch(itemId, etag);
+    assertThat(response.statusCode(), is(HttpURLConnection.HTTP_NOT_MODIFIED));
+    assertThat(response.getHeader("ETag"), is(etag));
+    assertThat(response.body(), is(nullValue()));
+
+    response = getWithIfNoneMatch(itemId, "*");
+    assertThat(response.statusCode(), is(HttpURLConnection.HTTP_NOT_MODIFIED));
+
+    updateStatus(itemId, "Checked out", Integer.parseInt(etag.replace("\"", "")));
+    response = getWithIfNoneMatch(itemId, etag);
+    assertThat(response.statusCode(), is(HTTP_OK));
+    assertThat(response.getHeader("ETag"), is(not(etag)));
+
+    // version-only query for polling many records
+    JsonObject versions = getWithFields("id,_version", "id==" + itemId).getJson();
+    assertThat(versions.getJsonArray("items").getJsonObject(0), is(new JsonObject()
+      .put("id", itemId.toString())
+      .put("_version", Integer.parseInt(response.getHeader("ETag").replace("\"", "")))));
+  }
+
+  @Test
+  public void cannotUpdateItemStatusWithOutdatedVersion() {
+    UUID itemId = UUID.randomUUID();
+    UUID holdingId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    createItem(nod(itemId, holdingId));
+    int version = getById(itemId).getJson().getInteger("_version");
+
+    assertThat(updateStatus(itemId, "Checked out", version).getStatusCode(), is(204));
+    int expected = OptimisticLocking.hasFailOnConflict("item") ? 409 : 204;
+    assertThat(updateStatus(itemId, "Available", version).getStatusCode(), is(expected));
+    assertThat(updateStatus(itemId, "Available", -1).getStatusCode(), is(409));
+  }
+
+  @Test
+  public void cannotUpdateStatusOfUnknownItemOrToUnknownStatus() {
+    UUID itemId = UUID.randomUUID();
+    UUID holdingId = createInstanceAndHolding(MAIN_LIBRARY_LOCATION_ID);
+    createItem(nod(itemId, holdingId));
+
+    assertThat(updateStatus(UUID.randomUUID(), "Checked out", 1).getStatusCode(),
+      is(HttpURLConnection.HTTP_NOT_FOUND));
+    Response response = updateStatus(itemId, "Lent", 1);
+    assertThat(response.getStatusCode(), is(HttpURLConnection.HTTP_BAD_REQUEST));
+    assertThat(response.getBody(), containsString("Lent"));
+  }
+
   @Test
   public void canCreateAnItemWithoutProvidingId()
     throws MalformedURLException, InterruptedException,
@@ -1407,6 +1569,145 @@ public class ItemStorageTest extends TestBaseWithInventoryUtil {
     assertThat(postSynchronousBatch("?upsert=true", itemsArray), statusCodeIs(409));
   }
 
+  @Test
+  public void canPostSynchronousBatchUnsafeInParallelWithPerRecordFailures() {
+    OptimisticLockingUtil.configureAllowSuppressOptimisticLocking(
+      Map.of(OptimisticLockingUtil.DB_ALLOW_SUPPRESS_OPTIMISTIC_LOCKING, "9999-12-31T23:59:59Z"));
+
+    JsonArray itemsArray = threeItems();
+    assertThat(postSynchronousBatch(itemsStorageSyncUnsafeUrl("?parallel=true"), itemsArray),
+      statusCodeIs(HttpStatus.HTTP_CREATED));
+
+    JsonArray secondBatch = threeItems();
+    secondBatch.getJsonObject(1).put("barcode", itemsArray.getJsonObject(0).getString("barcode"));
+    Response response = postSynchronousBatch(itemsStorageSyncUnsafeUrl("?parallel=true"), secondBatch);
+
+    assertThat(response, statusCodeIs(HttpStatus.HTTP_UNPROCESSABLE_ENTITY));
+    JsonArray errors = response.getJson().getJsonArray("errors");
+    assertThat(errors.size(), is(2));
+    assertThat(errors.getJsonObject(0).getJsonArray("parameters").getJsonObject(0).getString("value"),
+      is(secondBatch.getJsonObject(1).getString("id")));
+    assertThat(errors.getJsonObject(1).getString("code"), is("partially_written"));
+    assertExists(secondBatch.getJsonObject(0));
+    assertExists(secondBatch.getJsonObject(2));
+  }
+
+  @Test
+  public void canBulkLoadItems() {
+    JsonArray itemsArray = threeItems();
+    itemsArray.getJsonObject(2).remove("hrid");
+
+    Response response = postBulkLoad(itemsArray);
+
+    assertThat(response, statusCodeIs(HttpStatus.HTTP_CREATED));
+    assertThat(response.getJson().getInteger("recordsLoaded"), is(3));
+    for (Object item : itemsArray) {
+      assertExists((JsonObject) item);
+    }
+    assertThat(getById(itemsArray.getJsonObject(2).getString("id")).getJson().getString("hrid"), notNullValue());
+  }
+
+  @Test
+  public void cannotBulkLoadItemsWithMalformedRecord() {
+    JsonArray itemsArray = threeItems();
+    String ndjson = itemsArray.getJsonObject(0).encode() + "\n{\"id\":";
+
+    Response response = postBulkLoad(ndjson);
+
+    assertThat(response, statusCodeIs(HttpURLConnection.HTTP_BAD_REQUEST));
+    assertThat(response.getBody(), containsString("line 2"));
+    assertNotExists(itemsArray.getJsonObject(0));
+  }
+
+  @Test
+  public void cannotBulkLoadItemsWithInvalidRecord() {
+    JsonArray itemsArray = threeItems();
+    itemsArray.getJsonObject(1).remove("status");
+
+    Response response = postBulkLoad(itemsArray);
+
+    assertThat(response, statusCodeIs(HttpStatus.HTTP_UNPROCESSABLE_ENTITY));
+    JsonArray errors = response.getJson().getJsonArray("errors");
+    assertThat(errors.size(), is(1));
+    JsonArray parameters = errors.getJsonObject(0).getJsonArray("parameters");
+    assertThat(parameters.getJsonObject(0).getString("key"), is("status"));
+    assertThat(parameters.getJsonObject(1).getString("key"), is("line"));
+    assertThat(parameters.getJsonObject(1).getString("value"), is("2"));
+    for (Object item : itemsArray) {
+      assertNotExists((JsonObject) item);
+    }
+  }
+
+  @Test
+  public void bulkLoadReportsRecordsLoadedBeforeInvalidRecord() {
+    JsonArray itemsArray = threeItems();
+    itemsArray.getJsonObject(1).remove("status");
+
+    System.setProperty("bulk-load.batch.size", "1");
+    Response response;
+    try {
+      response = postBulkLoad(itemsArray);
+    } finally {
+      System.clearProperty("bulk-load.batch.size");
+    }
+
+    assertThat(response, statusCodeIs(HttpStatus.HTTP_UNPROCESSABLE_ENTITY));
+    JsonArray errors = response.getJson().getJsonArray("errors");
+    assertThat(errors.size(), is(2));
+    assertThat(errors.getJsonObject(1).getString("code"), is("partially_loaded"));
+    assertThat(errors.getJsonObject(1).getJsonArray("parameters").getJsonObject(0).getString("value"), is("1"));
+    assertExists(itemsArray.getJsonObject(0));
+    assertNotExists(itemsArray.getJsonObject(2));
+  }
+
+  @Test
+  public void canPostSynchronousBatchStreamWithPerRecordOutcome() {
+    JsonArray itemsArray = threeItems();
+    String duplicateBarcode = itemsArray.getJsonObject(0).getString("barcode");
+    itemsArray.getJsonObject(2).put("barcode", duplicateBarcode);
+    String ndjson = itemsArray.stream()
+      .map(item -> ((JsonObject) item).encode())
+      .collect(Collectors.joining("\n")) + "\nnot json\n";
+
+    Response response = postNdjson(itemsStorageSyncUrl("/stream"), ndjson);
+
+    assertThat(response, statusCodeIs(HttpStatus.HTTP_OK));
+    JsonObject outcome = response.getJson();
+    assertThat(outcome.getInteger("recordsProcessed"), is(4));
+    assertThat(outcome.getInteger("recordsSucceeded"), is(2));
+    assertThat(outcome.getInteger("recordsFailed"), is(2));
+    JsonArray errors = outcome.getJsonArray("errors");
+    assertThat(errors.getJsonObject(0).getInteger("line"), is(3));
+    assertThat(errors.getJsonObject(0).getString("id"), is(itemsArray.getJsonObject(2).getString("id")));
+    assertThat(errors.getJsonObject(1).getInteger("line"), is(4));
+    assertExists(itemsArray.getJsonObject(0));
+    assertExists(itemsArray.getJsonObject(1));
+    assertNotExists(itemsArray.getJsonObject(2));
+  }
+
+  @Test
+  public void canPostSynchronousBatchStreamWithInvalidRecord() {
+    JsonArray itemsArray = threeItems();
+    itemsArray.getJsonObject(1).remove("status");
+    String ndjson = itemsArray.stream()
+      .map(item -> ((JsonObject) item).encode())
+      .collect(Collectors.joining("\n"));
+
+    Response response = postNdjson(itemsStorageSyncUrl("/stream"), ndjson);
+
+    assertThat(response, statusCodeIs(HttpStatus.HTTP_OK));
+    JsonObject outcome = response.getJson();
+    assertThat(outcome.getInteger("recordsSucceeded"), is(2));
+    assertThat(outcome.getInteger("recordsFailed"), is(1));
+    JsonObject error = outcome.getJsonArray("errors").getJsonObject(0);
+    assertThat(error.getInteger("line"), is(2));
+    assertThat(error.getString("id"), is(itemsArray.getJsonObject(1).getString("id")));
+    assertThat(error.getString("message"), containsString("status"));
+    assertExists(itemsArray.getJsonObject(0));
+    assertNotExists(itemsArray.getJsonObject(1));
+    assertExists(itemsArray.getJsonObject(2));
+  }
+
   @Test
   public void cannotSyncPostWithDuplicateId() {
     JsonArray itemsArray = threeItems();
@@ -3047,6 +3348,25 @@ public class ItemStorageTest extends TestBaseWithInventoryUtil {
     return postSynchronousBatch(itemsStorageSyncUnsafeUrl(""), itemsArray);
   }
 
+  private Response postBulkLoad(JsonArray itemsArray) {
+    return postBulkLoad(itemsArray.stream()
+      .map(item -> ((JsonObject) item).encode())
+      .collect(Collectors.joining("\n")));
+  }
+
+  private Response postBulkLoad(String ndjson) {
+    return postNdjson(itemsStorageBulkLoadUrl(""), ndjson);
+  }
+
+  private Response postNdjson(URL url, String ndjson) {
+    try {
+      return getClient().post(url, Buffer.buffer(ndjson), "application/octet-stream", TENANT_ID)
+        .get(10, SECONDS);
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private Items findItems(String searchQuery) throws Exception {
     CompletableFuture<Response> searchCompleted = new CompletableFuture<>();
 
@@ -3060,6 +3380,40 @@ public class ItemStorageTest extends TestBaseWithInventoryUtil {
     return response.getJson().mapTo(Items.class);
   }
 
+  private HttpResponse<Buffer> getWithIfNoneMatch(UUID itemId, String ifNoneMatch) throws Exception {
+    Map<String, String> headers = ifNoneMatch == null ? Map.of() : Map.of("If-None-Match", ifNoneMatch);
+    return getClient().request(HttpMethod.GET, itemsStorageUrl("/" + itemId), null, headers, TENANT_ID)
+      .toCompletionStage().toCompletableFuture().get(10, SECONDS);
+  }
+
+  @SneakyThrows
+  private Response retrieveByIds(String... ids) {
+    return getClient().post(itemsStorageUrl("/retrieve-by-ids"),
+      new JsonObject().put("ids", new JsonArray(List.of(ids))), TENANT_ID).get(10, SECONDS);
+  }
+
+  private Response getWithFields(String fields, String query) {
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+    getClient().get(itemsStorageUrl("?fields=" + urlEncode(fields) + "&query=" + urlEncode(query)), TENANT_ID,
+      ResponseHandler.any(getCompleted));
+    try {
+      return getCompleted.get(10, SECONDS);
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private Response getWithTotalRecords(String totalRecords, String query) {
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+    getClient().get(itemsStorageUrl("?totalRecords=" + totalRecords + "&query=" + urlEncode(query)), TENANT_ID,
+      ResponseHandler.any(getCompleted));
+    try {
+      return getCompleted.get(10, SECONDS);
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private Response getById(String id) {
     CompletableFuture<Response> getCompleted = new CompletableFuture<>();
     getClient().get(itemsStorageUrl("/" + id), TENANT_ID, json(getCompleted));
@@ -3084,6 +3438,18 @@ public class ItemStorageTest extends TestBaseWithInventoryUtil {
     }
   }
 
+  private Response updateStatus(UUID itemId, String statusName, int version) {
+    CompletableFuture<Response> completed = new CompletableFuture<>();
+    JsonObject statusUpdate = new JsonObject().put("name", statusName).put("_version", version);
+    getClient().put(itemsStorageUrl("/" + itemId + "/status"), statusUpdate, TENANT_ID,
+      ResponseHandler.any(completed));
+    try {
+      return completed.get(10, SECONDS);
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private void assertExists(JsonObject expectedItem) {
     Response response = getById(expectedItem.getString("id"));
     assertExists(response, expectedItem);
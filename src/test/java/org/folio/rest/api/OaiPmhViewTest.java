@@ -154,6 +154,68 @@ public class OaiPmhViewTest extends TestBaseWithInventoryUtil {
     assertThat(data.size(), is(0));
   }
 
+  @Test
+  public void updatedInstanceIdsHaveTheDateOfTheLastItemChange()
+    throws InterruptedException, ExecutionException, TimeoutException {
+
+    get(POSTGRES_CLIENT.execute("UPDATE instance_change_log SET updated_at = '2000-01-01T00:00:00Z'"));
+    params.put("startDate", OffsetDateTime.of(LocalDateTime.of(2020, 1, 1, 0, 0, 0), ZoneOffset.UTC).toString());
+    params.put(QUERY_PARAM_NAME_SKIP_SUPPRESSED_FROM_DISCOVERY_RECORDS, "false");
+
+    assertThat(requestOaiPmhViewUpdatedInstanceIds(params).size(), is(0));
+
+    itemsClient.deleteAll();
+
+    List<JsonObject> data = requestOaiPmhViewUpdatedInstanceIds(params);
+    assertThat(data.size(), is(1));
+    assertThat(data.get(0).getBoolean("deleted"), is(false));
+  }
+
+  @Test
+  public void updatedInstanceIdsStartAfterTheResumptionToken()
+    throws InterruptedException, ExecutionException, TimeoutException {
+
+    params.put(QUERY_PARAM_NAME_SKIP_SUPPRESSED_FROM_DISCOVERY_RECORDS, "false");
+    params.put("resumptionToken", new UUID(0, 0).toString());
+
+    List<JsonObject> data = requestOaiPmhViewUpdatedInstanceIds(params);
+    assertThat(data.size(), is(1));
+
+    params.put("resumptionToken", data.get(0).getString("instanceid"));
+    assertThat(requestOaiPmhViewUpdatedInstanceIds(params).size(), is(0));
+
+    params.put("resumptionToken", "foo");
+    requestOaiPmhViewUpdatedInstanceIds(params, response -> assertThat(response.getStatusCode(), is(400)));
+  }
+
+  @Test
+  public void updatedInstanceIdsResumeAcrossChunks()
+    throws InterruptedException, ExecutionException, TimeoutException {
+
+    for (int i = 0; i < 4; i++) {
+      instancesClient.create(instance(UUID.randomUUID()));
+    }
+    params.put(QUERY_PARAM_NAME_SKIP_SUPPRESSED_FROM_DISCOVERY_RECORDS, "false");
+    // 1 ms is shorter than a database round trip, so each chunk ends after its first record
+    System.setProperty("stream.transaction.max-duration.seconds", "0.001");
+    try {
+      List<String> ids = requestOaiPmhViewUpdatedInstanceIds(params).stream()
+        .map(json -> json.getString("instanceid"))
+        .toList();
+      assertThat(ids.size(), is(5));
+      // the string order of lower case uuids is the uuid order of PostgreSQL
+      assertThat(ids, is(ids.stream().sorted().toList()));
+
+      params.put("resumptionToken", ids.get(1));
+      List<String> resumed = requestOaiPmhViewUpdatedInstanceIds(params).stream()
+        .map(json -> json.getString("instanceid"))
+        .toList();
+      assertThat(resumed, is(ids.subList(2, 5)));
+    } finally {
+      System.clearProperty("stream.transaction.max-duration.seconds");
+    }
+  }
+
   @Test
   public void testFilterByDates() throws InterruptedException, ExecutionException, TimeoutException {
     params.put(QUERY_PARAM_NAME_SKIP_SUPPRESSED_FROM_DISCOVERY_RECORDS, "false");
@@ -335,7 +397,8 @@ public class OaiPmhViewTest extends TestBaseWithInventoryUtil {
 
   void clearAuditTables() {
     CompletableFuture<Row> future = new CompletableFuture<>();
-    final String sql = Stream.of("audit_instance", "audit_holdings_record", "audit_item")
+    final String sql = Stream.of("audit_instance", "audit_holdings_record", "audit_item",
+        "instance_change_log")
       .map(s -> "DELETE FROM " + s)
       .collect(Collectors.joining(";"));
 
@@ -0,0 +1,109 @@
+package org.folio.rest.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.After;
+import org.junit.Test;
+
+public class RowJsonWriterTest {
+  private static final String BUFFER_SIZE_PARAM = "stream.write.buffer.size";
+
+  @After
+  public void clearBufferSize() {
+    System.clearProperty(BUFFER_SIZE_PARAM);
+  }
+
+  @Test
+  public void appendsRowAsJsonObject() {
+    var id = UUID.randomUUID();
+    var date = OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+    var instance = new JsonObject().put("title", "A \"quoted\" title\n").put("ids", new JsonArray().add(1));
+    var row = row(new String[] {"instanceId", "updatedDate", "deleted", "source", "instance", "tags"},
+      id, date, false, null, instance, new JsonArray().add("a/b"));
+
+    var json = new StringBuilder();
+    RowJsonWriter.appendRow(row, Set.of(), json);
+
+    assertThat(new JsonObject(json.toString()), is(new JsonObject()
+      .put("instanceId", id.toString())
+      .put("updatedDate", date.toString())
+      .put("deleted", "false")
+      .put("source", "")
+      .put("instance", instance)
+      .put("tags", new JsonArray().add("a/b"))));
+  }
+
+  @Test
+  public void appendsJsonTextColumnsAsTheyAre() {
+    var holdings = "[{\"id\": \"h1\", \"callNumber\": \"A \\\"1\\\"\"}]";
+    var row = row(new String[] {"instanceId", "holdings", "items", "source"},
+      "i1", holdings, null, "{\"not\":\"json column\"}");
+
+    var json = new StringBuilder();
+    RowJsonWriter.appendRow(row, Set.of("holdings", "items"), json);
+
+    assertThat(json.toString(), is("{\"instanceId\":\"i1\",\"holdings\":" + holdings + ",\"items\":\"\","
+      + "\"source\":\"{\\\"not\\\":\\\"json column\\\"}\"}"));
+    assertThat(new JsonObject(json.toString()).getJsonArray("holdings"), is(new JsonArray(holdings)));
+  }
+
+  @Test
+  public void writesRowsOnceBufferIsFull() {
+    System.setProperty(BUFFER_SIZE_PARAM, "30");
+    var response = mock(HttpServerResponse.class);
+    var writer = new RowJsonWriter(response);
+
+    assertThat(writer.write(row(new String[] {"id"}, 1)), is(false));
+    verify(response, never()).write("{\"id\":\"1\"}");
+
+    assertThat(writer.write(row(new String[] {"id"}, 22)), is(false));
+    assertThat(writer.write(row(new String[] {"id"}, 333)), is(true));
+    verify(response).write("{\"id\":\"1\"}{\"id\":\"22\"}{\"id\":\"333\"}");
+
+    assertThat(writer.write(row(new String[] {"id"}, 4)), is(false));
+    writer.flush();
+    verify(response).write("{\"id\":\"4\"}");
+  }
+
+  @Test
+  public void writesArrayElementsSeparatedByComma() {
+    System.setProperty(BUFFER_SIZE_PARAM, "1000");
+    var response = mock(HttpServerResponse.class);
+    var writer = new RowJsonWriter(response);
+
+    writer.append("{\"items\":[\n");
+    for (String json : new String[] {"{\"id\":1}", "{\"id\":2}"}) {
+      Row row = mock(Row.class);
+      when(row.getString(0)).thenReturn(json);
+      assertThat(writer.writeArrayElement(row), is(false));
+    }
+    writer.append("\n]}");
+    writer.flush();
+
+    assertThat(writer.getArrayElements(), is(2));
+    verify(response).write("{\"items\":[\n{\"id\":1},\n{\"id\":2}\n]}");
+  }
+
+  private static Row row(String[] columns, Object... values) {
+    Row row = mock(Row.class);
+    when(row.size()).thenReturn(columns.length);
+    for (int i = 0; i < columns.length; i++) {
+      when(row.getColumnName(i)).thenReturn(columns[i]);
+      when(row.getValue(i)).thenReturn(values[i]);
+    }
+    return row;
+  }
+}
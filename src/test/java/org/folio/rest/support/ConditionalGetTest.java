@@ -0,0 +1,52 @@
+package org.folio.rest.support;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(JUnitParamsRunner.class)
+public class ConditionalGetTest {
+
+  @Test
+  public void etagIsQuotedVersion() {
+    assertThat(ConditionalGet.etag(3), is("\"3\""));
+  }
+
+  @Test
+  @Parameters({
+    "\"3\"",
+    "W/\"3\"",
+  })
+  public void versionOfEtag(String ifNoneMatch) {
+    assertThat(ConditionalGet.versions(ifNoneMatch), is(List.of(3)));
+  }
+
+  @Test
+  @Parameters({
+    "*",
+    "3",
+    "\"foo\"",
+    "\"\"",
+  })
+  public void noVersionOfOtherTags(String ifNoneMatch) {
+    assertThat(ConditionalGet.versions(ifNoneMatch), is(List.of()));
+  }
+
+  @Test
+  public void versionsOfList() {
+    assertThat(ConditionalGet.versions("\"1\" , W/\"3\""), is(List.of(1, 3)));
+  }
+
+  @Test
+  public void matchesAny() {
+    assertThat(ConditionalGet.matchesAny("*"), is(true));
+    assertThat(ConditionalGet.matchesAny("\"1\", *"), is(true));
+    assertThat(ConditionalGet.matchesAny("\"*\""), is(false));
+    assertThat(ConditionalGet.matchesAny("\"3\""), is(false));
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.rest.support;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
@@ -31,4 +32,29 @@ public class CqlQueryTest {
     assertThat(new CqlQuery(cql).isMatchingAll(), is(false));
   }
 
+  @Parameters({
+    "barcode==123, 123",
+    "barcode == \"a b\", a b",
+    "BARCODE==\"O'Brien\", O'Brien",
+  })
+  @Test
+  public void exactMatchTerm(String cql, String term) {
+    assertThat(new CqlQuery(cql).getExactMatchTerm("barcode"), is(term));
+  }
+
+  @Parameters({
+    "barcode=123",
+    "barcode==12*",
+    "barcode==\"\"",
+    "barcode==/string 123",
+    "barcode==1 or barcode==2",
+    "barcode==1 sortBy hrid",
+    "hrid==123",
+    "=",
+  })
+  @Test
+  public void noExactMatchTerm(String cql) {
+    assertThat(new CqlQuery(cql).getExactMatchTerm("barcode"), is(nullValue()));
+  }
+
 }
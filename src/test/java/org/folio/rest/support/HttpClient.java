@@ -138,6 +138,16 @@ public class HttpClient {
     return asResponse(request(HttpMethod.POST, url, body, tenantId));
   }
 
+  /**
+   * Posts the body as is, without JSON encoding.
+   */
+  public CompletableFuture<Response> post(URL url, Buffer body, String contentType, String tenantId) {
+    HttpRequest<Buffer> request = client.requestAbs(HttpMethod.POST, url.toString());
+    request.putHeader(CONTENT_TYPE, contentType);
+    addDefaultHeaders(request, url, tenantId);
+    return asResponse(request.sendBuffer(body));
+  }
+
   /**
    * Warning: The responseHandler gets null on error, use
    * doPut(URL, Object, String) or {@link #put(URL, Object, String)}
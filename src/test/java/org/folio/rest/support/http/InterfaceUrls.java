@@ -34,6 +34,10 @@ public class InterfaceUrls {
     return vertxUrl("/item-storage/batch/synchronous-unsafe" + subPath);
   }
 
+  public static URL itemsStorageBulkLoadUrl(String subPath) {
+    return vertxUrl("/item-storage/batch/bulk-load" + subPath);
+  }
+
   public static URL holdingsStorageUrl(String subPath) {
     return vertxUrl("/holdings-storage/holdings" + subPath);
   }
@@ -73,7 +73,7 @@ public class ItemDamagedStatusApiUnitTest {
         eq(ItemDamageStatus.class),
         eq(new String[] {"*"}),
         any(CQLWrapper.class),
-        eq(true),
+        eq(false),
         eq(true),
         any(Handler.class)
       );
@@ -243,7 +243,8 @@ public class ItemDamagedStatusApiUnitTest {
 
   private static final class FailingItemDamagedStatusApi extends ItemDamagedStatusApi {
     @Override
-    protected Future<ItemDamageStatuses> searchItemDamagedStatuses(String query, int offset, int limit,
+    protected Future<ItemDamageStatuses> searchItemDamagedStatuses(String query, String totalRecords,
+                                                                   int offset, int limit,
                                                                    Map<String, String> okapiHeaders,
                                                                    Context vertxContext) {
       throw new RuntimeException("mock");
@@ -0,0 +1,94 @@
+package org.folio.services.batch;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.UUID.randomUUID;
+import static org.folio.services.batch.BatchOperationContextFactory.buildBatchOperationContext;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.folio.persist.ItemRepository;
+import org.folio.rest.jaxrs.model.Item;
+import org.junit.Test;
+
+public class BatchOperationContextFactoryTest {
+  private final ItemRepository repository = mock(ItemRepository.class);
+
+  @Test
+  public void shouldNotFetchRecordsWhenNoneExists() {
+    var item = new Item().withId(randomUUID().toString());
+    when(repository.getExistingIds(anyCollection())).thenReturn(succeededFuture(Set.of()));
+
+    var context = buildBatchOperationContext(true, List.of(item), repository, Item::getId, true).result();
+
+    assertThat(context.getRecordsToBeCreated(), contains(item));
+    assertThat(context.getExistingRecords(), empty());
+    verify(repository, never()).getById(anyCollection());
+  }
+
+  @Test
+  public void shouldFetchOnlyExistingRecords() {
+    var newItem = new Item().withId(randomUUID().toString());
+    var updatedItem = new Item().withId(randomUUID().toString());
+    var oldItem = new Item().withId(updatedItem.getId()).withBarcode("old");
+    when(repository.getExistingIds(anyCollection())).thenReturn(succeededFuture(Set.of(updatedItem.getId())));
+    when(repository.getById(Set.of(updatedItem.getId())))
+      .thenReturn(succeededFuture(Map.of(oldItem.getId(), oldItem)));
+
+    var context = buildBatchOperationContext(true, List.of(newItem, updatedItem), repository, Item::getId, true)
+      .result();
+
+    assertThat(context.getRecordsToBeCreated(), contains(newItem));
+    assertThat(context.getExistingRecords(), contains(oldItem));
+    assertThat(context.isOldStateCaptured(), is(true));
+  }
+
+  @Test
+  public void shouldNotFetchExistingRecordsWhenOldStateIsNotCaptured() {
+    var newItem = new Item().withId(randomUUID().toString());
+    var updatedItem = new Item().withId(randomUUID().toString());
+    when(repository.getExistingIds(anyCollection())).thenReturn(succeededFuture(Set.of(updatedItem.getId())));
+
+    var context = buildBatchOperationContext(true, List.of(newItem, updatedItem), repository, Item::getId, false)
+      .result();
+
+    assertThat(context.getRecordsToBeCreated(), contains(newItem));
+    assertThat(context.getExistingRecords(), contains(updatedItem));
+    assertThat(context.isOldStateCaptured(), is(false));
+    verify(repository, never()).getById(anyCollection());
+  }
+
+  @Test
+  public void shouldTreatUpperCaseIdOfExistingRecordAsExisting() {
+    var existingId = randomUUID().toString();
+    var updatedItem = new Item().withId(existingId.toUpperCase());
+    when(repository.getExistingIds(anyCollection())).thenReturn(succeededFuture(Set.of(existingId)));
+
+    var context = buildBatchOperationContext(true, List.of(updatedItem), repository, Item::getId, false)
+      .result();
+
+    assertThat(context.getRecordsToBeCreated(), empty());
+    assertThat(context.getExistingRecords(), contains(updatedItem));
+  }
+
+  @Test
+  public void shouldCreateAllRecordsWithoutUpsert() {
+    var item = new Item().withId(randomUUID().toString());
+
+    var context = buildBatchOperationContext(false, List.of(item), repository, Item::getId, true).result();
+
+    assertThat(context.getRecordsToBeCreated(), contains(item));
+    assertThat(context.getExistingRecords(), empty());
+    verify(repository, never()).getExistingIds(any());
+  }
+}
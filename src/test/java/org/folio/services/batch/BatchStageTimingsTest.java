@@ -0,0 +1,46 @@
+package org.folio.services.batch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.logging.log4j.Level;
+import org.junit.Test;
+
+public class BatchStageTimingsTest {
+
+  @Test
+  public void recordsDurationOfCompletedStages() {
+    var timings = new BatchStageTimings();
+    Promise<Void> pendingStage = Promise.promise();
+
+    timings.time("hrid", Future::succeededFuture);
+    timings.time("save", () -> Future.failedFuture("error"));
+    timings.time("existingRecords", pendingStage::future);
+
+    assertThat(timings.getStageMillis("hrid"), notNullValue());
+    assertThat(timings.getStageMillis("save"), notNullValue());
+    assertThat(timings.getStageMillis("existingRecords"), nullValue());
+
+    pendingStage.complete();
+    assertThat(timings.getStageMillis("existingRecords"), notNullValue());
+  }
+
+  @Test
+  public void passesResultOfStage() {
+    var timings = new BatchStageTimings();
+
+    assertThat(timings.time("hrid", () -> Future.succeededFuture("hr1")).result(), is("hr1"));
+    assertThat(timings.toString(), containsString("hrid: "));
+  }
+
+  @Test
+  public void logsAtInfoOnlyWhenSlow() {
+    assertThat(new BatchStageTimings(60_000).getLogLevel(), is(Level.DEBUG));
+    assertThat(new BatchStageTimings(0).getLogLevel(), is(Level.INFO));
+  }
+}
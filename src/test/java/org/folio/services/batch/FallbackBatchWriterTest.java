@@ -0,0 +1,60 @@
+package org.folio.services.batch;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import io.vertx.core.Future;
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.core.Response;
+import org.folio.rest.jaxrs.model.Error;
+import org.folio.rest.jaxrs.model.Errors;
+import org.junit.Test;
+
+public class FallbackBatchWriterTest {
+  private final List<List<String>> writes = new ArrayList<>();
+
+  @Test
+  public void shouldWriteBatchOnceWhenItSucceeds() {
+    var writer = new FallbackBatchWriter<>(this::write);
+
+    var failures = writer.write(List.of("a", "b", "c")).result();
+
+    assertThat(failures, is(empty()));
+    assertThat(writes, hasSize(1));
+  }
+
+  @Test
+  public void shouldWriteOneByOneWhenBatchFails() {
+    var writer = new FallbackBatchWriter<>(this::write);
+
+    var failures = writer.write(List.of("a", "failing", "c")).result();
+
+    assertThat(failures, hasSize(1));
+    assertThat(failures.get(0).element(), is("failing"));
+    assertThat(failures.get(0).message(), is("failing record"));
+    assertThat(writes, hasSize(4));
+  }
+
+  @Test
+  public void shouldReportMessageOfFailureResponse() {
+    var writer = new FallbackBatchWriter<String>(records -> succeededFuture(Response.status(422)
+      .entity(new Errors().withErrors(List.of(new Error().withMessage("invalid")))).build()));
+
+    var failures = writer.write(List.of("a")).result();
+
+    assertThat(failures.get(0).message(), is("invalid"));
+  }
+
+  private Future<Response> write(List<String> records) {
+    writes.add(records);
+    if (records.contains("failing")) {
+      return failedFuture("failing record");
+    }
+    return succeededFuture(Response.status(201).build());
+  }
+}
@@ -0,0 +1,64 @@
+package org.folio.services.batch;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import io.vertx.core.Future;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.folio.rest.jaxrs.model.Parameter;
+import org.junit.Test;
+
+public class NdjsonStreamSessionTest {
+
+  @Test
+  public void shouldParseLinesSplitAcrossChunks() {
+    var session = new CollectingSession();
+
+    session.append(chunk("{\"key\":\"a\",\"va"));
+    session.append(chunk("lue\":\"1\"}\n{\"key\":\"b\""));
+    session.append(chunk(",\"value\":\"2\"}\n"));
+    session.append(chunk("\n{\"key\":\"ü\",\"value\":\"3\"}"));
+    List<String> records = session.complete().result();
+
+    assertThat(records, contains("1:a", "2:b", "4:ü"));
+  }
+
+  @Test
+  public void shouldParseManyLinesOfOneChunk() {
+    var session = new CollectingSession();
+
+    session.append(chunk("{\"key\":\"a\"}\n{\"key\":\"b\"}\n{\"key\":\"c\"}\n"));
+    List<String> records = session.complete().result();
+
+    assertThat(records, contains("1:a", "2:b", "3:c"));
+    assertThat(session.getLineNumber(), is(3L));
+  }
+
+  private static ByteArrayInputStream chunk(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class CollectingSession extends NdjsonStreamSession<Parameter, List<String>> {
+    private final List<String> records = new ArrayList<>();
+
+    CollectingSession() {
+      super(Parameter.class, 2, succeededFuture());
+    }
+
+    @Override
+    protected Future<Void> processBatch(List<ParsedRecord<Parameter>> batch) {
+      batch.forEach(rec -> records.add(rec.line() + ":" + rec.value().getKey()));
+      return succeededFuture();
+    }
+
+    @Override
+    protected Future<List<String>> finish() {
+      return succeededFuture(records);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package org.folio.services.batch;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import io.vertx.core.Future;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.ws.rs.core.Response;
+import org.folio.rest.jaxrs.model.Errors;
+import org.folio.rest.jaxrs.model.Item;
+import org.junit.Test;
+
+public class PartitionedBatchSyncTest {
+  private static final String FAILING_BARCODE = "failing";
+
+  @Test
+  public void shouldPartitionByIdHash() {
+    var items = createItems(1000);
+    var sync = new PartitionedBatchSync<>(this::writeItems, Item::getId, 4);
+
+    var partitions = sync.partition(items);
+
+    assertThat(partitions, hasSize(4));
+    assertThat(partitions.stream().mapToInt(List::size).sum(), is(1000));
+  }
+
+  @Test
+  public void shouldNotPartitionSmallBatch() {
+    var sync = new PartitionedBatchSync<>(this::writeItems, Item::getId, 4);
+
+    assertThat(sync.partition(createItems(150)), hasSize(1));
+  }
+
+  @Test
+  public void shouldRespondWithSuccessWhenAllPartitionsSucceed() {
+    var sync = new PartitionedBatchSync<>(this::writeItems, Item::getId, 4);
+
+    var response = sync.write(createItems(500), () -> Response.status(201).build(),
+      errors -> Response.status(422).entity(errors).build()).result();
+
+    assertThat(response.getStatus(), is(201));
+  }
+
+  @Test
+  public void shouldReportEachFailedRecord() {
+    var items = createItems(500);
+    var failedItem1 = items.get(10).withBarcode(FAILING_BARCODE);
+    var failedItem2 = items.get(400).withBarcode(FAILING_BARCODE);
+    var sync = new PartitionedBatchSync<>(this::writeItems, Item::getId, 4);
+
+    var response = sync.write(items, () -> Response.status(201).build(),
+      errors -> Response.status(422).entity(errors).build()).result();
+
+    assertThat(response.getStatus(), is(422));
+    var errors = ((Errors) response.getEntity()).getErrors();
+    assertThat(errors, hasSize(3));
+    assertThat(errors.subList(0, 2).stream().map(error -> error.getParameters().get(0).getValue()).toList(),
+      containsInAnyOrder(failedItem1.getId(), failedItem2.getId()));
+    var summary = errors.get(2);
+    assertThat(summary.getCode(), is(PartitionedBatchSync.PARTIALLY_WRITTEN_CODE));
+    assertThat(summary.getParameters().get(0).getValue(), is("498"));
+    assertThat(summary.getParameters().get(1).getValue(), is("2"));
+  }
+
+  private Future<Response> writeItems(List<Item> items) {
+    if (items.stream().anyMatch(item -> FAILING_BARCODE.equals(item.getBarcode()))) {
+      return failedFuture("Duplicate barcode");
+    }
+    return succeededFuture(Response.status(201).build());
+  }
+
+  private static List<Item> createItems(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(i -> new Item().withId(randomUUID().toString()))
+      .toList();
+  }
+}
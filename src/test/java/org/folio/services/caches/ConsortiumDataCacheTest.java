@@ -1,7 +1,12 @@
 package org.folio.services.caches;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.awaitility.Awaitility.await;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
@@ -16,6 +21,8 @@ import io.vertx.ext.unit.junit.VertxUnitRunner;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.folio.okapi.common.XOkapiHeaders;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -135,4 +142,86 @@ public class ConsortiumDataCacheTest {
       async.complete();
     });
   }
+
+  @Test
+  public void shouldCacheNotInConsortiumResult(TestContext context) {
+    WireMock.resetAllRequests();
+    JsonObject emptyUserTenantsCollection = new JsonObject()
+      .put(USER_TENANTS_FIELD, JsonArray.of());
+
+    WireMock.stubFor(get(USER_TENANTS_PATH)
+      .willReturn(WireMock.ok().withBody(emptyUserTenantsCollection.encodePrettily())));
+
+    consortiumDataCache.getConsortiumData(TENANT_ID, okapiHeaders)
+      .compose(v -> consortiumDataCache.getConsortiumData(TENANT_ID, okapiHeaders))
+      .onComplete(context.asyncAssertSuccess(consortiumData -> {
+        context.assertTrue(consortiumData.isEmpty());
+        verify(1, getRequestedFor(urlEqualTo(USER_TENANTS_PATH)));
+      }));
+  }
+
+  @Test
+  public void shouldCacheLoadingError(TestContext context) {
+    WireMock.resetAllRequests();
+    WireMock.stubFor(get(USER_TENANTS_PATH).willReturn(WireMock.serverError()));
+
+    consortiumDataCache.getConsortiumData(TENANT_ID, okapiHeaders)
+      .recover(e -> consortiumDataCache.getConsortiumData(TENANT_ID, okapiHeaders))
+      .onComplete(context.asyncAssertFailure(e -> verify(1, getRequestedFor(urlEqualTo(USER_TENANTS_PATH)))));
+  }
+
+  @Test
+  public void shouldRecordHitAndMissStatistics(TestContext context) {
+    JsonObject userTenantsCollection = new JsonObject()
+      .put(USER_TENANTS_FIELD, new JsonArray()
+        .add(new JsonObject()
+          .put(CENTRAL_TENANT_ID_FIELD, "mobius")
+          .put(CONSORTIUM_ID_FIELD, UUID.randomUUID().toString())));
+
+    WireMock.stubFor(get(USER_TENANTS_PATH)
+      .willReturn(WireMock.ok().withBody(userTenantsCollection.encodePrettily())));
+
+    consortiumDataCache.getConsortiumData(TENANT_ID, okapiHeaders)
+      .compose(v -> consortiumDataCache.getConsortiumData(TENANT_ID, okapiHeaders))
+      .onComplete(context.asyncAssertSuccess(consortiumData -> {
+        CacheStats stats = consortiumDataCache.getStats();
+        context.assertEquals(1L, stats.hitCount());
+        context.assertEquals(1L, stats.missCount());
+        context.assertEquals(1L, stats.loadSuccessCount());
+      }));
+  }
+
+  @Test
+  public void shouldExpireEntryAtOriginalTimeWhenBackgroundReloadFails(TestContext context) {
+    WireMock.resetAllRequests();
+    AtomicLong time = new AtomicLong();
+    ConsortiumDataCache cache = new ConsortiumDataCache(vertx, vertx.createHttpClient(), time::get);
+    JsonObject userTenantsCollection = new JsonObject()
+      .put(USER_TENANTS_FIELD, new JsonArray()
+        .add(new JsonObject()
+          .put(CENTRAL_TENANT_ID_FIELD, "mobius")
+          .put(CONSORTIUM_ID_FIELD, UUID.randomUUID().toString())));
+    WireMock.stubFor(get(USER_TENANTS_PATH)
+      .willReturn(WireMock.ok().withBody(userTenantsCollection.encodePrettily())));
+    cache.getConsortiumData(TENANT_ID, okapiHeaders).toCompletionStage().toCompletableFuture().join();
+
+    // older than the refresh time: the cached data is returned and the failing reload is started
+    WireMock.stubFor(get(USER_TENANTS_PATH).willReturn(WireMock.serverError()));
+    time.set(TimeUnit.SECONDS.toNanos(241));
+    Map<String, String> refreshedHeaders = Map.of(
+      XOkapiHeaders.TENANT, TENANT_ID,
+      XOkapiHeaders.TOKEN, "refreshed-token",
+      XOkapiHeaders.URL, mockServer.baseUrl());
+    Optional<ConsortiumData> staleData = cache.getConsortiumData(TENANT_ID, refreshedHeaders)
+      .toCompletionStage().toCompletableFuture().join();
+    context.assertTrue(staleData.isPresent());
+    await().atMost(5, TimeUnit.SECONDS).until(() -> cache.getStats().loadCount() == 2);
+    verify(getRequestedFor(urlEqualTo(USER_TENANTS_PATH))
+      .withHeader(XOkapiHeaders.TOKEN, WireMock.equalTo("refreshed-token")));
+
+    // older than the expiration time of the first load: the kept data is not returned anymore
+    time.set(TimeUnit.SECONDS.toNanos(301));
+    cache.getConsortiumData(TENANT_ID, okapiHeaders)
+      .onComplete(context.asyncAssertFailure());
+  }
 }
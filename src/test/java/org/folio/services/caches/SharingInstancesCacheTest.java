@@ -0,0 +1,95 @@
+package org.folio.services.caches;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.common.ConsoleNotifier;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.okapi.common.XOkapiHeaders;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(VertxUnitRunner.class)
+public class SharingInstancesCacheTest {
+
+  @ClassRule
+  public static WireMockRule mockServer = new WireMockRule(WireMockConfiguration.wireMockConfig()
+    .notifier(new ConsoleNotifier(false))
+    .dynamicPort());
+
+  private static final String CENTRAL_TENANT_ID = "mobius";
+  private static final String MEMBER_TENANT_ID = "diku";
+  private static final String CONSORTIUM_ID = UUID.randomUUID().toString();
+  private static final String INSTANCE_ID = UUID.randomUUID().toString();
+  private static final String SHARING_INSTANCES_PATH = "/consortia/" + CONSORTIUM_ID + "/sharing/instances";
+
+  private final Vertx vertx = Vertx.vertx();
+  private SharingInstancesCache sharingInstancesCache;
+  private Map<String, String> okapiHeaders;
+
+  @Before
+  public void setUp() {
+    sharingInstancesCache = new SharingInstancesCache(vertx, vertx.createHttpClient());
+    okapiHeaders = Map.of(
+      XOkapiHeaders.TENANT, CENTRAL_TENANT_ID,
+      XOkapiHeaders.TOKEN, "token",
+      XOkapiHeaders.URL, mockServer.baseUrl());
+
+    JsonObject sharingCollection = new JsonObject()
+      .put("sharingInstances", JsonArray.of(new JsonObject()
+        .put("sourceTenantId", CENTRAL_TENANT_ID)
+        .put("targetTenantId", MEMBER_TENANT_ID)
+        .put("instanceIdentifier", INSTANCE_ID)));
+
+    WireMock.stubFor(get(urlPathEqualTo(SHARING_INSTANCES_PATH))
+      .willReturn(WireMock.ok().withBody(sharingCollection.encodePrettily())));
+  }
+
+  @After
+  public void reset() {
+    WireMock.reset();
+  }
+
+  @Test
+  public void shouldReturnSharingTenantIds(TestContext context) {
+    sharingInstancesCache.getSharingTenantIds(CONSORTIUM_ID, INSTANCE_ID, okapiHeaders)
+      .onComplete(context.asyncAssertSuccess(tenantIds ->
+        context.assertEquals(List.of(MEMBER_TENANT_ID, CENTRAL_TENANT_ID), tenantIds)));
+  }
+
+  @Test
+  public void shouldSendSingleRequestForConcurrentAndRepeatedCalls(TestContext context) {
+    Future.all(
+        sharingInstancesCache.getSharingTenantIds(CONSORTIUM_ID, INSTANCE_ID, okapiHeaders),
+        sharingInstancesCache.getSharingTenantIds(CONSORTIUM_ID, INSTANCE_ID, okapiHeaders))
+      .compose(v -> sharingInstancesCache.getSharingTenantIds(CONSORTIUM_ID, INSTANCE_ID, okapiHeaders))
+      .onComplete(context.asyncAssertSuccess(v -> verify(1, getRequestedFor(urlPathEqualTo(SHARING_INSTANCES_PATH)))));
+  }
+
+  @Test
+  public void shouldReloadSharingTenantIdsAfterInvalidation(TestContext context) {
+    sharingInstancesCache.getSharingTenantIds(CONSORTIUM_ID, INSTANCE_ID, okapiHeaders)
+      .compose(v -> {
+        sharingInstancesCache.invalidate(CONSORTIUM_ID, INSTANCE_ID);
+        return sharingInstancesCache.getSharingTenantIds(CONSORTIUM_ID, INSTANCE_ID, okapiHeaders);
+      })
+      .onComplete(context.asyncAssertSuccess(v -> verify(2, getRequestedFor(urlPathEqualTo(SHARING_INSTANCES_PATH)))));
+  }
+
+}
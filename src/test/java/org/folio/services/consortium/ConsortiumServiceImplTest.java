@@ -23,6 +23,7 @@ import java.util.UUID;
 import org.folio.okapi.common.XOkapiHeaders;
 import org.folio.services.caches.ConsortiumData;
 import org.folio.services.caches.ConsortiumDataCache;
+import org.folio.services.caches.SharingInstancesCache;
 import org.folio.services.consortium.entities.SharingInstance;
 import org.folio.services.consortium.entities.SharingStatus;
 import org.folio.services.consortium.exceptions.ConsortiumException;
@@ -32,6 +33,7 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 @RunWith(VertxUnitRunner.class)
@@ -61,11 +63,14 @@ public class ConsortiumServiceImplTest {
   private Map<String, String> okapiHeaders;
   @Mock
   private ConsortiumDataCache consortiumDataCache;
+  @Mock
+  private SharingInstancesCache sharingInstancesCache;
 
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
-    consortiumServiceImpl = new ConsortiumServiceImpl(vertx.createHttpClient(), consortiumDataCache);
+    consortiumServiceImpl = new ConsortiumServiceImpl(vertx.createHttpClient(), consortiumDataCache,
+      sharingInstancesCache);
     okapiHeaders = Map.of(
       XOkapiHeaders.TENANT, TENANT_ID,
       XOkapiHeaders.TOKEN, TOKEN,
@@ -143,6 +148,7 @@ public class ConsortiumServiceImplTest {
       verifyShareInstanceCall();
       context.assertTrue(ar.failed());
       context.assertTrue(ar.cause() instanceof ConsortiumException);
+      Mockito.verifyNoInteractions(sharingInstancesCache);
       async.complete();
     });
   }
@@ -172,6 +178,33 @@ public class ConsortiumServiceImplTest {
         .withHeader(XOkapiHeaders.URL, WireMock.equalTo(mockServer.baseUrl())));
       testContext.assertTrue(ar.succeeded());
       testContext.assertEquals(ar.result().getStatus(), SharingStatus.COMPLETE);
+      Mockito.verify(sharingInstancesCache).invalidate(CONSORTIUM_ID, INSTANCE_ID);
+      async.complete();
+    });
+  }
+
+  @Test
+  public void shouldNotInvalidateSharingTenantIdsWhileSharingInProgress(TestContext testContext) {
+    SharingInstance sharingInstance = new SharingInstance();
+    sharingInstance.setSourceTenantId(CENTRAL_TENANT_ID);
+    sharingInstance.setInstanceIdentifier(UUID.fromString(INSTANCE_ID));
+    sharingInstance.setTargetTenantId(TENANT_ID);
+
+    JsonObject sharingInstanceResult = new JsonObject()
+      .put(SOURCE_TENANT_ID_FIELD, CENTRAL_TENANT_ID)
+      .put(TARGET_TENANT_ID_FIELD, TENANT_ID)
+      .put(INSTANCE_ID_FIELD, INSTANCE_ID)
+      .put(STATUS_FIELD, "IN_PROGRESS");
+
+    WireMock.stubFor(post(INSTANCE_SHARE_PATH)
+      .willReturn(WireMock.created().withBody(sharingInstanceResult.encodePrettily())));
+
+    Async async = testContext.async();
+
+    consortiumServiceImpl.shareInstance(CONSORTIUM_ID, sharingInstance, okapiHeaders).onComplete(ar -> {
+      testContext.assertTrue(ar.succeeded());
+      testContext.assertEquals(ar.result().getStatus(), SharingStatus.IN_PROGRESS);
+      Mockito.verifyNoInteractions(sharingInstancesCache);
       async.complete();
     });
   }
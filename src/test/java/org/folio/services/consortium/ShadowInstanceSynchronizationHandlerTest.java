@@ -37,13 +37,21 @@ import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.kafka.client.consumer.impl.KafkaConsumerRecordImpl;
+import io.vertx.kafka.client.consumer.impl.KafkaConsumerRecordsImpl;
+import io.vertx.kafka.client.producer.KafkaProducerRecord;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.folio.InventoryKafkaTopic;
 import org.folio.rest.api.TestBase;
 import org.folio.rest.jaxrs.model.Instance;
@@ -52,7 +60,10 @@ import org.folio.rest.support.IndividualResource;
 import org.folio.rest.support.Response;
 import org.folio.services.caches.ConsortiumData;
 import org.folio.services.caches.ConsortiumDataCache;
+import org.folio.services.caches.SharingInstancesCache;
+import org.folio.services.domainevent.CapturingInstanceEventPublisher;
 import org.folio.services.domainevent.DomainEvent;
+import org.folio.services.domainevent.DomainEventDeserializer;
 import org.folio.services.domainevent.DomainEventType;
 import org.folio.utility.ModuleUtility;
 import org.junit.Before;
@@ -79,6 +90,8 @@ public class ShadowInstanceSynchronizationHandlerTest extends TestBase {
   private static final String SOURCE_TENANT_ID_FIELD = "sourceTenantId";
   private static final String TARGET_TENANT_ID_FIELD = "targetTenantId";
   private static final String INSTANCE_IDENTIFIER_FIELD = "instanceIdentifier";
+  private static final String DELTA_TOPICS_PARAM = "domain-events.delta.topics";
+  private static final String ENCODING_PARAM = "domain-events.encoding";
   private static final String INSTANCE_TYPE_ID = "bbe13900-61c6-4643-8d73-2e60d38c8e55";
 
   private static InstanceType instanceType = new InstanceType()
@@ -104,7 +117,8 @@ public class ShadowInstanceSynchronizationHandlerTest extends TestBase {
     MockitoAnnotations.openMocks(this);
     clearData();
     synchronizationHandler =
-      new ShadowInstanceSynchronizationHandler(consortiaDataCache, vertx.createHttpClient(), vertx);
+      new ShadowInstanceSynchronizationHandler(consortiaDataCache,
+        new SharingInstancesCache(vertx, vertx.createHttpClient()), vertx);
 
     JsonObject sharingCollection = new JsonObject()
       .put(SHARING_INSTANCES_FIELD, JsonArray.of(new JsonObject()
@@ -145,6 +159,130 @@ public class ShadowInstanceSynchronizationHandlerTest extends TestBase {
         updatedShadowInstance -> context.assertEquals(sharedInstance.getTitle(), updatedShadowInstance.getTitle())));
   }
 
+  @Test
+  public void shouldIncrementShadowInstanceVersionOnUpdate(TestContext context)
+    throws ExecutionException, InterruptedException, TimeoutException {
+    Instance shadowInstance = new Instance()
+      .withId(UUID.randomUUID().toString())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title")
+      .withSource("CONSORTIUM-MARC");
+
+    Instance sharedInstance = new Instance()
+      .withId(shadowInstance.getId())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title-updated")
+      .withSource("MARC")
+      .withVersion(5);
+
+    Instance createdShadowInstance = createInstance(shadowInstance, TENANT_ID);
+
+    DomainEvent<Instance> event = DomainEvent.updateEvent(sharedInstance, sharedInstance, CENTRAL_TENANT_ID);
+    KafkaConsumerRecordImpl<String, String> kafkaRecord = buildKafkaRecord(sharedInstance.getId(), event);
+
+    synchronizationHandler.handle(kafkaRecord)
+      .compose(v -> getInstanceById(sharedInstance.getId(), TENANT_ID))
+      .onComplete(context.asyncAssertSuccess(updatedShadowInstance -> {
+        context.assertEquals(sharedInstance.getTitle(), updatedShadowInstance.getTitle());
+        context.assertEquals("CONSORTIUM-MARC", updatedShadowInstance.getSource());
+        context.assertEquals(createdShadowInstance.getVersion() + 1, updatedShadowInstance.getVersion());
+      }));
+  }
+
+  @Test
+  public void shouldApplyOnlyLatestUpdateOfInstanceInBatch(TestContext context)
+    throws ExecutionException, InterruptedException, TimeoutException {
+    Instance shadowInstance = new Instance()
+      .withId(UUID.randomUUID().toString())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title")
+      .withSource("CONSORTIUM-MARC");
+
+    Instance firstUpdate = new Instance()
+      .withId(shadowInstance.getId())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title-first-update")
+      .withSource("MARC");
+
+    Instance secondUpdate = new Instance()
+      .withId(shadowInstance.getId())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title-second-update")
+      .withSource("MARC");
+
+    Instance createdShadowInstance = createInstance(shadowInstance, TENANT_ID);
+
+    DomainEvent<Instance> firstEvent = DomainEvent.updateEvent(shadowInstance, firstUpdate, CENTRAL_TENANT_ID);
+    DomainEvent<Instance> secondEvent = DomainEvent.updateEvent(firstUpdate, secondUpdate, CENTRAL_TENANT_ID);
+    KafkaConsumerRecordsImpl<String, String> kafkaRecords = buildKafkaRecords(List.of(
+      buildConsumerRecord(firstUpdate.getId(), firstEvent),
+      buildConsumerRecord(secondUpdate.getId(), secondEvent)));
+
+    synchronizationHandler.handleBatch(kafkaRecords)
+      .compose(v -> getInstanceById(shadowInstance.getId(), TENANT_ID))
+      .onComplete(context.asyncAssertSuccess(updatedShadowInstance -> {
+        context.assertEquals(secondUpdate.getTitle(), updatedShadowInstance.getTitle());
+        context.assertEquals(createdShadowInstance.getVersion() + 1, updatedShadowInstance.getVersion());
+      }));
+  }
+
+  @Test
+  public void shouldNotApplyUpdateFollowedByDeleteInBatch(TestContext context) {
+    Instance instance = new Instance()
+      .withId(UUID.randomUUID().toString())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("title")
+      .withSource("MARC");
+
+    KafkaConsumerRecordsImpl<String, String> kafkaRecords = buildKafkaRecords(List.of(
+      buildConsumerRecord(instance.getId(), DomainEvent.updateEvent(instance, instance, CENTRAL_TENANT_ID)),
+      buildConsumerRecord(instance.getId(), DomainEvent.deleteEvent(instance, CENTRAL_TENANT_ID))));
+
+    synchronizationHandler.handleBatch(kafkaRecords)
+      .onComplete(context.asyncAssertSuccess(v -> verify(0, getRequestedFor(urlMatching(SHARING_JOBS_PATH + ".*")))));
+  }
+
+  @Test
+  public void shouldSkipUndecodableEventInBatch(TestContext context)
+    throws ExecutionException, InterruptedException, TimeoutException {
+    Instance shadowInstance = new Instance()
+      .withId(UUID.randomUUID().toString())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title")
+      .withSource("CONSORTIUM-MARC");
+
+    Instance sharedInstance = new Instance()
+      .withId(shadowInstance.getId())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title-updated")
+      .withSource("MARC");
+
+    createInstance(shadowInstance, TENANT_ID);
+
+    String topic = InventoryKafkaTopic.INSTANCE.fullTopicName(CENTRAL_TENANT_ID);
+    KafkaConsumerRecordsImpl<String, String> kafkaRecords = buildKafkaRecords(List.of(
+      new ConsumerRecord<>(topic, 0, 0, UUID.randomUUID().toString(), "{not json"),
+      buildConsumerRecord(sharedInstance.getId(),
+        DomainEvent.updateEvent(shadowInstance, sharedInstance, CENTRAL_TENANT_ID))));
+
+    synchronizationHandler.handleBatch(kafkaRecords)
+      .compose(v -> getInstanceById(shadowInstance.getId(), TENANT_ID))
+      .onComplete(context.asyncAssertSuccess(
+        updatedShadowInstance -> context.assertEquals(sharedInstance.getTitle(), updatedShadowInstance.getTitle())));
+  }
+
+  @Test
+  public void shouldUpdateShadowInstanceWhenDeltaEventsAreEnabled(TestContext context)
+    throws ExecutionException, InterruptedException, TimeoutException {
+    shouldUpdateShadowInstanceFromPublishedEvent(context, DELTA_TOPICS_PARAM, "inventory.instance", 2);
+  }
+
+  @Test
+  public void shouldUpdateShadowInstanceFromSmileEncodedEvent(TestContext context)
+    throws ExecutionException, InterruptedException, TimeoutException {
+    shouldUpdateShadowInstanceFromPublishedEvent(context, ENCODING_PARAM, "smile", 1);
+  }
+
   @Test
   public void shouldNotUpdateShadowInstanceIfEventTypeIsNotUpdate(TestContext context) {
     Instance instance = new Instance()
@@ -185,6 +323,51 @@ public class ShadowInstanceSynchronizationHandlerTest extends TestBase {
       .onComplete(context.asyncAssertFailure(v -> verify(1, getRequestedFor(urlMatching(SHARING_JOBS_PATH + ".+")))));
   }
 
+  /**
+   * Publishes the update of the shared instance like the module does with the given system property set, and
+   * passes the record published to the instance topic to the handler like the batch consumer does.
+   */
+  private void shouldUpdateShadowInstanceFromPublishedEvent(TestContext context, String property, String value,
+                                                            int expectedRecordsCount)
+    throws ExecutionException, InterruptedException, TimeoutException {
+    Instance shadowInstance = new Instance()
+      .withId(UUID.randomUUID().toString())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title")
+      .withSource("CONSORTIUM-MARC");
+
+    Instance sharedInstance = new Instance()
+      .withId(shadowInstance.getId())
+      .withInstanceTypeId(INSTANCE_TYPE_ID)
+      .withTitle("test-title-updated")
+      .withSource("MARC");
+
+    createInstance(shadowInstance, TENANT_ID);
+
+    String topic = InventoryKafkaTopic.INSTANCE.fullTopicName(CENTRAL_TENANT_ID);
+    System.setProperty(property, value);
+    try {
+      var publisher = new CapturingInstanceEventPublisher(Map.of(TENANT, CENTRAL_TENANT_ID,
+        URL, mockServer.baseUrl(), TOKEN, "test-token"), topic);
+
+      publisher.publishUpdated(shadowInstance, sharedInstance)
+        .map(sentRecords -> {
+          context.assertEquals(expectedRecordsCount, sentRecords.size());
+          List<KafkaProducerRecord<String, ?>> instanceTopicRecords = sentRecords.stream()
+            .filter(producerRecord -> producerRecord.topic().equals(topic))
+            .toList();
+          context.assertEquals(1, instanceTopicRecords.size());
+          return new KafkaConsumerRecordImpl<>(toConsumerRecord(instanceTopicRecords.get(0)));
+        })
+        .compose(synchronizationHandler::handle)
+        .compose(v -> getInstanceById(sharedInstance.getId(), TENANT_ID))
+        .onComplete(context.asyncAssertSuccess(
+          updatedShadowInstance -> context.assertEquals(sharedInstance.getTitle(), updatedShadowInstance.getTitle())));
+    } finally {
+      System.clearProperty(property);
+    }
+  }
+
   private static IndividualResource createInstanceType(InstanceType instanceType, String tenantId)
     throws InterruptedException, ExecutionException, TimeoutException {
 
@@ -223,12 +406,40 @@ public class ShadowInstanceSynchronizationHandlerTest extends TestBase {
 
   private static KafkaConsumerRecordImpl<String, String> buildKafkaRecord(String recordKey,
                                                                           DomainEvent<Instance> event) {
+    return new KafkaConsumerRecordImpl<>(buildConsumerRecord(recordKey, event));
+  }
+
+  private static ConsumerRecord<String, String> buildConsumerRecord(String recordKey, DomainEvent<Instance> event) {
     String topic = InventoryKafkaTopic.INSTANCE.fullTopicName(CENTRAL_TENANT_ID);
     ConsumerRecord<String, String> consumerRecord = new ConsumerRecord<>(topic, 0, 0, recordKey, Json.encode(event));
     consumerRecord.headers().add(new RecordHeader(TENANT.toLowerCase(), CENTRAL_TENANT_ID.getBytes()));
     consumerRecord.headers().add(new RecordHeader(URL.toLowerCase(), mockServer.baseUrl().getBytes()));
     consumerRecord.headers().add(new RecordHeader(TOKEN.toLowerCase(), "test-token".getBytes()));
-    return new KafkaConsumerRecordImpl<>(consumerRecord);
+    return consumerRecord;
+  }
+
+  /**
+   * Converts the published record into the record the batch consumer polls, the value is deserialized by its
+   * content-type header.
+   */
+  private static ConsumerRecord<String, String> toConsumerRecord(KafkaProducerRecord<String, ?> producerRecord) {
+    RecordHeaders headers = new RecordHeaders();
+    producerRecord.headers().forEach(header -> headers.add(header.key(), header.value().getBytes()));
+    byte[] value = producerRecord.value() instanceof byte[] bytes
+      ? bytes
+      : ((String) producerRecord.value()).getBytes(StandardCharsets.UTF_8);
+
+    ConsumerRecord<String, String> consumerRecord = new ConsumerRecord<>(producerRecord.topic(), 0, 0,
+      producerRecord.key(), new DomainEventDeserializer().deserialize(producerRecord.topic(), headers, value));
+    headers.forEach(header -> consumerRecord.headers().add(header));
+    return consumerRecord;
+  }
+
+  private static KafkaConsumerRecordsImpl<String, String> buildKafkaRecords(
+    List<ConsumerRecord<String, String>> consumerRecords) {
+    String topic = InventoryKafkaTopic.INSTANCE.fullTopicName(CENTRAL_TENANT_ID);
+    return new KafkaConsumerRecordsImpl<>(
+      new ConsumerRecords<>(Map.of(new TopicPartition(topic, 0), consumerRecords)));
   }
 
 }
@@ -0,0 +1,52 @@
+package org.folio.services.domainevent;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.vertx.core.Future;
+import io.vertx.kafka.client.producer.KafkaProducer;
+import io.vertx.kafka.client.producer.KafkaProducerRecord;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.folio.kafka.KafkaProducerManager;
+import org.folio.rest.jaxrs.model.Instance;
+
+/**
+ * Publishes instance domain events with the configured format and encoding into a list instead of Kafka,
+ * so that consumers can be tested with the records the module actually produces. The values are JSON strings
+ * or, with a binary encoding, bytes.
+ */
+public class CapturingInstanceEventPublisher {
+  private final List<KafkaProducerRecord<String, ?>> sentRecords = new ArrayList<>();
+  private final CommonDomainEventPublisher<Instance> publisher;
+
+  @SuppressWarnings("unchecked")
+  public CapturingInstanceEventPublisher(Map<String, String> okapiHeaders, String kafkaTopic) {
+    KafkaProducerManager producerManager = mock(KafkaProducerManager.class);
+    KafkaProducer<String, Object> producer = mock(KafkaProducer.class);
+    when(producerManager.<String, Object>createShared(any())).thenReturn(producer);
+    when(producer.send(any())).thenAnswer(invocation -> {
+      sentRecords.add(invocation.getArgument(0));
+      return succeededFuture();
+    });
+    when(producer.flush()).thenReturn(succeededFuture());
+    when(producer.close()).thenReturn(succeededFuture());
+
+    publisher = new CommonDomainEventPublisher<>(new CaseInsensitiveMap<>(okapiHeaders), kafkaTopic,
+      producerManager, mock(FailureHandler.class));
+  }
+
+  /**
+   * Publishes the update events of the instance.
+   *
+   * @return all records sent so far
+   */
+  public Future<List<KafkaProducerRecord<String, ?>>> publishUpdated(Instance oldInstance, Instance newInstance) {
+    return publisher.publishRecordUpdated(newInstance.getId(), oldInstance, newInstance)
+      .map(notUsed -> sentRecords);
+  }
+}
@@ -5,19 +5,28 @@ import static io.vertx.core.Future.succeededFuture;
 import static org.awaitility.Awaitility.await;
 import static org.folio.InventoryKafkaTopic.INSTANCE;
 import static org.folio.rest.api.TestBase.get;
+import static org.folio.services.domainevent.DomainEventProducerManager.BINARY_PRODUCER_PREFIX;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
 import io.vertx.kafka.client.producer.KafkaProducer;
+import io.vertx.kafka.client.producer.KafkaProducerRecord;
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.folio.kafka.KafkaProducerManager;
@@ -27,6 +36,7 @@ import org.folio.rest.support.sql.TestRowStream;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -140,6 +150,106 @@ public class CommonDomainEventPublisherTest {
     verify(failureHandler, times(1)).handleFailure(eq(causeError), any());
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldPublishDeltaUpdateEventToDeltaTopicInAdditionToFullEvent() {
+    System.setProperty("domain-events.delta.topics", "inventory.instance");
+    try {
+      var topic = INSTANCE.fullTopicName(TENANT_ID);
+      var deltaPublisher = new CommonDomainEventPublisher<Instance>(
+        new CaseInsensitiveMap<>(Map.of()), topic, producerManager, failureHandler);
+
+      when(producerManager.<String, String>createShared(any())).thenReturn(producer);
+      when(producer.close()).thenReturn(succeededFuture());
+      when(producer.flush()).thenReturn(succeededFuture());
+      when(producer.send(any())).thenReturn(succeededFuture());
+
+      get(deltaPublisher.publishRecordUpdated("instanceId",
+        "{\"id\": \"1\", \"_version\": 1, \"title\": \"old\"}",
+        "{\"id\": \"1\", \"_version\": 2, \"title\": \"new\"}"));
+
+      var captor = ArgumentCaptor.forClass(KafkaProducerRecord.class);
+      verify(producer, times(2)).send(captor.capture());
+      verify(producerManager).createShared(topic);
+      verify(producerManager).createShared(topic + ".delta");
+      KafkaProducerRecord<String, String> fullRecord = recordOfTopic(captor, topic);
+      KafkaProducerRecord<String, String> deltaRecord = recordOfTopic(captor, topic + ".delta");
+
+      var fullEvent = new JsonObject(fullRecord.value());
+      assertThat(fullEvent.getJsonObject("old").getString("title"), is("old"));
+      assertThat(fullEvent.getJsonObject("new").getString("title"), is("new"));
+      assertThat(fullRecord.headers().stream().anyMatch(header -> header.key().equals("event-format")), is(false));
+
+      var deltaEvent = new JsonObject(deltaRecord.value());
+      assertThat(deltaEvent.getString("id"), is("1"));
+      assertThat(deltaEvent.getInteger("_version"), is(2));
+      assertThat(deltaEvent.getJsonArray("patch").getJsonObject(1).getString("path"), is("/title"));
+      assertThat(deltaEvent.getJsonObject("old"), is(nullValue()));
+      assertThat(deltaRecord.headers().stream()
+        .anyMatch(header -> header.key().equals("event-format") && header.value().toString().equals("delta")),
+        is(true));
+    } finally {
+      System.clearProperty("domain-events.delta.topics");
+    }
+  }
+
+  @Test
+  public void shouldConfigureDeltaTopicsByShortName() {
+    System.setProperty("domain-events.delta.topics", "inventory.item, inventory.instance");
+    try {
+      var deltaTopics = DeltaKafkaTopic.configured();
+
+      assertThat(deltaTopics.length, is(2));
+      assertThat(Arrays.stream(deltaTopics).map(DeltaKafkaTopic::topicName).toList(),
+        containsInAnyOrder("item.delta", "instance.delta"));
+      assertThat(new DeltaKafkaTopic(INSTANCE).fullTopicName(TENANT_ID),
+        is(INSTANCE.fullTopicName(TENANT_ID) + ".delta"));
+    } finally {
+      System.clearProperty("domain-events.delta.topics");
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldPublishStreamWithConfiguredBinaryEncoding() throws Exception {
+    System.setProperty("domain-events.encoding", "smile");
+    try {
+      var smilePublisher = new CommonDomainEventPublisher<Instance>(
+        new CaseInsensitiveMap<>(Map.of()), INSTANCE.fullTopicName(TENANT_ID),
+        producerManager, failureHandler);
+      KafkaProducer<String, byte[]> binaryProducer = mock(KafkaProducer.class);
+
+      when(producerManager.<String, byte[]>createShared(startsWith(BINARY_PRODUCER_PREFIX)))
+        .thenReturn(binaryProducer);
+      when(binaryProducer.send(any())).thenReturn(succeededFuture());
+
+      var recordsPublished = get(smilePublisher.publishStream(new TestRowStream(2),
+        row -> builderWithValue(new JsonObject().put("id", "1")), notUsed -> succeededFuture()));
+
+      assertThat(recordsPublished, is(2L));
+      var captor = ArgumentCaptor.forClass(KafkaProducerRecord.class);
+      verify(binaryProducer, times(2)).send(captor.capture());
+      KafkaProducerRecord<String, byte[]> producerRecord = captor.getValue();
+      Map<String, Object> decoded = new SmileMapper().readValue(producerRecord.value(), Map.class);
+      assertThat(decoded.get("id"), is("1"));
+      assertThat(producerRecord.headers().stream()
+        .anyMatch(header -> header.key().equals(DomainEventEncoding.CONTENT_TYPE_HEADER)
+          && header.value().toString().equals(DomainEventEncoding.SMILE.getContentType())),
+        is(true));
+    } finally {
+      System.clearProperty("domain-events.encoding");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static KafkaProducerRecord<String, String> recordOfTopic(ArgumentCaptor<KafkaProducerRecord> captor,
+                                                                  String topic) {
+    return captor.getAllValues().stream()
+      .filter(producerRecord -> producerRecord.topic().equals(topic))
+      .findFirst()
+      .orElseThrow();
+  }
+
   @SuppressWarnings("unchecked")
   private Void drainHandler(InvocationOnMock invocationOnMock) {
     invocationOnMock.getArgument(0, Handler.class)
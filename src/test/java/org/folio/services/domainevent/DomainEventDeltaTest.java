@@ -0,0 +1,55 @@
+package org.folio.services.domainevent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.Test;
+
+public class DomainEventDeltaTest {
+
+  @Test
+  public void diffOfEqualObjectsIsEmpty() {
+    var json = new JsonObject().put("id", "1").put("status", new JsonObject().put("name", "Available"));
+
+    assertThat(DomainEventDelta.diff(json, json.copy()), is(new JsonArray()));
+  }
+
+  @Test
+  public void diffHasAddRemoveAndReplaceOperationsWithNestedPaths() {
+    var source = new JsonObject()
+      .put("id", "1")
+      .put("barcode", "123")
+      .put("status", new JsonObject().put("name", "Available").put("date", "2024-01-01"))
+      .put("notes", new JsonArray().add("a"));
+    var target = new JsonObject()
+      .put("id", "1")
+      .put("status", new JsonObject().put("name", "Checked out").put("date", "2024-01-01"))
+      .put("notes", new JsonArray().add("a").add("b"))
+      .put("a/b~c", 1);
+
+    assertThat(DomainEventDelta.diff(source, target), is(new JsonArray()
+      .add(new JsonObject().put("op", "remove").put("path", "/barcode"))
+      .add(new JsonObject().put("op", "replace").put("path", "/status/name").put("value", "Checked out"))
+      .add(new JsonObject().put("op", "replace").put("path", "/notes").put("value", new JsonArray().add("a").add("b")))
+      .add(new JsonObject().put("op", "add").put("path", "/a~1b~0c").put("value", 1))));
+  }
+
+  @Test
+  public void updateEventHasIdVersionAndPatch() {
+    var source = new JsonObject().put("id", "1").put("_version", 1).put("barcode", "123");
+    var target = new JsonObject().put("id", "1").put("_version", 2).put("barcode", "456");
+
+    var event = DomainEventDelta.updateEvent(source, target, "diku", false);
+
+    assertThat(event.getString("type"), is("UPDATE"));
+    assertThat(event.getString("tenant"), is("diku"));
+    assertThat(event.getString("id"), is("1"));
+    assertThat(event.getInteger("_version"), is(2));
+    assertThat(event.getJsonArray("patch").size(), is(2));
+    assertThat(event.getJsonObject("new"), is(nullValue()));
+    assertThat(DomainEventDelta.updateEvent(source, target, "diku", true).getJsonObject("new"), is(target));
+  }
+}
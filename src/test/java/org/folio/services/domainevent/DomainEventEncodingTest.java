@@ -0,0 +1,130 @@
+package org.folio.services.domainevent;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.folio.kafka.KafkaConfig;
+import org.junit.Test;
+
+public class DomainEventEncodingTest {
+  private static final String EVENT = instanceUpdateEvent();
+
+  @Test
+  public void jsonEncodingKeepsTheJson() {
+    assertThat(new String(DomainEventEncoding.JSON.encode(EVENT), StandardCharsets.UTF_8), is(EVENT));
+  }
+
+  @Test
+  public void smileEncodingDecodesToTheSameJson() throws Exception {
+    byte[] smile = DomainEventEncoding.SMILE.encode(EVENT);
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> decoded = new SmileMapper().readValue(smile, Map.class);
+
+    assertThat(new JsonObject(decoded), is(new JsonObject(EVENT)));
+    assertThat(smile.length, lessThan(EVENT.getBytes(StandardCharsets.UTF_8).length));
+  }
+
+  @Test
+  public void smileEventIsDeserializedByContentType() {
+    var headers = new RecordHeaders()
+      .add(DomainEventEncoding.CONTENT_TYPE_HEADER, DomainEventEncoding.SMILE.getContentType().getBytes());
+
+    String json = new DomainEventDeserializer().deserialize("topic", headers, DomainEventEncoding.SMILE.encode(EVENT));
+
+    assertThat(new JsonObject(json), is(new JsonObject(EVENT)));
+  }
+
+  @Test
+  public void eventWithoutContentTypeIsDeserializedAsJson() {
+    JsonObject event = new DomainEventJsonObjectDeserializer()
+      .deserialize("topic", new RecordHeaders(), EVENT.getBytes(StandardCharsets.UTF_8));
+
+    assertThat(event, is(new JsonObject(EVENT)));
+  }
+
+  @Test
+  public void undecodableEventIsDeserializedAsText() {
+    var headers = new RecordHeaders()
+      .add(DomainEventEncoding.CONTENT_TYPE_HEADER, DomainEventEncoding.SMILE.getContentType().getBytes());
+
+    String value = new DomainEventDeserializer().deserialize("topic", headers, "{not smile".getBytes());
+
+    assertThat(value, is("{not smile"));
+  }
+
+  @Test
+  public void encodingIsJsonByDefault() {
+    assertThat(DomainEventEncoding.configured(), is(DomainEventEncoding.JSON));
+  }
+
+  @Test
+  public void unknownEncodingFallsBackToJson() {
+    System.setProperty("domain-events.encoding", "smiley");
+    try {
+      assertThat(DomainEventEncoding.configured(), is(DomainEventEncoding.JSON));
+    } finally {
+      System.clearProperty("domain-events.encoding");
+    }
+  }
+
+  @Test
+  public void encodingIsCaseInsensitive() {
+    System.setProperty("domain-events.encoding", " Smile ");
+    try {
+      assertThat(DomainEventEncoding.configured(), is(DomainEventEncoding.SMILE));
+    } finally {
+      System.clearProperty("domain-events.encoding");
+    }
+  }
+
+  @Test
+  public void producersHaveConfiguredCompressionAndBinaryProducersSendBytes() {
+    var producerManager = new DomainEventProducerManager(null, KafkaConfig.builder()
+      .kafkaHost("localhost").kafkaPort("9092").build());
+
+    System.setProperty("domain-events.compression.type", "zstd");
+    try {
+      var props = producerManager.producerProps("inventory.instance");
+      var binaryProps = producerManager.producerProps(DomainEventProducerManager.BINARY_PRODUCER_PREFIX + "topic");
+
+      assertThat(props.get(ProducerConfig.COMPRESSION_TYPE_CONFIG), is("zstd"));
+      assertThat(binaryProps.get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG),
+        is(ByteArraySerializer.class.getName()));
+    } finally {
+      System.clearProperty("domain-events.compression.type");
+    }
+  }
+
+  private static String instanceUpdateEvent() {
+    var instance = new JsonObject()
+      .put("id", "a8f2d8a1-4fb3-4ab2-9b6b-6e3b4f3b0f1e")
+      .put("_version", 2)
+      .put("hrid", "in00000000001")
+      .put("source", "MARC")
+      .put("title", "Title of the instance : a subtitle / by an author")
+      .put("instanceTypeId", "6312d172-f0cf-40f6-b27d-9fa8feaf332f")
+      .put("subjects", JsonArray.of(new JsonObject().put("value", "Subject heading -- History"),
+        new JsonObject().put("value", "Another subject heading -- History")))
+      .put("contributors", JsonArray.of(new JsonObject().put("name", "Contributor, Name")
+        .put("contributorNameTypeId", "2b94c631-fca9-4892-a730-03ee529ffe2a").put("primary", true)))
+      .put("notes", JsonArray.of(new JsonObject().put("note", "Note of the instance")
+        .put("staffOnly", false).put("instanceNoteTypeId", "6a2533a7-4de2-4e64-8466-074c2fa9308c")));
+
+    return new JsonObject()
+      .put("old", instance.copy().put("_version", 1).put("title", "Old title"))
+      .put("new", instance)
+      .put("type", "UPDATE")
+      .put("tenant", "diku")
+      .encode();
+  }
+}
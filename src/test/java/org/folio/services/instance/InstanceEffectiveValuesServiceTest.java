@@ -151,6 +151,16 @@ public class InstanceEffectiveValuesServiceTest {
     assertThat(instanceToCreateWithNotDefinedPeriod.getPublicationPeriod().getStart(), is(1994));
   }
 
+  @Test
+  public void shouldPopulatePeriodForBatchWithoutOldState() {
+    var existingInstance = createInstance("2021");
+
+    service.populateEffectiveValues(List.of(existingInstance),
+      BatchOperationContext.withoutOldState(List.of(), List.of(existingInstance)));
+
+    assertThat(existingInstance.getPublicationPeriod().getStart(), is(2021));
+  }
+
   private Instance createInstance(String... datesOfPublications) {
     var publications = Stream.of(datesOfPublications)
       .map(dateOfPublication -> new Publication().withDateOfPublication(dateOfPublication))
@@ -0,0 +1,58 @@
+-- Compares the RMB expression indexes on item barcode and status name with the b-tree indexes
+-- on the stored generated columns normalized_barcode and normalized_status_name.
+--
+-- Run against a tenant schema that has been upgraded to the current module version:
+--   psql -v schema=diku_mod_inventory_storage -v items=20000000 -f item-generated-columns.sql
+--
+-- The script inserts the items in a transaction that is rolled back at the end.
+
+\if :{?items}
+\else
+  \set items 20000000
+\endif
+
+SET search_path TO :schema, public;
+\timing on
+
+BEGIN;
+
+INSERT INTO holdings_record (id, jsonb)
+SELECT '11111111-1111-4111-8111-111111111111',
+       jsonb_build_object('id', '11111111-1111-4111-8111-111111111111',
+                          'instanceId', (SELECT id FROM instance LIMIT 1),
+                          'permanentLocationId', (SELECT id FROM location LIMIT 1));
+
+INSERT INTO item (id, jsonb)
+SELECT id, jsonb_build_object(
+         'id', id,
+         'holdingsRecordId', '11111111-1111-4111-8111-111111111111',
+         'barcode', 'BC-' || n,
+         'status', jsonb_build_object('name', CASE WHEN n % 10 = 0 THEN 'Checked out' ELSE 'Available' END),
+         'materialTypeId', (SELECT id FROM material_type LIMIT 1),
+         'permanentLoanTypeId', (SELECT id FROM loan_type LIMIT 1))
+FROM (SELECT gen_random_uuid() AS id, n FROM generate_series(1, :items) n) items;
+
+ANALYZE item;
+
+SELECT indexrelid::regclass AS index, pg_size_pretty(pg_relation_size(indexrelid)) AS size
+FROM pg_index
+WHERE indrelid = 'item'::regclass
+  AND indexrelid::regclass::text IN ('item_barcode_idx_unique', 'item_status_name_idx',
+                                     'item_normalized_barcode_idx', 'item_normalized_status_name_idx')
+ORDER BY 1;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT jsonb FROM item WHERE lower(jsonb->>'barcode') = lower('BC-4711');
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT jsonb FROM item WHERE normalized_barcode = lower('BC-4711');
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT jsonb FROM item
+WHERE left(lower(f_unaccent(jsonb->'status'->>'name')), 600) = left(lower(f_unaccent('Checked out')), 600)
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT jsonb FROM item WHERE normalized_status_name = lower(f_unaccent('Checked out')) LIMIT 10;
+
+ROLLBACK;